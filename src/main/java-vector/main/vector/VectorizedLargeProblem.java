@@ -0,0 +1,28 @@
+package main.vector;
+
+import main.LargeProblem;
+import main.Problem;
+
+/*
+ * LargeProblem whose first solve() runs the natural number check and the search with the Vector API. The checks of
+ * the shape and the state kept after the first solve() are the ones of LargeProblem.
+ *
+ * The lookups through containsMirrorOf() and the hash index stay the same as in LargeProblem.
+ *
+ * */
+
+public class VectorizedLargeProblem extends LargeProblem {
+
+    public VectorizedLargeProblem(int numberOfElements, int[] input, String problemDescription) {
+        super(numberOfElements, input, problemDescription);
+    }
+
+    public VectorizedLargeProblem(Problem problem) {
+        super(problem.getNumberOfElements(), problem.getInput(), problem.getProblemDescription());
+    }
+
+    @Override
+    protected boolean validateAndSearch() {
+        return VectorizedSearch.validateAndSearch(input, numberOfElements);
+    }
+}
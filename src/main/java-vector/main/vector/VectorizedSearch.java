@@ -0,0 +1,82 @@
+package main.vector;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import main.FastMirror;
+import main.utilities.ErrorType;
+
+/**
+ * Vector API versions of the loops of Problem.solve(), which compare a whole register of ints at a time (8 lanes with
+ * AVX2, 16 with AVX-512). The elements which do not fill a whole register at the end are handled one by one.
+ *
+ * Only compiled with the vector profile: mvn -Pvector package
+ */
+public final class VectorizedSearch {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private VectorizedSearch() {}
+
+    /**
+     * Checks if the value appears among input[0..length-1].
+     */
+    public static boolean contains(int[] input, int length, int value) {
+        IntVector values = IntVector.broadcast(SPECIES, value);
+        int vectorLength = SPECIES.loopBound(length);
+
+        int i = 0;
+        for(; i < vectorLength; i += SPECIES.length()) {
+            if(IntVector.fromArray(SPECIES, input, i).compare(VectorOperators.EQ, values).anyTrue()) {
+                return true;
+            }
+        }
+
+        for(; i < length; i++) {
+            if(input[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Same as Problem.validateAndSearchFused(): checks that the elements are natural numbers and searches the mirror of
+     * the last one in the same loop. The sign bits and the matches are collected lane by lane and only reduced at the
+     * end, so the loop has no branch.
+     */
+    public static boolean validateAndSearch(int[] input, int numberOfElements) {
+        int lastElement = input[numberOfElements - 1];
+        int lastElementMirror = FastMirror.getMirror(lastElement);
+        int searchLength = numberOfElements - 1;
+
+        IntVector mirrors = IntVector.broadcast(SPECIES, lastElementMirror);
+        IntVector signs = IntVector.zero(SPECIES);
+        VectorMask<Integer> found = SPECIES.maskAll(false);
+        int vectorLength = SPECIES.loopBound(searchLength);
+
+        int i = 0;
+        for(; i < vectorLength; i += SPECIES.length()) {
+            IntVector elements = IntVector.fromArray(SPECIES, input, i);
+            signs = signs.or(elements);
+            found = found.or(elements.compare(VectorOperators.EQ, mirrors));
+        }
+
+        int scalarSigns = lastElement | signs.reduceLanes(VectorOperators.OR);
+        boolean scalarFound = found.anyTrue();
+        for(; i < searchLength; i++) {
+            scalarSigns |= input[i];
+            scalarFound |= input[i] == lastElementMirror;
+        }
+
+        if(scalarSigns < 0) {
+            for(i = 0; i < numberOfElements; i ++) {
+                if(input[i] < 0) {
+                    throw new RuntimeException(ErrorType.NEGATIVE_ELEMENT.getMessage(i));
+                }
+            }
+        }
+        return scalarFound;
+    }
+}
@@ -0,0 +1,179 @@
+package main;
+
+/*
+ * Batch version of the Problem:
+ *
+ * Many arrays are packed one after another into a single flat array of elements. Row r is made of the elements
+ * between offsets[r] (inclusive) and offsets[r + 1] (exclusive), and numbersOfElements[r] is the N given for it.
+ *
+ * For example:
+ * numbersOfElements: [7, 4]
+ * elements: [10, 321, 5, 23, 12, 17, 123, 3, 5, 12, 89]
+ * offsets: [0, 7, 11]
+ * Output:
+ * [true, false]
+ *
+ * Every row is checked the same way as Problem.solve() does it, but an invalid row does not stop the batch, its error
+ * message is kept inside the BatchSolution instead.
+ *
+ * */
+
+import main.utilities.ErrorType;
+import main.utilities.Result;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class BatchProblem {
+
+    private static final int PARALLEL_THRESHOLD = 1024;
+
+    protected int[] numbersOfElements;
+    protected int[] elements;
+    protected int[] offsets;
+    protected String problemDescription;
+
+    public BatchProblem(int[] numbersOfElements, int[] elements, int[] offsets, String problemDescription) {
+        this.numbersOfElements = numbersOfElements;
+        this.elements = elements;
+        this.offsets = offsets;
+        this.problemDescription = problemDescription;
+    }
+
+    public BatchSolution solve() {
+        validateLayout();
+
+        BatchSolution solution = new BatchSolution(numbersOfElements.length);
+        solveRows(solution, 0, numbersOfElements.length);
+        return solution;
+    }
+
+    public BatchSolution solveParallel() {
+        return solveParallel(ForkJoinPool.commonPool());
+    }
+
+    public BatchSolution solveParallel(ForkJoinPool pool) {
+        validateLayout();
+
+        BatchSolution solution = new BatchSolution(numbersOfElements.length);
+        pool.invoke(new SolveRowsAction(solution, 0, numbersOfElements.length));
+        return solution;
+    }
+
+    /**
+     * The layout errors concern the whole batch, therefore they are thrown, same as Problem.solve() does.
+     */
+    private void validateLayout() {
+
+        if(numbersOfElements == null) {
+            throw new RuntimeException("Numbers of elements array is null.");
+        }
+
+        if(elements == null) {
+            throw new RuntimeException("Elements array is null.");
+        }
+
+        if(offsets == null) {
+            throw new RuntimeException("Offsets array is null.");
+        }
+
+        if(offsets.length != numbersOfElements.length + 1) {
+            throw new RuntimeException("Offsets array length is different than the number of rows + 1.");
+        }
+
+        if(offsets[0] < 0 || offsets[offsets.length - 1] > elements.length) {
+            throw new RuntimeException("Offsets are outside the elements array.");
+        }
+
+        for(int row = 0; row < numbersOfElements.length; row ++) {
+            if(offsets[row] > offsets[row + 1]) {
+                throw new RuntimeException("The offset of row " + (row + 1) + " is less than the offset of row " + row + ".");
+            }
+        }
+    }
+
+    private void solveRows(BatchSolution solution, int fromRow, int toRow) {
+        for(int row = fromRow; row < toRow; row ++) {
+            solveRow(solution, row);
+        }
+    }
+
+    private void solveRow(BatchSolution solution, int row) {
+        int numberOfElements = numbersOfElements[row];
+        int start = offsets[row];
+        int end = offsets[row + 1];
+
+        ErrorType error = Problem.checkHeader(numberOfElements, end - start, Problem.MAXIMUM_NUMBER_OF_ELEMENTS);
+        if(error != null) {
+            solution.setError(row, error.getMessage(Result.NO_POSITION));
+            return;
+        }
+
+        for(int i = start; i < end; i ++) {
+            if(elements[i] < 0) {
+                solution.setError(row, ErrorType.NEGATIVE_ELEMENT.getMessage(i - start));
+                return;
+            }
+        }
+
+        int lastElementMirror = FastMirror.getMirror(elements[end - 1]);
+        for(int i = start; i < end - 1; i++) {
+            if(elements[i] == lastElementMirror) {
+                solution.setValue(row, true);
+                return;
+            }
+        }
+    }
+
+    private class SolveRowsAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final BatchSolution solution;
+        private final int fromRow;
+        private final int toRow;
+
+        SolveRowsAction(BatchSolution solution, int fromRow, int toRow) {
+            this.solution = solution;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+        }
+
+        @Override
+        protected void compute() {
+            if(toRow - fromRow <= PARALLEL_THRESHOLD) {
+                solveRows(solution, fromRow, toRow);
+                return;
+            }
+
+            int middleRow = (fromRow + toRow) >>> 1;
+            invokeAll(new SolveRowsAction(solution, fromRow, middleRow),
+                    new SolveRowsAction(solution, middleRow, toRow));
+        }
+    }
+
+    @Override
+    public String toString() {
+        int numberOfRows = numbersOfElements != null ? numbersOfElements.length : 0;
+        int numberOfElements = elements != null ? elements.length : 0;
+        return problemDescription + ": " +
+                "numberOfRows=" + numberOfRows +
+                ", numberOfPackedElements=" + numberOfElements;
+    }
+
+    public int[] getNumbersOfElements() {
+        return numbersOfElements;
+    }
+
+    public int[] getElements() {
+        return elements;
+    }
+
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    public String getProblemDescription() {
+        return problemDescription;
+    }
+}
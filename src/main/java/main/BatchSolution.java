@@ -0,0 +1,80 @@
+package main;
+
+import java.util.BitSet;
+
+/**
+ * Answers of a BatchProblem, one per row.
+ *
+ * A row either has a boolean value or an error message, which is the same message Problem.solve() would have thrown
+ * for that row.
+ */
+public class BatchSolution {
+
+    private final boolean[] values;
+    private final String[] errorMessages;
+
+    BatchSolution(int numberOfRows) {
+        this.values = new boolean[numberOfRows];
+        this.errorMessages = new String[numberOfRows];
+    }
+
+    void setValue(int row, boolean value) {
+        values[row] = value;
+    }
+
+    void setError(int row, String errorMessage) {
+        errorMessages[row] = errorMessage;
+    }
+
+    public int getNumberOfRows() {
+        return values.length;
+    }
+
+    public boolean isError(int row) {
+        return errorMessages[row] != null;
+    }
+
+    /**
+     * Behaves like Problem.solve() for the given row: returns the answer or throws the row's error.
+     */
+    public boolean getValue(int row) {
+        if(errorMessages[row] != null) {
+            throw new RuntimeException(errorMessages[row]);
+        }
+        return values[row];
+    }
+
+    public String getErrorMessage(int row) {
+        return errorMessages[row];
+    }
+
+    public int getErrorCount() {
+        int errorCount = 0;
+        for(String errorMessage : errorMessages) {
+            if(errorMessage != null) {
+                errorCount ++;
+            }
+        }
+        return errorCount;
+    }
+
+    /**
+     * Rows with the answer true have their bit set. Rows with errors are never set.
+     */
+    public BitSet toBitSet() {
+        BitSet bitSet = new BitSet(values.length);
+        for(int row = 0; row < values.length; row ++) {
+            if(values[row]) {
+                bitSet.set(row);
+            }
+        }
+        return bitSet;
+    }
+
+    /**
+     * A copy of the answers of all the rows, with false for the rows with errors
+     */
+    public boolean[] getValues() {
+        return values.clone();
+    }
+}
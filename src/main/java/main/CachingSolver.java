@@ -0,0 +1,161 @@
+package main;
+
+import main.utilities.Result;
+import main.utilities.ResultType;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers the outcome of the problems already solved, errors included, so an array that comes back again is not
+ * validated and scanned again.
+ *
+ * The key is N together with a copy of the input, hashed with a fast multiplicative hash and confirmed with a full
+ * array comparison. At most maximumSize outcomes are kept, the least recently used one is evicted first.
+ */
+public class CachingSolver {
+
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private final int maximumSize;
+    private final Map<Key, Result> outcomes;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public CachingSolver(int maximumSize) {
+
+        if(maximumSize < 1) {
+            throw new RuntimeException("The maximum size of the cache is less than 1.");
+        }
+
+        this.maximumSize = maximumSize;
+        this.outcomes = new LinkedHashMap<Key, Result>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Result> eldest) {
+                if(size() > CachingSolver.this.maximumSize) {
+                    evictions ++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Same as problem.solve(), errors are thrown with the same message.
+     */
+    public boolean solve(Problem problem) {
+        Result result = solveToResult(problem);
+        if(result.getResultType() == ResultType.EXCEPTION) {
+            throw new RuntimeException(result.getErrorMessage());
+        }
+        return result.getValue();
+    }
+
+    /**
+     * Same as problem.solveToResult(), the outcome is taken from the cache when the same N and input were solved before.
+     */
+    public synchronized Result solveToResult(Problem problem) {
+        Key lookupKey = new Key(problem.getNumberOfElements(), problem.getInput());
+        Result result = outcomes.get(lookupKey);
+        if(result != null) {
+            hits ++;
+            return result;
+        }
+
+        misses ++;
+        result = problem.solveToResult();
+        outcomes.put(lookupKey.copy(), result);
+        return result;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized int getSize() {
+        return outcomes.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public synchronized void clear() {
+        outcomes.clear();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "CachingSolver: " +
+                "size=" + outcomes.size() +
+                ", maximumSize=" + maximumSize +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", evictions=" + evictions;
+    }
+
+    private static final class Key {
+
+        private final int numberOfElements;
+        private final int[] input;
+        private final int hash;
+
+        Key(int numberOfElements, int[] input) {
+            this(numberOfElements, input, hash(numberOfElements, input));
+        }
+
+        private Key(int numberOfElements, int[] input, int hash) {
+            this.numberOfElements = numberOfElements;
+            this.input = input;
+            this.hash = hash;
+        }
+
+        /**
+         * The lookup key only wraps the array of the caller, the stored key needs its own copy, since the caller can
+         * change the array afterwards.
+         */
+        Key copy() {
+            return new Key(numberOfElements, input != null ? input.clone() : null, hash);
+        }
+
+        private static int hash(int numberOfElements, int[] input) {
+            int hash = numberOfElements * GOLDEN_RATIO;
+            if(input == null) {
+                return hash ^ 0x5bd1e995;
+            }
+            for(int element : input) {
+                hash = Integer.rotateLeft(hash ^ element, 5) * GOLDEN_RATIO;
+            }
+            return hash ^ input.length;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if(!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return hash == key.hash && numberOfElements == key.numberOfElements && Arrays.equals(input, key.input);
+        }
+    }
+}
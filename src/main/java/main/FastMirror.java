@@ -0,0 +1,63 @@
+package main;
+
+/**
+ * Same digit reversal as Problem.getMirror(), without a division for every digit.
+ *
+ * The number is cut into chunks of 4 digits, with constant divisions (which the JIT turns into multiply-shift), and
+ * every chunk is reversed with a table lookup. The chunks are put back together with multiplications and additions
+ * only, which overflow the same way the loop in Problem.getMirror() does, therefore even the mirrors that do not fit
+ * into an int (like the one of 1999999999) are the same.
+ */
+public final class FastMirror {
+
+    private static final int CHUNK = 10000;
+
+    /**
+     * Mirror of every number below 10000, without leading zeros: 1200 -> 21
+     */
+    private static final char[] MIRRORS = new char[CHUNK];
+
+    /**
+     * Mirror of every 4 digit chunk, zero padded: 0012 -> 2100
+     */
+    private static final char[] PADDED_MIRRORS = new char[CHUNK];
+
+    static {
+        for(int chunk = 0; chunk < CHUNK; chunk ++) {
+            MIRRORS[chunk] = (char) Problem.getMirror(chunk);
+            PADDED_MIRRORS[chunk] = (char) (chunk % 10 * 1000 + chunk / 10 % 10 * 100 + chunk / 100 % 10 * 10 + chunk / 1000);
+        }
+    }
+
+    private FastMirror() {}
+
+    public static int getMirror(int x) {
+        if(x < CHUNK) {
+            if(x < 0) {
+                return Problem.getMirror(x);
+            }
+            return MIRRORS[x];
+        }
+
+        int high = x / CHUNK;
+        int low = x - high * CHUNK;
+        if(high < CHUNK) {
+            return PADDED_MIRRORS[low] * powerOfTenOfLength(high) + MIRRORS[high];
+        }
+
+        int highest = high / CHUNK;
+        int middle = high - highest * CHUNK;
+        int powerOfTen = powerOfTenOfLength(highest);
+        return (PADDED_MIRRORS[low] * CHUNK + PADDED_MIRRORS[middle]) * powerOfTen + MIRRORS[highest];
+    }
+
+    /**
+     * 10 raised to the number of digits of a number between 1 and 9999
+     */
+    private static int powerOfTenOfLength(int chunk) {
+        if(chunk < 100) {
+            return chunk < 10 ? 10 : 100;
+        }
+        return chunk < 1000 ? 1000 : 10000;
+    }
+}
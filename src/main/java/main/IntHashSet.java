@@ -0,0 +1,102 @@
+package main;
+
+/**
+ * Set of primitive ints with open addressing and linear probing, so the values are never boxed into Integer.
+ *
+ * The value 0 marks an empty slot inside the table, therefore whether 0 itself was added is kept aside.
+ */
+final class IntHashSet {
+
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private int[] table;
+    private int mask;
+    private int shift;
+    private int size;
+    private boolean containsZero;
+
+    IntHashSet() {
+        this(MINIMUM_CAPACITY / 2);
+    }
+
+    /**
+     * The table is sized so that the expected number of values keeps it at most half full.
+     */
+    IntHashSet(int expectedSize) {
+        int capacity = MINIMUM_CAPACITY;
+        while(capacity < 2L * expectedSize && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    boolean add(int value) {
+        if(value == 0) {
+            if(containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size ++;
+            return true;
+        }
+
+        int slot = slot(value);
+        while(table[slot] != 0) {
+            if(table[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = value;
+        size ++;
+
+        if(2 * size > table.length) {
+            grow();
+        }
+        return true;
+    }
+
+    boolean contains(int value) {
+        if(value == 0) {
+            return containsZero;
+        }
+
+        int slot = slot(value);
+        while(table[slot] != 0) {
+            if(table[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int slot(int value) {
+        return (value * GOLDEN_RATIO) >>> shift;
+    }
+
+    private void allocate(int capacity) {
+        table = new int[capacity];
+        mask = capacity - 1;
+        shift = Integer.numberOfLeadingZeros(capacity) + 1;
+    }
+
+    private void grow() {
+        int[] oldTable = table;
+        allocate(oldTable.length << 1);
+        for(int value : oldTable) {
+            if(value != 0) {
+                int slot = slot(value);
+                while(table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = value;
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package main;
+
+/**
+ * Map from a primitive int value to the first position it was seen on, with open addressing and linear probing like
+ * IntHashSet.
+ *
+ * The value 0 marks an empty slot inside the table, therefore the position of 0 itself is kept aside.
+ */
+final class IntIndexMap {
+
+    static final int ABSENT = -1;
+
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private int[] keys;
+    private int[] positions;
+    private int mask;
+    private int shift;
+    private int size;
+    private int positionOfZero = ABSENT;
+
+    /**
+     * The table is sized so that the expected number of values keeps it at most half full.
+     */
+    IntIndexMap(int expectedSize) {
+        int capacity = MINIMUM_CAPACITY;
+        while(capacity < 2L * expectedSize && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Remembers the position only if the value was not seen before, so the first position is kept.
+     */
+    void putIfAbsent(int value, int position) {
+        if(value == 0) {
+            if(positionOfZero == ABSENT) {
+                positionOfZero = position;
+            }
+            return;
+        }
+
+        int slot = slot(value);
+        while(keys[slot] != 0) {
+            if(keys[slot] == value) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = value;
+        positions[slot] = position;
+        size ++;
+
+        if(2 * size > keys.length) {
+            grow();
+        }
+    }
+
+    int get(int value) {
+        if(value == 0) {
+            return positionOfZero;
+        }
+
+        int slot = slot(value);
+        while(keys[slot] != 0) {
+            if(keys[slot] == value) {
+                return positions[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return ABSENT;
+    }
+
+    private int slot(int value) {
+        return (value * GOLDEN_RATIO) >>> shift;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        positions = new int[capacity];
+        mask = capacity - 1;
+        shift = Integer.numberOfLeadingZeros(capacity) + 1;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldPositions = positions;
+        allocate(oldKeys.length << 1);
+        for(int i = 0; i < oldKeys.length; i ++) {
+            if(oldKeys[i] != 0) {
+                int slot = slot(oldKeys[i]);
+                while(keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                positions[slot] = oldPositions[i];
+            }
+        }
+    }
+}
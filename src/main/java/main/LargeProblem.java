@@ -0,0 +1,134 @@
+package main;
+
+/*
+ * Large version of the Problem:
+ *
+ * Same question as Problem.solve(), but N is only required to be at least 2, so arrays with millions of elements are
+ * accepted. The bounded Problem keeps the [2, 100] contract for the callers that rely on it.
+ *
+ * A single solve() has to read every element anyway to check that it is a natural number, so the mirror of the last
+ * element is searched inside the same loop, see Problem.solveFused(). When the same array is asked about more values,
+ * through containsMirrorOf(), a hash index over input[0..n-2] is built once and every following lookup is O(1).
+ *
+ * */
+
+import main.utilities.ErrorType;
+import main.utilities.Result;
+
+public class LargeProblem extends Problem {
+
+    /**
+     * Below this size a scan over the array is cheaper than hashing the value.
+     */
+    private static final int MINIMUM_INDEXED_SIZE = 64;
+
+    /**
+     * Number of linear lookups after which building the index pays off.
+     */
+    private static final int LOOKUPS_BEFORE_INDEX = 4;
+
+    private boolean validated;
+    private int linearLookups;
+    private IntHashSet index;
+
+    public LargeProblem(int numberOfElements, int[] input, String problemDescription) {
+        super(numberOfElements, input, problemDescription);
+    }
+
+    public LargeProblem(Problem problem) {
+        super(problem.getNumberOfElements(), problem.getInput(), problem.getProblemDescription());
+    }
+
+    @Override
+    public boolean solve() {
+
+        if(validated) {
+            return containsMirrorOf(input[numberOfElements - 1]);
+        }
+
+        validateShape();
+        boolean answer = validateAndSearch();
+        validated = true;
+        return answer;
+    }
+
+    /**
+     * The loop of the first solve(), run after the shape of the input was checked: throws for the first negative
+     * element and otherwise tells if the mirror of the last element is among the others. A subclass may replace the
+     * loop, while the validated state and the index stay with LargeProblem.
+     */
+    protected boolean validateAndSearch() {
+        return validateAndSearchFused(input, numberOfElements);
+    }
+
+    /**
+     * Checks if the mirror of the given value appears among the first N - 1 elements. The input is validated on the
+     * first call and is expected not to change afterwards.
+     */
+    public boolean containsMirrorOf(int value) {
+        validate();
+
+        int mirror = FastMirror.getMirror(value);
+        if(index != null) {
+            return index.contains(mirror);
+        }
+
+        if(numberOfElements >= MINIMUM_INDEXED_SIZE && ++ linearLookups > LOOKUPS_BEFORE_INDEX) {
+            buildIndex();
+            return index.contains(mirror);
+        }
+
+        for(int i = 0; i < numberOfElements - 1; i++) {
+            if(input[i] == mirror) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds the hash index right away, for callers which know they are going to ask many questions.
+     */
+    public void buildIndex() {
+        validate();
+
+        if(index == null) {
+            IntHashSet newIndex = new IntHashSet(numberOfElements - 1);
+            for(int i = 0; i < numberOfElements - 1; i++) {
+                newIndex.add(input[i]);
+            }
+            index = newIndex;
+        }
+    }
+
+    public boolean isIndexed() {
+        return index != null;
+    }
+
+    private void validate() {
+
+        if(validated) {
+            return;
+        }
+
+        validateShape();
+
+        int negativePosition = findNegativeElement(input, numberOfElements);
+        if(negativePosition != Result.NO_POSITION) {
+            throw new RuntimeException(ErrorType.NEGATIVE_ELEMENT.getMessage(negativePosition));
+        }
+
+        validated = true;
+    }
+
+    private void validateShape() {
+
+        ErrorType error = checkHeader(numberOfElements, input, Integer.MAX_VALUE);
+        if(error == ErrorType.NUMBER_OF_ELEMENTS_OUTSIDE_BOUNDS) {
+            throw new RuntimeException("The number of elements is less than 2.");
+        }
+        if(error != null) {
+            throw new RuntimeException(error.getMessage(Result.NO_POSITION));
+        }
+    }
+}
@@ -18,7 +18,11 @@ package main;
  *
  * */
 
+import main.utilities.ErrorType;
+import main.utilities.Result;
+
 import java.util.Arrays;
+import java.util.BitSet;
 
 public class Problem {
 
@@ -62,7 +66,7 @@ public class Problem {
         return false;
     }
 
-    private int getMirror(int x) {
+    static int getMirror(int x) {
         int y = 0;
 
         while(x != 0) {
@@ -73,6 +77,163 @@ public class Problem {
         return y;
     }
 
+    /**
+     * Answers the solve() question for every prefix of the input: bit k is set if the mirror of input[k] appears
+     * among input[0..k-1]. Bit 0 is never set, since the first element has nothing before it.
+     *
+     * The whole input is validated first, with the same errors as solve().
+     */
+    public BitSet solvePrefixes() {
+        int[] firstMatchPositions = findFirstMatchPositions();
+
+        BitSet answers = new BitSet(numberOfElements);
+        for(int k = 1; k < numberOfElements; k ++) {
+            if(firstMatchPositions[k] != IntIndexMap.ABSENT) {
+                answers.set(k);
+            }
+        }
+        return answers;
+    }
+
+    /**
+     * For every position k, the first position before k which holds the mirror of input[k], or -1 if there is none.
+     *
+     * The whole input is validated first, with the same errors as solve().
+     */
+    public int[] findFirstMatchPositions() {
+        validate();
+
+        int[] firstMatchPositions = new int[numberOfElements];
+        IntIndexMap firstPositions = new IntIndexMap(numberOfElements);
+        for(int k = 0; k < numberOfElements; k ++) {
+            firstMatchPositions[k] = firstPositions.get(FastMirror.getMirror(input[k]));
+            firstPositions.putIfAbsent(input[k], k);
+        }
+        return firstMatchPositions;
+    }
+
+    /**
+     * Same checks and answer as solve(), but the elements are read only once: the mirror of the last element is computed
+     * first and then the natural number check and the search share the same loop.
+     */
+    public boolean solveFused() {
+
+        ErrorType error = checkHeader(numberOfElements, input, MAXIMUM_NUMBER_OF_ELEMENTS);
+        if(error != null) {
+            throw new RuntimeException(error.getMessage(Result.NO_POSITION));
+        }
+
+        return validateAndSearchFused(input, numberOfElements);
+    }
+
+    /**
+     * The loop can not stop at the first match, since a negative element after it must still be reported, therefore it
+     * only collects the sign bits and the matches without branching. The input is scanned a second time only when it
+     * is invalid, to find the first negative position.
+     */
+    static boolean validateAndSearchFused(int[] input, int numberOfElements) {
+        int lastElement = input[numberOfElements - 1];
+        int lastElementMirror = FastMirror.getMirror(lastElement);
+
+        int signs = lastElement;
+        boolean found = false;
+        for(int i = 0; i < numberOfElements - 1; i++) {
+            int element = input[i];
+            signs |= element;
+            found |= element == lastElementMirror;
+        }
+
+        if(signs < 0) {
+            throw new RuntimeException(ErrorType.NEGATIVE_ELEMENT.getMessage(findNegativeElement(input, numberOfElements)));
+        }
+        return found;
+    }
+
+    /**
+     * Same checks and answer as solve(), but nothing is thrown: the outcome is a shared Result, either the value or the
+     * kind of error together with the failing position. No error message is built on the way.
+     */
+    public Result solveToResult() {
+
+        ErrorType error = checkHeader(numberOfElements, input, MAXIMUM_NUMBER_OF_ELEMENTS);
+        if(error != null) {
+            return Result.makeErrorResult(error, Result.NO_POSITION);
+        }
+
+        int negativePosition = findNegativeElement(input, numberOfElements);
+        if(negativePosition != Result.NO_POSITION) {
+            return Result.makeErrorResult(ErrorType.NEGATIVE_ELEMENT, negativePosition);
+        }
+
+        int lastElementMirror = FastMirror.getMirror(input[numberOfElements - 1]);
+        for(int i = 0; i < numberOfElements - 1; i++) {
+            if(input[i] == lastElementMirror) {
+                return Result.makeNormalResult(true);
+            }
+        }
+        return Result.makeNormalResult(false);
+    }
+
+    private void validate() {
+
+        ErrorType error = checkHeader(numberOfElements, input, MAXIMUM_NUMBER_OF_ELEMENTS);
+        if(error != null) {
+            throw new RuntimeException(error.getMessage(Result.NO_POSITION));
+        }
+
+        int negativePosition = findNegativeElement(input, numberOfElements);
+        if(negativePosition != Result.NO_POSITION) {
+            throw new RuntimeException(ErrorType.NEGATIVE_ELEMENT.getMessage(negativePosition));
+        }
+    }
+
+    /**
+     * Declared here and not on top of the class, since anything added above solve() moves the line numbers the MC/DC
+     * test data refers to.
+     */
+    public static final int MAXIMUM_NUMBER_OF_ELEMENTS = 100;
+
+    /**
+     * The checks solve() makes before it reads the elements, with N in [2, maximumNumberOfElements]: the first error
+     * found, or null if there is none. solve() keeps its own copy, since it is the code under test.
+     */
+    static ErrorType checkHeader(int numberOfElements, int[] input, int maximumNumberOfElements) {
+
+        if(input == null) {
+            ErrorType error = checkHeader(numberOfElements, numberOfElements, maximumNumberOfElements);
+            return error != null ? error : ErrorType.NULL_INPUT;
+        }
+        return checkHeader(numberOfElements, input.length, maximumNumberOfElements);
+    }
+
+    /**
+     * Same as checkHeader(int, int[], int) for elements which are not an array of their own, like a row of a batch or a
+     * record of a problem file, and so can not be null.
+     */
+    public static ErrorType checkHeader(int numberOfElements, int length, int maximumNumberOfElements) {
+
+        if(numberOfElements < 2 || numberOfElements > maximumNumberOfElements) {
+            return ErrorType.NUMBER_OF_ELEMENTS_OUTSIDE_BOUNDS;
+        }
+
+        if(length != numberOfElements) {
+            return ErrorType.LENGTH_DIFFERENT_THAN_N;
+        }
+        return null;
+    }
+
+    /**
+     * The first position among the first N elements which holds a negative number, or Result.NO_POSITION
+     */
+    static int findNegativeElement(int[] input, int numberOfElements) {
+        for(int i = 0; i < numberOfElements; i ++) {
+            if(input[i] < 0) {
+                return i;
+            }
+        }
+        return Result.NO_POSITION;
+    }
+
     @Override
     public String toString() {
         String arrayDisplay = input != null ? Arrays.toString(input) : "null";
@@ -0,0 +1,74 @@
+package main;
+
+/*
+ * Streaming version of the Problem:
+ *
+ * The elements arrive one at a time and there is no N known in advance. After every new element, the answer tells if
+ * the reverse of that newest element appears among the elements received before it, which is what Problem.solve()
+ * would return if the stream ended there.
+ *
+ * For example:
+ * Elements:
+ * 10, 321, 5, 23, 12, 17, 123
+ * Answers:
+ * false, false, false, false, false, false, true
+ *
+ * The elements seen so far are kept in a primitive hash set, so every step is amortized O(1) instead of a scan over
+ * all the previous elements.
+ *
+ * */
+
+public class StreamingProblem {
+
+    private final IntHashSet seenElements = new IntHashSet();
+    private int numberOfElements;
+    private boolean lastAnswer;
+    protected String problemDescription;
+
+    public StreamingProblem(String problemDescription) {
+        this.problemDescription = problemDescription;
+    }
+
+    /**
+     * Receives the next element and answers whether its mirror was received before. A negative element is rejected
+     * with the same message as Problem.solve() and is not counted as received.
+     */
+    public boolean add(int element) {
+
+        if(element < 0) {
+            throw new RuntimeException("The element on position " + numberOfElements + " is not a natural number.");
+        }
+
+        lastAnswer = seenElements.contains(FastMirror.getMirror(element));
+        seenElements.add(element);
+        numberOfElements ++;
+        return lastAnswer;
+    }
+
+    /**
+     * The answer for the elements received so far, same as Problem.solve() over them.
+     */
+    public boolean solve() {
+
+        if(numberOfElements < 2) {
+            throw new RuntimeException("The number of elements is less than 2.");
+        }
+
+        return lastAnswer;
+    }
+
+    @Override
+    public String toString() {
+        return problemDescription + ": " +
+                "numberOfElements=" + numberOfElements +
+                ", distinctElements=" + seenElements.size();
+    }
+
+    public int getNumberOfElements() {
+        return numberOfElements;
+    }
+
+    public String getProblemDescription() {
+        return problemDescription;
+    }
+}
@@ -0,0 +1,189 @@
+package main.io;
+
+import main.FastMirror;
+import main.Problem;
+import main.utilities.ErrorType;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Solves every record of a problem file straight from the mapped file, without copying the elements into int arrays,
+ * and writes the outcomes into a mapped result file. The checks are the ones of Problem.solve().
+ *
+ * A single mapping can not be larger than 2 GB, therefore both files are mapped in windows which move forward as the
+ * records are read. A record never crosses the end of a window: when it does not fit, the window is mapped again from
+ * the start of the record. Records with N outside [2, 100] are never read, only skipped.
+ */
+public class MappedProblemSolver {
+
+    public static final long DEFAULT_WINDOW_SIZE = 1L << 30;
+
+    /**
+     * Large enough for the biggest record that is read: N = 100
+     */
+    private static final long MINIMUM_WINDOW_SIZE = 4096;
+
+    private final long windowSize;
+
+    public MappedProblemSolver() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    public MappedProblemSolver(long windowSize) {
+
+        if(windowSize < MINIMUM_WINDOW_SIZE || windowSize > Integer.MAX_VALUE) {
+            throw new RuntimeException("The window size is outside the interval [" + MINIMUM_WINDOW_SIZE + ", " + Integer.MAX_VALUE + "].");
+        }
+
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Returns the number of records solved.
+     */
+    public long solve(Path problemFile, Path resultFile) throws IOException {
+        try(FileChannel problemChannel = FileChannel.open(problemFile, StandardOpenOption.READ);
+            FileChannel resultChannel = FileChannel.open(resultFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            Window problems = new Window(problemChannel, FileChannel.MapMode.READ_ONLY, problemChannel.size());
+            problems.map(0, ProblemFileFormat.HEADER_SIZE);
+            if(problems.getInt(0) != ProblemFileFormat.MAGIC_PROBLEMS || problems.getInt(4) != ProblemFileFormat.VERSION) {
+                throw new IOException("The file is not a problem file of version " + ProblemFileFormat.VERSION + ".");
+            }
+            long numberOfRecords = problems.getLong(8);
+
+            Window results = new Window(resultChannel, FileChannel.MapMode.READ_WRITE,
+                    ProblemFileFormat.HEADER_SIZE + Integer.BYTES * numberOfRecords);
+            results.map(0, ProblemFileFormat.HEADER_SIZE);
+            results.putInt(0, ProblemFileFormat.MAGIC_RESULTS);
+            results.putInt(4, ProblemFileFormat.VERSION);
+            results.putLong(8, numberOfRecords);
+
+            long position = ProblemFileFormat.HEADER_SIZE;
+            for(long record = 0; record < numberOfRecords; record ++) {
+                long resultPosition = ProblemFileFormat.HEADER_SIZE + Integer.BYTES * record;
+                results.map(resultPosition, Integer.BYTES);
+                position = solveRecord(problems, position, results, resultPosition, record);
+            }
+            results.force();
+            return numberOfRecords;
+        }
+    }
+
+    /**
+     * Returns the position of the next record.
+     */
+    private long solveRecord(Window problems, long position, Window results, long resultPosition, long record) throws IOException {
+        problems.map(position, Integer.BYTES);
+        int numberOfElements = problems.getInt(position);
+
+        if(numberOfElements < 0) {
+            throw new IOException("Record " + record + " has a negative number of elements.");
+        }
+
+        long elementsPosition = position + Integer.BYTES;
+        long nextPosition = elementsPosition + (long) Integer.BYTES * numberOfElements;
+        if(nextPosition > problems.fileSize) {
+            throw new IOException("Record " + record + " goes beyond the end of the file.");
+        }
+
+        ErrorType error = Problem.checkHeader(numberOfElements, numberOfElements, Problem.MAXIMUM_NUMBER_OF_ELEMENTS);
+        if(error != null) {
+            results.putInt(resultPosition, ProblemFileFormat.encode(error, 0));
+            return nextPosition;
+        }
+
+        problems.map(elementsPosition, nextPosition - elementsPosition);
+        MappedByteBuffer buffer = problems.buffer;
+        int first = problems.offset(elementsPosition);
+        int last = first + Integer.BYTES * (numberOfElements - 1);
+
+        for(int i = first; i <= last; i += Integer.BYTES) {
+            if(buffer.getInt(i) < 0) {
+                results.putInt(resultPosition, ProblemFileFormat.encode(ErrorType.NEGATIVE_ELEMENT, (i - first) / Integer.BYTES));
+                return nextPosition;
+            }
+        }
+
+        int lastElementMirror = FastMirror.getMirror(buffer.getInt(last));
+        int outcome = ProblemFileFormat.FALSE;
+        for(int i = first; i < last; i += Integer.BYTES) {
+            if(buffer.getInt(i) == lastElementMirror) {
+                outcome = ProblemFileFormat.TRUE;
+                break;
+            }
+        }
+        results.putInt(resultPosition, outcome);
+        return nextPosition;
+    }
+
+    /**
+     * The part of a file which is currently mapped.
+     */
+    private class Window {
+
+        private final FileChannel channel;
+        private final FileChannel.MapMode mode;
+        private final long fileSize;
+        private MappedByteBuffer buffer;
+        private long start;
+
+        Window(FileChannel channel, FileChannel.MapMode mode, long fileSize) {
+            this.channel = channel;
+            this.mode = mode;
+            this.fileSize = fileSize;
+        }
+
+        /**
+         * Makes sure the bytes [position, position + length) are mapped, moving the window to start at position if
+         * they are not.
+         */
+        void map(long position, long length) throws IOException {
+            if(buffer != null && position >= start && position + length <= start + buffer.capacity()) {
+                return;
+            }
+
+            if(position + length > fileSize) {
+                throw new IOException("The file ends before position " + (position + length) + ".");
+            }
+
+            if(buffer != null && mode == FileChannel.MapMode.READ_WRITE) {
+                buffer.force();
+            }
+            start = position;
+            buffer = channel.map(mode, start, Math.min(windowSize, fileSize - start));
+            buffer.order(ProblemFileFormat.BYTE_ORDER);
+        }
+
+        int offset(long position) {
+            return (int) (position - start);
+        }
+
+        int getInt(long position) {
+            return buffer.getInt(offset(position));
+        }
+
+        long getLong(long position) {
+            return buffer.getLong(offset(position));
+        }
+
+        void putInt(long position, int value) {
+            buffer.putInt(offset(position), value);
+        }
+
+        void putLong(long position, long value) {
+            buffer.putLong(offset(position), value);
+        }
+
+        void force() {
+            if(buffer != null) {
+                buffer.force();
+            }
+        }
+    }
+}
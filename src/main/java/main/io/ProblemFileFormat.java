@@ -0,0 +1,60 @@
+package main.io;
+
+import main.utilities.ErrorType;
+import main.utilities.Result;
+
+import java.nio.ByteOrder;
+
+/**
+ * Binary layout of the problem files and of the result files, both little endian.
+ *
+ * Problem file:
+ *     header: int MAGIC_PROBLEMS, int VERSION, long numberOfRecords
+ *     every record: int N, followed by N int elements
+ *
+ * Result file:
+ *     header: int MAGIC_RESULTS, int VERSION, long numberOfRecords
+ *     every record: int outcome code, see encode()
+ *
+ * A record holds exactly N elements, therefore a null input or an input of a different length than N can not be
+ * written, the other errors of Problem.solve() can.
+ */
+public final class ProblemFileFormat {
+
+    public static final int MAGIC_PROBLEMS = 0x42505654;
+    public static final int MAGIC_RESULTS = 0x52505654;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 16;
+    public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    static final int FALSE = 0;
+    static final int TRUE = 1;
+
+    /**
+     * The error codes come after the two values, in the order of ErrorType
+     */
+    private static final int FIRST_ERROR = 2;
+    private static final int KIND_BITS = 8;
+    private static final int KIND_MASK = (1 << KIND_BITS) - 1;
+
+    private ProblemFileFormat() {}
+
+    /**
+     * The kind of outcome is kept in the lowest 8 bits and the failing position, if any, in the others.
+     */
+    static int encode(ErrorType errorType, int errorPosition) {
+        return FIRST_ERROR + errorType.ordinal() | Math.max(errorPosition, 0) << KIND_BITS;
+    }
+
+    public static Result decode(int outcome) {
+        int kind = outcome & KIND_MASK;
+        if(kind == FALSE || kind == TRUE) {
+            return Result.makeNormalResult(kind == TRUE);
+        }
+
+        ErrorType errorType = ErrorType.values()[kind - FIRST_ERROR];
+        int errorPosition = errorType == ErrorType.NEGATIVE_ELEMENT ? outcome >>> KIND_BITS : Result.NO_POSITION;
+        return Result.makeErrorResult(errorType, errorPosition);
+    }
+
+}
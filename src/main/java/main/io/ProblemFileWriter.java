@@ -0,0 +1,86 @@
+package main.io;
+
+import main.Problem;
+import main.utilities.ErrorType;
+import main.utilities.Result;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes problem files record by record, through a direct buffer. The number of records is filled into the header
+ * when the writer is closed.
+ */
+public class ProblemFileWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ProblemFileFormat.BYTE_ORDER);
+    private long numberOfRecords;
+
+    public ProblemFileWriter(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(ProblemFileFormat.MAGIC_PROBLEMS).putInt(ProblemFileFormat.VERSION).putLong(0);
+    }
+
+    public void write(Problem problem) throws IOException {
+
+        if(problem.getInput() == null) {
+            throw new RuntimeException(ErrorType.NULL_INPUT.getMessage(Result.NO_POSITION));
+        }
+
+        if(problem.getInput().length != problem.getNumberOfElements()) {
+            throw new RuntimeException(ErrorType.LENGTH_DIFFERENT_THAN_N.getMessage(Result.NO_POSITION));
+        }
+
+        write(problem.getInput(), 0, problem.getNumberOfElements());
+    }
+
+    /**
+     * Writes input[from..from+numberOfElements-1] as one record.
+     */
+    public void write(int[] input, int from, int numberOfElements) throws IOException {
+        ensureRemaining(Integer.BYTES);
+        buffer.putInt(numberOfElements);
+        for(int i = from; i < from + numberOfElements; i ++) {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(input[i]);
+        }
+        numberOfRecords ++;
+    }
+
+    public long getNumberOfRecords() {
+        return numberOfRecords;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            ByteBuffer header = ByteBuffer.allocate(Long.BYTES).order(ProblemFileFormat.BYTE_ORDER);
+            header.putLong(numberOfRecords).flip();
+            channel.write(header, ProblemFileFormat.HEADER_SIZE - Long.BYTES);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void ensureRemaining(int bytes) throws IOException {
+        if(buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while(buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,61 @@
+package main.io;
+
+import main.utilities.Result;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the outcomes written by MappedProblemSolver back as Result objects.
+ */
+public class ResultFileReader implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(ProblemFileFormat.HEADER_SIZE).order(ProblemFileFormat.BYTE_ORDER);
+    private final long numberOfRecords;
+
+    public ResultFileReader(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            readFully(0, ProblemFileFormat.HEADER_SIZE);
+            if(buffer.getInt(0) != ProblemFileFormat.MAGIC_RESULTS || buffer.getInt(4) != ProblemFileFormat.VERSION) {
+                throw new IOException("The file is not a result file of version " + ProblemFileFormat.VERSION + ".");
+            }
+            numberOfRecords = buffer.getLong(8);
+        } catch(IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long getNumberOfRecords() {
+        return numberOfRecords;
+    }
+
+    public Result read(long record) throws IOException {
+
+        if(record < 0 || record >= numberOfRecords) {
+            throw new RuntimeException("The record " + record + " is outside the interval [0, " + numberOfRecords + ").");
+        }
+
+        readFully(ProblemFileFormat.HEADER_SIZE + Integer.BYTES * record, Integer.BYTES);
+        return ProblemFileFormat.decode(buffer.getInt(0));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void readFully(long position, int length) throws IOException {
+        buffer.clear().limit(length);
+        while(buffer.hasRemaining()) {
+            if(channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("The file ends before position " + (position + length) + ".");
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package main.mutation;
+
+import java.util.List;
+
+/**
+ * The ExecutionBudget of every test case, found by running the original on it: a mutant gets TICKS_FACTOR times the
+ * loop iterations and NANOS_FACTOR times the time the original needed, but never less than the minimums, which keep
+ * the tiny inputs from being stopped by a garbage collection or a JIT compilation.
+ */
+public class BudgetCalibration {
+
+    public static final long TICKS_FACTOR = 10;
+    public static final long MINIMUM_TICKS = 10_000;
+    public static final long NANOS_FACTOR = 100;
+    public static final long MINIMUM_NANOS = 100_000_000L;
+
+    private static final int CALIBRATION_RUNS = 3;
+
+    private final long[] maxTicks;
+    private final long[] maxNanos;
+
+    public BudgetCalibration(long[] maxTicks, long[] maxNanos) {
+        if(maxTicks.length != maxNanos.length) {
+            throw new RuntimeException("The number of tick budgets is different than the number of time budgets.");
+        }
+        this.maxTicks = maxTicks;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Runs the original, which has to be instrumented like MutantGenerator.getOriginal() is, a few times on every test
+     * case, and keeps the fastest time.
+     */
+    public static BudgetCalibration calibrate(Mutant original, List<TestCase> testCases) {
+        long[] maxTicks = new long[testCases.size()];
+        long[] maxNanos = new long[testCases.size()];
+
+        for(int testCase = 0; testCase < testCases.size(); testCase ++) {
+            long ticks = 0;
+            long nanos = Long.MAX_VALUE;
+            for(int run = 0; run < CALIBRATION_RUNS; run ++) {
+                ExecutionBudget budget = ExecutionBudget.measure();
+                long start = System.nanoTime();
+                try {
+                    original.instantiate(testCases.get(testCase).getProblem()).solve();
+                } catch(RuntimeException e) {
+                    // the errors are expected results as well, only the time matters here
+                } finally {
+                    nanos = Math.min(nanos, System.nanoTime() - start);
+                    ticks = budget.finish();
+                }
+            }
+            maxTicks[testCase] = Math.max(TICKS_FACTOR * ticks, MINIMUM_TICKS);
+            maxNanos[testCase] = Math.max(NANOS_FACTOR * nanos, MINIMUM_NANOS);
+        }
+        return new BudgetCalibration(maxTicks, maxNanos);
+    }
+
+    /**
+     * Starts the budget of the test case on the current thread
+     */
+    public ExecutionBudget start(int testCase) {
+        return ExecutionBudget.start(maxTicks[testCase], maxNanos[testCase]);
+    }
+
+    public long getMaxTicks(int testCase) {
+        return maxTicks[testCase];
+    }
+
+    public long getMaxNanos(int testCase) {
+        return maxNanos[testCase];
+    }
+}
@@ -0,0 +1,17 @@
+package main.mutation;
+
+/**
+ * Thrown from inside a mutant which went over its ExecutionBudget. It is an Error, so the mutant can not mistake it for
+ * one of the RuntimeExceptions Problem.solve() throws, and it is shared and has no stack trace, since it may be thrown
+ * many times per run.
+ */
+public final class BudgetExceededError extends Error {
+
+    private static final long serialVersionUID = 1L;
+
+    static final BudgetExceededError INSTANCE = new BudgetExceededError();
+
+    private BudgetExceededError() {
+        super("The execution budget was exceeded.", null, false, false);
+    }
+}
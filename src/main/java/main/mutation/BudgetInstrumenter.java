@@ -0,0 +1,41 @@
+package main.mutation;
+
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Adds a call to ExecutionBudget.tick() before every backward jump of a method. Every loop has one, so every
+ * iteration is counted.
+ */
+final class BudgetInstrumenter {
+
+    private static final String EXECUTION_BUDGET = Type.getInternalName(ExecutionBudget.class);
+
+    private BudgetInstrumenter() {
+    }
+
+    static void instrument(MethodNode method) {
+        AbstractInsnNode[] instructions = method.instructions.toArray();
+        Map<AbstractInsnNode, Integer> positions = new HashMap<>();
+        for(int i = 0; i < instructions.length; i ++) {
+            positions.put(instructions[i], i);
+        }
+
+        for(int i = 0; i < instructions.length; i ++) {
+            for(LabelNode target : StackDepths.targets(instructions[i])) {
+                if(positions.get(target) < i) {
+                    method.instructions.insertBefore(instructions[i],
+                            new MethodInsnNode(Opcodes.INVOKESTATIC, EXECUTION_BUDGET, "tick", "()V", false));
+                    break;
+                }
+            }
+        }
+    }
+}
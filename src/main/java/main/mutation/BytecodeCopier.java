@@ -0,0 +1,180 @@
+package main.mutation;
+
+import main.Problem;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads the bytecode of the original class and copies chosen methods of it into generated subclasses, which every
+ * generated class is made from: the mutants, the weak and firm mutants, the schemata, the split stream copies and the
+ * copy with condition probes. The copy is changed by the caller and written back with write().
+ */
+final class BytecodeCopier {
+
+    private final Class<? extends Problem> originalClass;
+    private final byte[] originalBytecode;
+    private final List<String> methodNames;
+
+    BytecodeCopier(Class<? extends Problem> originalClass, List<String> methodNames) {
+        this.originalClass = originalClass;
+        this.originalBytecode = readBytecode(originalClass);
+        this.methodNames = Collections.unmodifiableList(new ArrayList<>(methodNames));
+    }
+
+    Class<? extends Problem> getOriginalClass() {
+        return originalClass;
+    }
+
+    /**
+     * The methods which are copied, together with the ones they call
+     */
+    List<String> getMethodNames() {
+        return methodNames;
+    }
+
+    /**
+     * A new tree of the original class every time, so the caller can change it
+     */
+    ClassNode readOriginal() {
+        ClassNode original = new ClassNode();
+        new ClassReader(originalBytecode).accept(original, ClassReader.SKIP_FRAMES);
+        return original;
+    }
+
+    /**
+     * An empty public subclass of the original class, with a constructor taking the original Problem, like the
+     * mutants inside main/mutants have.
+     */
+    static ClassNode newSubclass(ClassNode original, String internalName) {
+        ClassNode subclass = new ClassNode();
+        subclass.version = original.version;
+        subclass.access = Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER;
+        subclass.name = internalName;
+        subclass.superName = original.name;
+        subclass.sourceFile = original.sourceFile;
+
+        String problem = Type.getInternalName(Problem.class);
+        MethodNode constructor = new MethodNode(Opcodes.ACC_PUBLIC, "<init>", "(L" + problem + ";)V", null, null);
+        constructor.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        constructor.instructions.add(new VarInsnNode(Opcodes.ALOAD, 1));
+        constructor.instructions.add(new MethodInsnNode(Opcodes.INVOKEVIRTUAL, problem, "getNumberOfElements", "()I", false));
+        constructor.instructions.add(new VarInsnNode(Opcodes.ALOAD, 1));
+        constructor.instructions.add(new MethodInsnNode(Opcodes.INVOKEVIRTUAL, problem, "getInput", "()[I", false));
+        constructor.instructions.add(new VarInsnNode(Opcodes.ALOAD, 1));
+        constructor.instructions.add(new MethodInsnNode(Opcodes.INVOKEVIRTUAL, problem, "getProblemDescription",
+                "()Ljava/lang/String;", false));
+        constructor.instructions.add(new MethodInsnNode(Opcodes.INVOKESPECIAL, original.name, "<init>",
+                "(I[ILjava/lang/String;)V", false));
+        constructor.instructions.add(new InsnNode(Opcodes.RETURN));
+        subclass.methods.add(constructor);
+        return subclass;
+    }
+
+    /**
+     * Moves the chosen methods, and every method of the original class they call which a subclass from another
+     * package could not call (private, static or package-private ones), into the subclass. The calls between the
+     * copied methods are pointed to the subclass.
+     */
+    List<MethodNode> copyMethods(ClassNode original, ClassNode subclass) {
+        Map<String, MethodNode> methodsByKey = new HashMap<>();
+        Set<String> copiedKeys = new LinkedHashSet<>();
+        for(MethodNode method : original.methods) {
+            methodsByKey.put(method.name + method.desc, method);
+            if(methodNames.contains(method.name)) {
+                copiedKeys.add(method.name + method.desc);
+            }
+        }
+
+        List<String> pending = new ArrayList<>(copiedKeys);
+        while(!pending.isEmpty()) {
+            MethodNode method = methodsByKey.get(pending.remove(pending.size() - 1));
+            for(AbstractInsnNode instruction : method.instructions.toArray()) {
+                if(instruction instanceof MethodInsnNode && ((MethodInsnNode) instruction).owner.equals(original.name)) {
+                    MethodInsnNode call = (MethodInsnNode) instruction;
+                    MethodNode called = methodsByKey.get(call.name + call.desc);
+                    // a method inherited by the original from Problem is not declared in it, the subclass inherits it too
+                    if(called == null) {
+                        continue;
+                    }
+                    boolean visibleToSubclass = (called.access & (Opcodes.ACC_PUBLIC | Opcodes.ACC_PROTECTED)) != 0
+                            && (called.access & Opcodes.ACC_STATIC) == 0;
+                    if(!visibleToSubclass && !call.name.equals("<init>") && copiedKeys.add(call.name + call.desc)) {
+                        pending.add(call.name + call.desc);
+                    }
+                }
+            }
+        }
+
+        List<MethodNode> copied = new ArrayList<>();
+        for(String key : copiedKeys) {
+            MethodNode method = methodsByKey.get(key);
+            for(AbstractInsnNode instruction : method.instructions.toArray()) {
+                if(instruction instanceof MethodInsnNode) {
+                    MethodInsnNode call = (MethodInsnNode) instruction;
+                    if(call.owner.equals(original.name) && copiedKeys.contains(call.name + call.desc)) {
+                        call.owner = subclass.name;
+                    }
+                }
+            }
+            subclass.methods.add(method);
+            copied.add(method);
+        }
+        return copied;
+    }
+
+    /**
+     * The frames are computed again, since the mutations change the instructions they describe.
+     */
+    static byte[] write(ClassNode classNode) {
+        ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_FRAMES) {
+            @Override
+            protected String getCommonSuperClass(String type1, String type2) {
+                try {
+                    return super.getCommonSuperClass(type1, type2);
+                } catch(RuntimeException | LinkageError e) {
+                    return "java/lang/Object";
+                }
+            }
+        };
+        classNode.accept(classWriter);
+        return classWriter.toByteArray();
+    }
+
+    static byte[] readBytecode(Class<?> someClass) {
+        String resource = someClass.getName().replace('.', '/') + ".class";
+        ClassLoader loader = someClass.getClassLoader() != null ? someClass.getClassLoader() : ClassLoader.getSystemClassLoader();
+        try(InputStream input = loader.getResourceAsStream(resource)) {
+            if(input == null) {
+                throw new RuntimeException("The bytecode of " + someClass.getName() + " can not be found.");
+            }
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while((read = input.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+            return output.toByteArray();
+        } catch(IOException e) {
+            throw new RuntimeException("The bytecode of " + someClass.getName() + " can not be read.", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package main.mutation;
+
+/**
+ * Called by the copy of the original which McdcAnalyzer instruments, before every conditional jump. Each probe writes
+ * the condition and its outcome as one int into a ring buffer made when the recording starts, so a probe allocates
+ * nothing. The reader keeps up with the count of written entries, and an execution which writes more than the
+ * capacity loses its oldest entries.
+ */
+public final class ConditionProbes {
+
+    private static final ThreadLocal<ConditionProbes> CURRENT = new ThreadLocal<>();
+
+    private final int[] ring;
+    private final int mask;
+    private long written;
+
+    private ConditionProbes(int capacity) {
+        if(Integer.bitCount(capacity) != 1) {
+            throw new RuntimeException("The capacity of the ring buffer is not a power of 2.");
+        }
+        this.ring = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    static ConditionProbes start(int capacity) {
+        ConditionProbes probes = new ConditionProbes(capacity);
+        CURRENT.set(probes);
+        return probes;
+    }
+
+    void finish() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Before a jump comparing two ints, or an int with zero, with b = 0
+     */
+    public static void compare(int a, int b, int opcode, int condition) {
+        ConditionProbes probes = CURRENT.get();
+        if(probes != null) {
+            probes.ring[(int) (probes.written ++ & probes.mask)] = condition << 1 | (Infection.decide(a, b, opcode) ? 1 : 0);
+        }
+    }
+
+    /**
+     * Before a jump comparing two references, or a reference with null, with b = null
+     */
+    public static void compareReferences(Object a, Object b, int opcode, int condition) {
+        ConditionProbes probes = CURRENT.get();
+        if(probes != null) {
+            probes.ring[(int) (probes.written ++ & probes.mask)] = condition << 1 | (Infection.decide(a, b, opcode) ? 1 : 0);
+        }
+    }
+
+    long getWritten() {
+        return written;
+    }
+
+    int getCapacity() {
+        return ring.length;
+    }
+
+    /**
+     * The entry written at the given count, which has to be one of the last capacity ones
+     */
+    int get(long index) {
+        return ring[(int) (index & mask)];
+    }
+}
@@ -0,0 +1,59 @@
+package main.mutation;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * A 64 bit hash of some content, the first 8 bytes of its SHA-256. The parts are added one after the other, each with
+ * its length where the length varies, so different sequences of parts do not run together.
+ */
+final class ContentHash {
+
+    private final MessageDigest digest;
+
+    ContentHash() {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch(NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 is not available.", e);
+        }
+    }
+
+    ContentHash add(int value) {
+        digest.update((byte) (value >>> 24));
+        digest.update((byte) (value >>> 16));
+        digest.update((byte) (value >>> 8));
+        digest.update((byte) value);
+        return this;
+    }
+
+    ContentHash add(long value) {
+        return add((int) (value >>> 32)).add((int) value);
+    }
+
+    ContentHash add(byte[] bytes) {
+        add(bytes.length);
+        digest.update(bytes);
+        return this;
+    }
+
+    /**
+     * A null string is told apart from every other string, the empty one included
+     */
+    ContentHash add(String text) {
+        if(text == null) {
+            return add(-1);
+        }
+        return add(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    long value() {
+        byte[] bytes = digest.digest();
+        long value = 0;
+        for(int i = 0; i < Long.BYTES; i ++) {
+            value = value << 8 | (bytes[i] & 0xff);
+        }
+        return value;
+    }
+}
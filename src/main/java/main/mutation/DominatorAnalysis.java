@@ -0,0 +1,174 @@
+package main.mutation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Subsumption over a full kill matrix: a killed mutant subsumes another one when every test case killing it kills
+ * the other one as well, so a suite which kills the first kills the second too. The dominators are the mutants whose
+ * kill set holds no smaller kill set of another mutant, one for every distinct kill set, and a suite killing all of
+ * them kills every killed mutant of the matrix.
+ *
+ * The fast runs can run only the dominators, see selectDominators(), while the full runs still run every mutant. The
+ * mutants which no test case kills are not dominators, they are left to the full runs.
+ *
+ * The kill sets are compared as arrays of 64 bit words. The equal ones are merged first, then the distinct sets are
+ * visited by increasing size and each is only compared with the dominators found so far: a set holding a subsumed set
+ * holds the dominator which subsumes it as well.
+ */
+public class DominatorAnalysis {
+
+    private final List<String> mutantIds;
+    private final int[] dominatorOf;
+    private final List<Integer> dominators;
+
+    public DominatorAnalysis(List<String> mutantIds, BitSet[] killingTestCases) {
+        if(mutantIds.size() != killingTestCases.length) {
+            throw new RuntimeException("There is not one kill set for every mutant.");
+        }
+        this.mutantIds = Collections.unmodifiableList(new ArrayList<>(mutantIds));
+        this.dominatorOf = new int[mutantIds.size()];
+        Arrays.fill(dominatorOf, -1);
+
+        Map<BitSet, Integer> firstWithSet = new HashMap<>();
+        List<Integer> distinct = new ArrayList<>();
+        for(int mutant = 0; mutant < killingTestCases.length; mutant ++) {
+            if(!killingTestCases[mutant].isEmpty() && firstWithSet.putIfAbsent(killingTestCases[mutant], mutant) == null) {
+                distinct.add(mutant);
+            }
+        }
+        distinct.sort((mutant1, mutant2) -> Integer.compare(killingTestCases[mutant1].cardinality(), killingTestCases[mutant2].cardinality()));
+
+        List<Integer> found = new ArrayList<>();
+        List<long[]> foundWords = new ArrayList<>();
+        Map<Integer, Integer> dominatorOfDistinct = new HashMap<>();
+        for(int mutant : distinct) {
+            long[] words = killingTestCases[mutant].toLongArray();
+            int dominator = mutant;
+            for(int i = 0; i < found.size(); i ++) {
+                if(isSubset(foundWords.get(i), words)) {
+                    dominator = found.get(i);
+                    break;
+                }
+            }
+            if(dominator == mutant) {
+                found.add(mutant);
+                foundWords.add(words);
+            }
+            dominatorOfDistinct.put(mutant, dominator);
+        }
+        Collections.sort(found);
+        this.dominators = Collections.unmodifiableList(found);
+
+        for(int mutant = 0; mutant < killingTestCases.length; mutant ++) {
+            if(!killingTestCases[mutant].isEmpty()) {
+                dominatorOf[mutant] = dominatorOfDistinct.get(firstWithSet.get(killingTestCases[mutant]));
+            }
+        }
+    }
+
+    /**
+     * The analysis of a kill matrix in which every mutant was run on every test case
+     */
+    public static DominatorAnalysis of(KillMatrix killMatrix) {
+        BitSet[] killingTestCases = new BitSet[killMatrix.getMutantIds().size()];
+        for(int mutant = 0; mutant < killingTestCases.length; mutant ++) {
+            if(killMatrix.getRunTestCases(mutant).cardinality() != killMatrix.getTestCaseIds().size()) {
+                throw new RuntimeException("The mutant " + killMatrix.getMutantIds().get(mutant) + " was not run on every test case.");
+            }
+            killingTestCases[mutant] = killMatrix.getKillingTestCases(mutant);
+        }
+        return new DominatorAnalysis(killMatrix.getMutantIds(), killingTestCases);
+    }
+
+    public static DominatorAnalysis of(MutationReport report) {
+        BitSet[] killingTestCases = new BitSet[report.getMutantIds().size()];
+        for(int mutant = 0; mutant < killingTestCases.length; mutant ++) {
+            if(report.getNumberOfRuns(mutant) != report.getTestCaseIds().size()) {
+                throw new RuntimeException("The mutant " + report.getMutantIds().get(mutant) + " was not run on every test case.");
+            }
+            killingTestCases[mutant] = report.getKillingTestCases(mutant);
+        }
+        return new DominatorAnalysis(report.getMutantIds(), killingTestCases);
+    }
+
+    /**
+     * The indexes of the dominators, in increasing order
+     */
+    public List<Integer> getDominators() {
+        return dominators;
+    }
+
+    public List<String> getDominatorIds() {
+        List<String> ids = new ArrayList<>();
+        for(int dominator : dominators) {
+            ids.add(mutantIds.get(dominator));
+        }
+        return ids;
+    }
+
+    public boolean isDominator(int mutant) {
+        return dominatorOf[mutant] == mutant;
+    }
+
+    /**
+     * The dominator subsuming the mutant, the mutant itself for a dominator, or -1 for a mutant no test case kills
+     */
+    public int getDominatorOf(int mutant) {
+        return dominatorOf[mutant];
+    }
+
+    /**
+     * How many killed mutants need not run, since a dominator stands for them
+     */
+    public int getNumberOfSubsumedMutants() {
+        int subsumed = 0;
+        for(int mutant = 0; mutant < dominatorOf.length; mutant ++) {
+            if(dominatorOf[mutant] >= 0 && dominatorOf[mutant] != mutant) {
+                subsumed ++;
+            }
+        }
+        return subsumed;
+    }
+
+    /**
+     * The mutants for a fast run: the dominators, and the mutants the analysis does not know, like new ones
+     */
+    public List<Mutant> selectDominators(List<Mutant> mutants) {
+        Set<String> known = new HashSet<>(mutantIds);
+        Set<String> dominatorIds = new HashSet<>(getDominatorIds());
+        List<Mutant> selected = new ArrayList<>();
+        for(Mutant mutant : mutants) {
+            if(dominatorIds.contains(mutant.getId()) || !known.contains(mutant.getId())) {
+                selected.add(mutant);
+            }
+        }
+        return selected;
+    }
+
+    public List<String> getMutantIds() {
+        return mutantIds;
+    }
+
+    /**
+     * Whether every bit of the first set is in the second one as well
+     */
+    static boolean isSubset(long[] subset, long[] set) {
+        if(subset.length > set.length) {
+            return false;
+        }
+        for(int word = 0; word < subset.length; word ++) {
+            if((subset[word] & ~set[word]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
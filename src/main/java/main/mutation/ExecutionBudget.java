@@ -0,0 +1,85 @@
+package main.mutation;
+
+/**
+ * Limits how long a mutant may run on the current thread, in loop iterations and in wall clock time.
+ *
+ * The classes made by the MutantGenerator call tick() on every backward jump, so a mutant that loops forever, like
+ * Problem_mirror_AOIS_59 does, runs out of ticks and is stopped by a BudgetExceededError, thrown from inside its own
+ * loop. The thread is not stopped or interrupted, it goes on with the next mutant. The clock is only read every
+ * CLOCK_INTERVAL ticks, since a tick has to stay cheap.
+ */
+public final class ExecutionBudget {
+
+    public static final long UNLIMITED = Long.MAX_VALUE;
+
+    private static final long CLOCK_INTERVAL = 1024;
+    private static final ThreadLocal<ExecutionBudget> CURRENT = new ThreadLocal<>();
+
+    private final long maxTicks;
+    private final long maxNanos;
+    private final long startNanos;
+    private long ticks;
+    private long nextCheck;
+
+    private ExecutionBudget(long maxTicks, long maxNanos) {
+        this.maxTicks = maxTicks;
+        this.maxNanos = maxNanos;
+        this.startNanos = System.nanoTime();
+        this.nextCheck = Math.min(maxTicks, CLOCK_INTERVAL);
+    }
+
+    /**
+     * Starts a budget for the current thread, replacing the one it had
+     */
+    public static ExecutionBudget start(long maxTicks, long maxNanos) {
+        ExecutionBudget budget = new ExecutionBudget(maxTicks, maxNanos);
+        CURRENT.set(budget);
+        return budget;
+    }
+
+    /**
+     * Starts an unlimited budget, only to count the ticks
+     */
+    public static ExecutionBudget measure() {
+        return start(UNLIMITED, UNLIMITED);
+    }
+
+    /**
+     * Removes the budget from the current thread and returns the ticks used
+     */
+    public long finish() {
+        if(CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+        return ticks;
+    }
+
+    /**
+     * Called by the instrumented classes on every backward jump. Does nothing on a thread without a budget.
+     */
+    public static void tick() {
+        ExecutionBudget budget = CURRENT.get();
+        if(budget != null && ++ budget.ticks >= budget.nextCheck) {
+            budget.check();
+        }
+    }
+
+    private void check() {
+        if(ticks >= maxTicks || (maxNanos != UNLIMITED && System.nanoTime() - startNanos > maxNanos)) {
+            throw BudgetExceededError.INSTANCE;
+        }
+        nextCheck = Math.min(maxTicks, ticks + CLOCK_INTERVAL);
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getMaxTicks() {
+        return maxTicks;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+}
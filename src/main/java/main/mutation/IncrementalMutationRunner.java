@@ -0,0 +1,81 @@
+package main.mutation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs a MutationRunner again only on the cells whose mutant or test case changed since the KillMatrix saved in the
+ * file, and saves the new matrix when anything was run.
+ *
+ * A generated mutant changes when the methods copied into it change (see MutantGenerator.getMethodsHash()), or when
+ * its mutation or its class does, like a weak mutant instead of a strong one. A mutant written by hand changes with
+ * its bytecode. A test case changes with its content hash, see TestCase.getContentHash().
+ */
+public class IncrementalMutationRunner {
+
+    private final MutationRunner runner;
+    private final MutantGenerator mutantGenerator;
+    private final Path file;
+
+    public IncrementalMutationRunner(MutationRunner runner, MutantGenerator mutantGenerator, Path file) {
+        this.runner = runner;
+        this.mutantGenerator = mutantGenerator;
+        this.file = file;
+    }
+
+    public MutationReport run(List<Mutant> mutants, List<TestCase> testCases) throws IOException {
+        List<String> mutantIds = new ArrayList<>();
+        long[] mutantHashes = new long[mutants.size()];
+        for(int mutant = 0; mutant < mutants.size(); mutant ++) {
+            mutantIds.add(mutants.get(mutant).getId());
+            mutantHashes[mutant] = hash(mutants.get(mutant));
+        }
+        List<String> testCaseIds = new ArrayList<>();
+        long[] testCaseHashes = new long[testCases.size()];
+        for(int testCase = 0; testCase < testCases.size(); testCase ++) {
+            testCaseIds.add(testCases.get(testCase).getId());
+            testCaseHashes[testCase] = testCases.get(testCase).getContentHash();
+        }
+
+        Outcome[] knownOutcomes;
+        if(Files.exists(file)) {
+            knownOutcomes = KillMatrix.load(file).knownOutcomes(mutantIds, mutantHashes, testCaseIds, testCaseHashes);
+        } else {
+            knownOutcomes = new Outcome[mutants.size() * testCases.size()];
+            Arrays.fill(knownOutcomes, Outcome.NOT_RUN);
+        }
+
+        MutationReport report = runner.run(mutants, testCases, knownOutcomes);
+        if(report.getNumberOfRuns() > report.getNumberOfReusedRuns() || !Files.exists(file)) {
+            KillMatrix.of(report, mutantHashes, testCaseHashes).save(file);
+        }
+        return report;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    long hash(Mutant mutant) {
+        Mutation mutation = mutant.getMutation();
+        if(mutation == null) {
+            return new ContentHash().add(BytecodeCopier.readBytecode(mutant.getMutantClass())).value();
+        }
+        return new ContentHash()
+                .add(mutantGenerator.getMethodsHash())
+                .add(mutant.getMutantClass().getName())
+                .add(mutant.getSchemataId())
+                .add(mutation.getId())
+                .add(mutation.getOperator().name())
+                .add(mutation.getMethodName())
+                .add(mutation.getMethodDescriptor())
+                .add(mutation.getFrom())
+                .add(mutation.getTo())
+                .add(mutation.getDescription())
+                .value();
+    }
+}
@@ -0,0 +1,129 @@
+package main.mutation;
+
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Called by the weak and firm mutants, see InfectionInstrumenter. Every method takes what the original and the
+ * mutated code give at the same point, throws the InfectionSignal if they differ and otherwise returns the original,
+ * so the run goes on exactly as the original one would.
+ */
+public final class Infection {
+
+    /**
+     * The mutated decision of a jump replaced by a jump never taken or always taken
+     */
+    public static final int NEVER = -1;
+    public static final int ALWAYS = -2;
+
+    private Infection() {
+    }
+
+    public static int value(int mutated, int original) {
+        if(mutated != original) {
+            throw InfectionSignal.INSTANCE;
+        }
+        return original;
+    }
+
+    public static Object reference(Object mutated, Object original) {
+        if(mutated == null ? original != null : !mutated.equals(original)) {
+            throw InfectionSignal.INSTANCE;
+        }
+        return original;
+    }
+
+    /**
+     * Both the original and the mutated code threw, which is the same if the exceptions have the same class and
+     * message. Returns the original exception, to be thrown again.
+     */
+    public static Throwable exception(Throwable mutated, Throwable original) {
+        if(mutated.getClass() != original.getClass() || (mutated.getMessage() == null
+                ? original.getMessage() != null : !mutated.getMessage().equals(original.getMessage()))) {
+            throw InfectionSignal.INSTANCE;
+        }
+        return original;
+    }
+
+    /**
+     * An arithmetic operator replaced by another one. The mutated operator throwing, like a division by zero where
+     * the original added, is a difference as well.
+     */
+    public static int arithmetic(int a, int b, int originalOpcode, int mutatedOpcode) {
+        int original = compute(a, b, originalOpcode);
+        int mutated;
+        try {
+            mutated = compute(a, b, mutatedOpcode);
+        } catch(ArithmeticException e) {
+            throw InfectionSignal.INSTANCE;
+        }
+        return value(mutated, original);
+    }
+
+    /**
+     * A conditional jump on ints replaced by another one. The jumps comparing with zero get b = 0.
+     */
+    public static void jump(int a, int b, int originalOpcode, int mutatedOpcode) {
+        if(decide(a, b, originalOpcode) != decide(a, b, mutatedOpcode)) {
+            throw InfectionSignal.INSTANCE;
+        }
+    }
+
+    /**
+     * A conditional jump on references replaced by another one. The jumps comparing with null get b = null.
+     */
+    public static void referenceJump(Object a, Object b, int originalOpcode, int mutatedOpcode) {
+        if(decide(a, b, originalOpcode) != decide(a, b, mutatedOpcode)) {
+            throw InfectionSignal.INSTANCE;
+        }
+    }
+
+    /**
+     * The mutated code was reached, and it always changes the state, like an increment or a deleted statement
+     */
+    public static void reached() {
+        throw InfectionSignal.INSTANCE;
+    }
+
+    /**
+     * The mutated method threw where the original did not. It returns the signal for the caller to throw, which
+     * tells the verifier that the code after the call is not reached.
+     */
+    public static InfectionSignal signal() {
+        return InfectionSignal.INSTANCE;
+    }
+
+    private static int compute(int a, int b, int opcode) {
+        switch(opcode) {
+            case Opcodes.IADD: return a + b;
+            case Opcodes.ISUB: return a - b;
+            case Opcodes.IMUL: return a * b;
+            case Opcodes.IDIV: return a / b;
+            case Opcodes.IREM: return a % b;
+            default: throw new RuntimeException("Unknown arithmetic opcode " + opcode + ".");
+        }
+    }
+
+    static boolean decide(int a, int b, int opcode) {
+        switch(opcode) {
+            case NEVER: return false;
+            case ALWAYS: return true;
+            case Opcodes.IFEQ: case Opcodes.IF_ICMPEQ: return a == b;
+            case Opcodes.IFNE: case Opcodes.IF_ICMPNE: return a != b;
+            case Opcodes.IFLT: case Opcodes.IF_ICMPLT: return a < b;
+            case Opcodes.IFGE: case Opcodes.IF_ICMPGE: return a >= b;
+            case Opcodes.IFGT: case Opcodes.IF_ICMPGT: return a > b;
+            case Opcodes.IFLE: case Opcodes.IF_ICMPLE: return a <= b;
+            default: throw new RuntimeException("Unknown jump opcode " + opcode + ".");
+        }
+    }
+
+    static boolean decide(Object a, Object b, int opcode) {
+        switch(opcode) {
+            case NEVER: return false;
+            case ALWAYS: return true;
+            case Opcodes.IFNULL: case Opcodes.IF_ACMPEQ: return a == b;
+            case Opcodes.IFNONNULL: case Opcodes.IF_ACMPNE: return a != b;
+            default: throw new RuntimeException("Unknown jump opcode " + opcode + ".");
+        }
+    }
+}
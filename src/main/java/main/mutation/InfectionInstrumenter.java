@@ -0,0 +1,297 @@
+package main.mutation;
+
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LocalVariableNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+import org.objectweb.asm.tree.TypeInsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+/**
+ * Turns a mutation into a weak or a firm mutant.
+ *
+ * Weak: the method is left as the original and the mutated expression is checked next to the original one, through
+ * the methods of Infection. Increments always change the state, so reaching them is enough. A deleted store of an int
+ * variable is compared with the value the variable already has; any other deleted statement, like a call, a throw or
+ * an array store, is taken as changing the state once it is reached, which over-approximates the weak kills.
+ *
+ * Firm: the method is replaced by a wrapper which calls an original copy and a mutated copy of it with the same
+ * arguments, and compares what they return or throw. Both copies run on the same instance, which is fine for methods
+ * that only compute a result, like solve and getMirror.
+ */
+final class InfectionInstrumenter {
+
+    private static final String INFECTION = Type.getInternalName(Infection.class);
+    private static final String ORIGINAL_SUFFIX = "$original";
+    private static final String MUTATED_SUFFIX = "$mutated";
+
+    private InfectionInstrumenter() {
+    }
+
+    static void instrumentWeak(MethodNode method, Mutation mutation) {
+        AbstractInsnNode[] instructions = method.instructions.toArray();
+        AbstractInsnNode first = instructions[mutation.getFrom()];
+        AbstractInsnNode last = instructions[mutation.getTo() - 1];
+        InsnList replacement = mutation.getReplacement().build(instructions, Mutation.sameLabels(instructions));
+        InsnList check = new InsnList();
+
+        switch(mutation.getOperator()) {
+            case ROR: {
+                int opcode = first.getOpcode();
+                boolean references = opcode == Opcodes.IF_ACMPEQ || opcode == Opcodes.IF_ACMPNE
+                        || opcode == Opcodes.IFNULL || opcode == Opcodes.IFNONNULL;
+                boolean twoOperands = (opcode >= Opcodes.IF_ICMPEQ && opcode <= Opcodes.IF_ACMPNE);
+                check.add(new InsnNode(twoOperands ? Opcodes.DUP2 : Opcodes.DUP));
+                if(!twoOperands) {
+                    check.add(new InsnNode(references ? Opcodes.ACONST_NULL : Opcodes.ICONST_0));
+                }
+                check.add(new LdcInsnNode(opcode));
+                check.add(new LdcInsnNode(mutatedDecision(replacement)));
+                check.add(references
+                        ? new MethodInsnNode(Opcodes.INVOKESTATIC, INFECTION, "referenceJump", "(Ljava/lang/Object;Ljava/lang/Object;II)V", false)
+                        : new MethodInsnNode(Opcodes.INVOKESTATIC, INFECTION, "jump", "(IIII)V", false));
+                method.instructions.insertBefore(first, check);
+                break;
+            }
+            case AORB: {
+                check.add(new LdcInsnNode(first.getOpcode()));
+                check.add(new LdcInsnNode(replacement.getFirst().getOpcode()));
+                check.add(new MethodInsnNode(Opcodes.INVOKESTATIC, INFECTION, "arithmetic", "(IIII)I", false));
+                method.instructions.insertBefore(first, check);
+                method.instructions.remove(first);
+                break;
+            }
+            case CDL: {
+                // the left operand, without the constant and the operator, is the mutated value
+                method.instructions.insertBefore(first, new InsnNode(Opcodes.DUP));
+                method.instructions.insert(last, new MethodInsnNode(Opcodes.INVOKESTATIC, INFECTION, "value", "(II)I", false));
+                break;
+            }
+            case AOIU: {
+                check.add(new InsnNode(Opcodes.DUP));
+                check.add(new InsnNode(Opcodes.INEG));
+                check.add(new InsnNode(Opcodes.SWAP));
+                check.add(new MethodInsnNode(Opcodes.INVOKESTATIC, INFECTION, "value", "(II)I", false));
+                method.instructions.insert(last, check);
+                break;
+            }
+            case SDL: {
+                if(isComparableStore(method, instructions, mutation)) {
+                    // the value already in the variable is the one the mutated code keeps
+                    check.add(new VarInsnNode(Opcodes.ILOAD, ((VarInsnNode) last).var));
+                    check.add(new InsnNode(Opcodes.SWAP));
+                    check.add(new MethodInsnNode(Opcodes.INVOKESTATIC, INFECTION, "value", "(II)I", false));
+                    method.instructions.insertBefore(last, check);
+                } else {
+                    method.instructions.insertBefore(first, new MethodInsnNode(Opcodes.INVOKESTATIC, INFECTION, "reached", "()V", false));
+                }
+                break;
+            }
+            default:
+                method.instructions.insertBefore(first, new MethodInsnNode(Opcodes.INVOKESTATIC, INFECTION, "reached", "()V", false));
+        }
+    }
+
+    /**
+     * Whether the deleted statement stores an int into a variable which already has a value, computed without
+     * anything that can throw. Then the statement changes the state only if the stored value is different, otherwise
+     * the original code could throw where the deleted statement does not, or the variable has no value to compare with.
+     */
+    private static boolean isComparableStore(MethodNode method, AbstractInsnNode[] instructions, Mutation mutation) {
+        AbstractInsnNode last = instructions[mutation.getTo() - 1];
+        if(last.getOpcode() != Opcodes.ISTORE) {
+            return false;
+        }
+        for(int i = mutation.getFrom(); i < mutation.getTo() - 1; i ++) {
+            if(canThrow(instructions, i)) {
+                return false;
+            }
+        }
+        return isAssigned(method, ((VarInsnNode) last).var, mutation.getFrom());
+    }
+
+    /**
+     * Loads, constants, stack operations, arithmetic and conversions do not throw, except a division by something
+     * else than an int constant which is not 0
+     */
+    private static boolean canThrow(AbstractInsnNode[] instructions, int position) {
+        int opcode = instructions[position].getOpcode();
+        if(opcode == Opcodes.IDIV || opcode == Opcodes.IREM) {
+            return !isNonZeroConstant(instructions[position - 1]);
+        }
+        return opcode >= 0 && opcode != Opcodes.LDIV && opcode != Opcodes.LREM
+                && !(opcode >= Opcodes.ACONST_NULL && opcode <= Opcodes.ALOAD)
+                && !(opcode >= Opcodes.POP && opcode <= Opcodes.LXOR)
+                && !(opcode >= Opcodes.I2L && opcode <= Opcodes.I2S);
+    }
+
+    private static boolean isNonZeroConstant(AbstractInsnNode instruction) {
+        int opcode = instruction.getOpcode();
+        if(opcode == Opcodes.BIPUSH || opcode == Opcodes.SIPUSH) {
+            return ((IntInsnNode) instruction).operand != 0;
+        }
+        return opcode >= Opcodes.ICONST_M1 && opcode <= Opcodes.ICONST_5 && opcode != Opcodes.ICONST_0;
+    }
+
+    /**
+     * A parameter always has a value, a local variable has one where its scope in the local variable table started.
+     * Without the table, it is not known.
+     */
+    private static boolean isAssigned(MethodNode method, int variable, int position) {
+        int parameters = (Type.getArgumentsAndReturnSizes(method.desc) >> 2) - ((method.access & Opcodes.ACC_STATIC) != 0 ? 1 : 0);
+        if(variable < parameters) {
+            return true;
+        }
+        if(method.localVariables == null) {
+            return false;
+        }
+        for(LocalVariableNode localVariable : method.localVariables) {
+            if(localVariable.index == variable && method.instructions.indexOf(localVariable.start) <= position
+                    && method.instructions.indexOf(localVariable.end) > position) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Renames the method to a private original copy, adds a private mutated copy and a wrapper comparing them, with
+     * the name and descriptor of the method.
+     */
+    static void instrumentFirm(ClassNode classNode, MethodNode method, Mutation mutation) {
+        Type returnType = Type.getReturnType(method.desc);
+        if(returnType.getSort() == Type.LONG || returnType.getSort() == Type.DOUBLE || returnType.getSort() == Type.FLOAT) {
+            throw new RuntimeException("Firm mutation does not support methods returning " + returnType.getClassName() + ".");
+        }
+
+        MethodNode mutated = new MethodNode(method.access, method.name, method.desc, method.signature,
+                method.exceptions.toArray(new String[0]));
+        method.accept(mutated);
+        mutation.applyTo(mutated);
+
+        MethodNode wrapper = newWrapper(classNode.name, method);
+        int privateAccess = (method.access & ~(Opcodes.ACC_PUBLIC | Opcodes.ACC_PROTECTED)) | Opcodes.ACC_PRIVATE;
+        method.access = privateAccess;
+        method.name = method.name + ORIGINAL_SUFFIX;
+        mutated.access = privateAccess;
+        mutated.name = mutated.name + MUTATED_SUFFIX;
+
+        classNode.methods.add(mutated);
+        classNode.methods.add(wrapper);
+    }
+
+    /**
+     * The wrapper runs the original copy first. If it throws, the mutated copy has to throw the same exception, with
+     * the same message, and the original exception is thrown again. Otherwise the mutated copy has to return the same.
+     */
+    private static MethodNode newWrapper(String owner, MethodNode method) {
+        MethodNode wrapper = new MethodNode(method.access, method.name, method.desc, method.signature,
+                method.exceptions.toArray(new String[0]));
+        boolean isStatic = (method.access & Opcodes.ACC_STATIC) != 0;
+        Type returnType = Type.getReturnType(method.desc);
+        int originalResult = (Type.getArgumentsAndReturnSizes(method.desc) >> 2) - (isStatic ? 1 : 0);
+        int originalException = originalResult + returnType.getSize();
+
+        LabelNode originalStart = new LabelNode();
+        LabelNode originalEnd = new LabelNode();
+        LabelNode originalThrew = new LabelNode();
+        LabelNode mutatedStart = new LabelNode();
+        LabelNode mutatedEnd = new LabelNode();
+        LabelNode mutatedThrew = new LabelNode();
+        LabelNode bothStart = new LabelNode();
+        LabelNode bothEnd = new LabelNode();
+        LabelNode bothThrew = new LabelNode();
+        String runtimeException = "java/lang/RuntimeException";
+
+        InsnList instructions = wrapper.instructions;
+        instructions.add(originalStart);
+        addCall(instructions, owner, method, method.name + ORIGINAL_SUFFIX);
+        instructions.add(originalEnd);
+        if(returnType != Type.VOID_TYPE) {
+            instructions.add(new VarInsnNode(returnType.getOpcode(Opcodes.ISTORE), originalResult));
+        }
+
+        instructions.add(mutatedStart);
+        addCall(instructions, owner, method, method.name + MUTATED_SUFFIX);
+        instructions.add(mutatedEnd);
+        if(returnType == Type.VOID_TYPE) {
+            instructions.add(new InsnNode(Opcodes.RETURN));
+        } else if(returnType.getSort() == Type.OBJECT || returnType.getSort() == Type.ARRAY) {
+            instructions.add(new VarInsnNode(Opcodes.ALOAD, originalResult));
+            instructions.add(new MethodInsnNode(Opcodes.INVOKESTATIC, INFECTION, "reference",
+                    "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;", false));
+            instructions.add(new TypeInsnNode(Opcodes.CHECKCAST, returnType.getInternalName()));
+            instructions.add(new InsnNode(Opcodes.ARETURN));
+        } else {
+            instructions.add(new VarInsnNode(Opcodes.ILOAD, originalResult));
+            instructions.add(new MethodInsnNode(Opcodes.INVOKESTATIC, INFECTION, "value", "(II)I", false));
+            instructions.add(new InsnNode(Opcodes.IRETURN));
+        }
+
+        // the mutated copy threw where the original did not
+        instructions.add(mutatedThrew);
+        instructions.add(new InsnNode(Opcodes.POP));
+        addSignal(instructions);
+
+        // the original threw, the mutated copy has to throw the same
+        instructions.add(originalThrew);
+        instructions.add(new VarInsnNode(Opcodes.ASTORE, originalException));
+        instructions.add(bothStart);
+        addCall(instructions, owner, method, method.name + MUTATED_SUFFIX);
+        instructions.add(bothEnd);
+        addSignal(instructions);
+
+        instructions.add(bothThrew);
+        instructions.add(new VarInsnNode(Opcodes.ALOAD, originalException));
+        instructions.add(new MethodInsnNode(Opcodes.INVOKESTATIC, INFECTION, "exception",
+                "(Ljava/lang/Throwable;Ljava/lang/Throwable;)Ljava/lang/Throwable;", false));
+        instructions.add(new InsnNode(Opcodes.ATHROW));
+
+        wrapper.tryCatchBlocks.add(new TryCatchBlockNode(originalStart, originalEnd, originalThrew, runtimeException));
+        wrapper.tryCatchBlocks.add(new TryCatchBlockNode(mutatedStart, mutatedEnd, mutatedThrew, runtimeException));
+        wrapper.tryCatchBlocks.add(new TryCatchBlockNode(bothStart, bothEnd, bothThrew, runtimeException));
+        return wrapper;
+    }
+
+    private static void addSignal(InsnList instructions) {
+        instructions.add(new MethodInsnNode(Opcodes.INVOKESTATIC, INFECTION, "signal",
+                "()" + Type.getDescriptor(InfectionSignal.class), false));
+        instructions.add(new InsnNode(Opcodes.ATHROW));
+    }
+
+    private static void addCall(InsnList instructions, String owner, MethodNode method, String name) {
+        boolean isStatic = (method.access & Opcodes.ACC_STATIC) != 0;
+        int variable = 0;
+        if(!isStatic) {
+            instructions.add(new VarInsnNode(Opcodes.ALOAD, variable ++));
+        }
+        for(Type argument : Type.getArgumentTypes(method.desc)) {
+            instructions.add(new VarInsnNode(argument.getOpcode(Opcodes.ILOAD), variable));
+            variable += argument.getSize();
+        }
+        instructions.add(new MethodInsnNode(isStatic ? Opcodes.INVOKESTATIC : Opcodes.INVOKESPECIAL, owner, name,
+                method.desc, false));
+    }
+
+    /**
+     * The opcode of the mutated jump, or NEVER or ALWAYS for a jump which is replaced by pops and maybe a goto
+     */
+    private static int mutatedDecision(InsnList replacement) {
+        for(AbstractInsnNode instruction : replacement.toArray()) {
+            if(instruction instanceof JumpInsnNode) {
+                return instruction.getOpcode() == Opcodes.GOTO ? Infection.ALWAYS : instruction.getOpcode();
+            }
+        }
+        return Infection.NEVER;
+    }
+}
@@ -0,0 +1,19 @@
+package main.mutation;
+
+/**
+ * Thrown by a weak or firm mutant at the first difference from the original, to stop the run right there. Shared and
+ * without a stack trace, the same as the BudgetExceededError.
+ *
+ * A deleted statement which is not a compared int store, like a call or an array store, throws it as soon as it is
+ * reached, even if running the statement would not have changed anything, so the weak kills are an over-approximation.
+ */
+public final class InfectionSignal extends Error {
+
+    private static final long serialVersionUID = 1L;
+
+    static final InfectionSignal INSTANCE = new InfectionSignal();
+
+    private InfectionSignal() {
+        super("The mutant infected the state.", null, false, false);
+    }
+}
@@ -0,0 +1,199 @@
+package main.mutation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcomes of a MutationRunner run kept on disk, for every mutant id and test case id together with the content
+ * hashes they had, so a later run can take the outcomes whose mutant and test case did not change.
+ *
+ * Every mutant keeps two bitsets over the test cases: the ones it was run on and the ones which killed it. A kill by
+ * timeout or by infection is kept as a kill, and comes back as KILLED.
+ *
+ * File, big endian:
+ *     header: int MAGIC, int VERSION, int numberOfTestCases, int numberOfMutants
+ *     every test case: UTF id, long hash
+ *     every mutant: UTF id, long hash, the words of the run bitset, the words of the killing bitset, both
+ *     (numberOfTestCases + 63) / 64 longs
+ */
+public final class KillMatrix {
+
+    public static final int MAGIC = 0x4b4d5458;
+    public static final int VERSION = 1;
+
+    private final List<String> testCaseIds;
+    private final long[] testCaseHashes;
+    private final List<String> mutantIds;
+    private final long[] mutantHashes;
+    private final BitSet[] run;
+    private final BitSet[] killing;
+
+    private KillMatrix(List<String> testCaseIds, long[] testCaseHashes, List<String> mutantIds, long[] mutantHashes,
+                       BitSet[] run, BitSet[] killing) {
+        this.testCaseIds = Collections.unmodifiableList(testCaseIds);
+        this.testCaseHashes = testCaseHashes;
+        this.mutantIds = Collections.unmodifiableList(mutantIds);
+        this.mutantHashes = mutantHashes;
+        this.run = run;
+        this.killing = killing;
+    }
+
+    /**
+     * The kill matrix of a report, whose mutants and test cases had the given hashes
+     */
+    public static KillMatrix of(MutationReport report, long[] mutantHashes, long[] testCaseHashes) {
+        int numberOfMutants = report.getMutantIds().size();
+        int numberOfTestCases = report.getTestCaseIds().size();
+        if(mutantHashes.length != numberOfMutants || testCaseHashes.length != numberOfTestCases) {
+            throw new RuntimeException("The number of hashes is different than the size of the report.");
+        }
+
+        BitSet[] run = new BitSet[numberOfMutants];
+        BitSet[] killing = new BitSet[numberOfMutants];
+        for(int mutant = 0; mutant < numberOfMutants; mutant ++) {
+            run[mutant] = new BitSet(numberOfTestCases);
+            for(int testCase = 0; testCase < numberOfTestCases; testCase ++) {
+                if(report.getOutcome(mutant, testCase) != Outcome.NOT_RUN) {
+                    run[mutant].set(testCase);
+                }
+            }
+            killing[mutant] = report.getKillingTestCases(mutant);
+        }
+        return new KillMatrix(new ArrayList<>(report.getTestCaseIds()), testCaseHashes.clone(),
+                new ArrayList<>(report.getMutantIds()), mutantHashes.clone(), run, killing);
+    }
+
+    /**
+     * The outcome of every cell of the given mutants and test cases which is known with the same hashes, NOT_RUN for
+     * the others, in the order of MutationReport.getOutcome()
+     */
+    public Outcome[] knownOutcomes(List<String> mutantIds, long[] mutantHashes, List<String> testCaseIds, long[] testCaseHashes) {
+        Map<String, Integer> storedTestCases = indexes(this.testCaseIds);
+        int[] storedTestCase = new int[testCaseIds.size()];
+        for(int testCase = 0; testCase < storedTestCase.length; testCase ++) {
+            Integer stored = storedTestCases.get(testCaseIds.get(testCase));
+            storedTestCase[testCase] = stored != null && this.testCaseHashes[stored] == testCaseHashes[testCase] ? stored : -1;
+        }
+
+        Outcome[] outcomes = new Outcome[mutantIds.size() * testCaseIds.size()];
+        Arrays.fill(outcomes, Outcome.NOT_RUN);
+        Map<String, Integer> storedMutants = indexes(this.mutantIds);
+        for(int mutant = 0; mutant < mutantIds.size(); mutant ++) {
+            Integer stored = storedMutants.get(mutantIds.get(mutant));
+            if(stored == null || this.mutantHashes[stored] != mutantHashes[mutant]) {
+                continue;
+            }
+            for(int testCase = 0; testCase < storedTestCase.length; testCase ++) {
+                int storedColumn = storedTestCase[testCase];
+                if(storedColumn >= 0 && run[stored].get(storedColumn)) {
+                    outcomes[mutant * testCaseIds.size() + testCase] = killing[stored].get(storedColumn) ? Outcome.KILLED : Outcome.SURVIVED;
+                }
+            }
+        }
+        return outcomes;
+    }
+
+    public List<String> getMutantIds() {
+        return mutantIds;
+    }
+
+    public List<String> getTestCaseIds() {
+        return testCaseIds;
+    }
+
+    /**
+     * The test cases which killed the mutant, indexed like getTestCaseIds()
+     */
+    public BitSet getKillingTestCases(int mutant) {
+        return (BitSet) killing[mutant].clone();
+    }
+
+    public BitSet getRunTestCases(int mutant) {
+        return (BitSet) run[mutant].clone();
+    }
+
+    public void save(Path path) throws IOException {
+        int words = (testCaseIds.size() + Long.SIZE - 1) / Long.SIZE;
+        try(DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(testCaseIds.size());
+            output.writeInt(mutantIds.size());
+            for(int testCase = 0; testCase < testCaseIds.size(); testCase ++) {
+                output.writeUTF(testCaseIds.get(testCase));
+                output.writeLong(testCaseHashes[testCase]);
+            }
+            for(int mutant = 0; mutant < mutantIds.size(); mutant ++) {
+                output.writeUTF(mutantIds.get(mutant));
+                output.writeLong(mutantHashes[mutant]);
+                writeWords(output, run[mutant], words);
+                writeWords(output, killing[mutant], words);
+            }
+        }
+    }
+
+    public static KillMatrix load(Path path) throws IOException {
+        try(DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if(input.readInt() != MAGIC || input.readInt() != VERSION) {
+                throw new IOException("The file is not a kill matrix of version " + VERSION + ".");
+            }
+            int numberOfTestCases = input.readInt();
+            int numberOfMutants = input.readInt();
+            int words = (numberOfTestCases + Long.SIZE - 1) / Long.SIZE;
+
+            List<String> testCaseIds = new ArrayList<>(numberOfTestCases);
+            long[] testCaseHashes = new long[numberOfTestCases];
+            for(int testCase = 0; testCase < numberOfTestCases; testCase ++) {
+                testCaseIds.add(input.readUTF());
+                testCaseHashes[testCase] = input.readLong();
+            }
+
+            List<String> mutantIds = new ArrayList<>(numberOfMutants);
+            long[] mutantHashes = new long[numberOfMutants];
+            BitSet[] run = new BitSet[numberOfMutants];
+            BitSet[] killing = new BitSet[numberOfMutants];
+            for(int mutant = 0; mutant < numberOfMutants; mutant ++) {
+                mutantIds.add(input.readUTF());
+                mutantHashes[mutant] = input.readLong();
+                run[mutant] = readWords(input, words);
+                killing[mutant] = readWords(input, words);
+            }
+            return new KillMatrix(testCaseIds, testCaseHashes, mutantIds, mutantHashes, run, killing);
+        }
+    }
+
+    private static void writeWords(DataOutputStream output, BitSet bits, int words) throws IOException {
+        long[] values = bits.toLongArray();
+        for(int word = 0; word < words; word ++) {
+            output.writeLong(word < values.length ? values[word] : 0);
+        }
+    }
+
+    private static BitSet readWords(DataInputStream input, int words) throws IOException {
+        long[] values = new long[words];
+        for(int word = 0; word < words; word ++) {
+            values[word] = input.readLong();
+        }
+        return BitSet.valueOf(values);
+    }
+
+    private static Map<String, Integer> indexes(List<String> ids) {
+        Map<String, Integer> indexes = new HashMap<>();
+        for(int i = 0; i < ids.size(); i ++) {
+            indexes.put(ids.get(i), i);
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,558 @@
+package main.mutation;
+
+import main.Problem;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the MC/DC independence pairs of a set of inputs by running them through a copy of the original whose
+ * conditional jumps call the ConditionProbes, instead of working them out by hand.
+ *
+ * Every conditional jump of the copied methods is a condition, and the conditions on the same source line make one
+ * decision, like the || of line 41, as long as they follow each other inside a basic block and leave to two outcomes
+ * only, so a for loop and an if written on one line are two decisions. Where each outcome of a condition leads is known
+ * from the bytecode: either to a later condition of its decision, or out of the decision, and the instruction it leaves
+ * to is the outcome of the decision. So the probe entries of an execution split into evaluations, each with the
+ * conditions it evaluated, their outcomes and the outcome of the decision.
+ *
+ * Two evaluations of a decision are an independence pair of a condition when the condition and the outcome of the
+ * decision differ between them and every other condition evaluated by both is the same, the unique cause MC/DC with
+ * short circuits. The conditions without a pair can be paired by inputs chosen from a large corpus, see fillGaps().
+ */
+public class McdcAnalyzer {
+
+    public static final int DEFAULT_CAPACITY = 1 << 10;
+    public static final int MAXIMUM_CONDITIONS_PER_DECISION = 20;
+
+    private static final String PROBES = Type.getInternalName(ConditionProbes.class);
+    private static final int CONTINUES = -1;
+    private static final int CLOSED = -1;
+
+    private static final int DECISION = 0;
+    private static final int INDEX = 1;
+    private static final int EXIT_IF_FALSE = 2;
+    private static final int EXIT_IF_TRUE = 3;
+    private static final int FIELDS = 4;
+
+    private final int capacity;
+    private final List<String> conditions = new ArrayList<>();
+    private final List<int[]> conditionsOfDecisions = new ArrayList<>();
+    private final Mutant instrumentedCopy;
+    /**
+     * Read for every probe entry, so it is packed: FIELDS ints for every condition
+     */
+    private int[] table = new int[0];
+
+    public McdcAnalyzer(MutantGenerator mutantGenerator) {
+        this(mutantGenerator, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * The capacity of the ring buffer has to be a power of 2, larger than the number of conditions one execution
+     * evaluates, otherwise the evaluations of the execution which are overwritten are lost
+     */
+    public McdcAnalyzer(MutantGenerator mutantGenerator, int capacity) {
+        this.capacity = capacity;
+        BytecodeCopier copier = mutantGenerator.getCopier();
+        String simpleName = copier.getOriginalClass().getSimpleName();
+        String binaryName = MutantGenerator.GENERATED_PACKAGE + "." + simpleName + "_conditions";
+        MutantClassLoader classLoader = new MutantClassLoader(copier.getOriginalClass().getClassLoader());
+        try {
+            Class<?> copy = classLoader.defineAndLink(binaryName, generateBytecode(copier, binaryName.replace('.', '/')));
+            instrumentedCopy = new Mutant(simpleName, null, copy.asSubclass(Problem.class));
+        } catch(ClassNotFoundException e) {
+            throw new RuntimeException("The copy of the original with condition probes can not be loaded.", e);
+        }
+    }
+
+    public List<String> getConditions() {
+        return Collections.unmodifiableList(conditions);
+    }
+
+    public Report analyze(List<? extends Problem> problems) {
+        Decoder decoder = new Decoder();
+        ConditionProbes probes = ConditionProbes.start(capacity);
+        Map<Long, Integer> firstInputs = new LinkedHashMap<>();
+        int truncated = 0;
+        try {
+            for(int problem = 0; problem < problems.size(); problem ++) {
+                long[] vectors = decoder.record(problems.get(problem), probes);
+                if(vectors == null) {
+                    truncated ++;
+                    continue;
+                }
+                for(long vector : vectors) {
+                    firstInputs.putIfAbsent(vector, problem);
+                }
+            }
+        } finally {
+            probes.finish();
+        }
+
+        int[][] pairs = new int[conditions.size()][];
+        List<List<Long>> vectorsByDecision = groupByDecision(firstInputs.keySet());
+        for(List<Long> vectors : vectorsByDecision) {
+            for(int first = 0; first < vectors.size(); first ++) {
+                for(int second = first + 1; second < vectors.size(); second ++) {
+                    int condition = pairedCondition(vectors.get(first), vectors.get(second));
+                    if(condition >= 0 && pairs[condition] == null) {
+                        pairs[condition] = new int[] {firstInputs.get(vectors.get(first)), firstInputs.get(vectors.get(second))};
+                    }
+                }
+            }
+        }
+        return new Report(conditions, pairs, firstInputs.size(), truncated);
+    }
+
+    /**
+     * Inputs from the corpus which pair conditions the suite does not, in the order they were chosen. Each time the
+     * input pairing the most conditions still without a pair is chosen, the first one on a tie, until no input pairs
+     * any more of them. Only the first input of the corpus with each set of new evaluations is kept, the other inputs
+     * are dropped as soon as they are run, so the corpus can be a stream of any length.
+     */
+    public List<Problem> fillGaps(List<? extends Problem> suite, Iterable<? extends Problem> corpus) {
+        Set<Long> known = new HashSet<>();
+        Map<List<Long>, Problem> candidates = new LinkedHashMap<>();
+        Decoder decoder = new Decoder();
+        ConditionProbes probes = ConditionProbes.start(capacity);
+        try {
+            for(Problem problem : suite) {
+                long[] vectors = decoder.record(problem, probes);
+                if(vectors != null) {
+                    for(long vector : vectors) {
+                        known.add(vector);
+                    }
+                }
+            }
+            for(Problem problem : corpus) {
+                long[] vectors = decoder.record(problem, probes);
+                if(vectors == null) {
+                    continue;
+                }
+                List<Long> unknown = null;
+                for(long vector : vectors) {
+                    if(!known.contains(vector)) {
+                        if(unknown == null) {
+                            unknown = new ArrayList<>();
+                        }
+                        unknown.add(vector);
+                    }
+                }
+                if(unknown != null) {
+                    candidates.putIfAbsent(unknown, problem);
+                }
+            }
+        } finally {
+            probes.finish();
+        }
+
+        List<List<Long>> vectorsByDecision = groupByDecision(known);
+        BitSet paired = new BitSet(conditions.size());
+        for(List<Long> vectors : vectorsByDecision) {
+            for(long vector : vectors) {
+                pairWith(vector, vectors, paired, paired);
+            }
+        }
+
+        List<Problem> chosen = new ArrayList<>();
+        while(true) {
+            List<Long> best = null;
+            BitSet bestPaired = new BitSet();
+            for(List<Long> candidate : candidates.keySet()) {
+                BitSet newlyPaired = new BitSet();
+                for(long vector : candidate) {
+                    pairWith(vector, vectorsByDecision.get(decision(vector)), paired, newlyPaired);
+                    pairWith(vector, candidate, paired, newlyPaired);
+                }
+                if(newlyPaired.cardinality() > bestPaired.cardinality()) {
+                    best = candidate;
+                    bestPaired = newlyPaired;
+                }
+            }
+            if(best == null) {
+                return chosen;
+            }
+            chosen.add(candidates.remove(best));
+            paired.or(bestPaired);
+            for(long vector : best) {
+                vectorsByDecision.get(decision(vector)).add(vector);
+            }
+        }
+    }
+
+    /**
+     * Adds to newlyPaired the conditions which the vector pairs with one of the others and which are not paired yet
+     */
+    private void pairWith(long vector, List<Long> others, BitSet paired, BitSet newlyPaired) {
+        for(long other : others) {
+            int condition = pairedCondition(vector, other);
+            if(condition >= 0 && !paired.get(condition)) {
+                newlyPaired.set(condition);
+            }
+        }
+    }
+
+    /**
+     * The condition of which the two evaluations are an independence pair, or -1
+     */
+    private int pairedCondition(long first, long second) {
+        if(decision(first) != decision(second) || exit(first) == exit(second)) {
+            return -1;
+        }
+        int different = (values(first) ^ values(second)) & evaluated(first) & evaluated(second);
+        if(Integer.bitCount(different) != 1) {
+            return -1;
+        }
+        return conditionsOfDecisions.get(decision(first))[Integer.numberOfTrailingZeros(different)];
+    }
+
+    private List<List<Long>> groupByDecision(Set<Long> vectors) {
+        List<List<Long>> vectorsByDecision = new ArrayList<>();
+        for(int decision = 0; decision < conditionsOfDecisions.size(); decision ++) {
+            vectorsByDecision.add(new ArrayList<>());
+        }
+        for(long vector : vectors) {
+            vectorsByDecision.get(decision(vector)).add(vector);
+        }
+        return vectorsByDecision;
+    }
+
+    /**
+     * The decision in the bits 48 to 63, the outcome of the decision in 40 to 47, the evaluated conditions in 20 to
+     * 39 and their outcomes in 0 to 19
+     */
+    private static long vector(int decision, int exit, int evaluated, int values) {
+        return (long) decision << 48 | (long) exit << 40 | (long) evaluated << 20 | values;
+    }
+
+    private static int decision(long vector) {
+        return (int) (vector >>> 48);
+    }
+
+    private static int exit(long vector) {
+        return (int) (vector >>> 40) & 0xff;
+    }
+
+    private static int evaluated(long vector) {
+        return (int) (vector >>> 20) & 0xfffff;
+    }
+
+    private static int values(long vector) {
+        return (int) vector & 0xfffff;
+    }
+
+    private byte[] generateBytecode(BytecodeCopier copier, String internalName) {
+        ClassNode original = copier.readOriginal();
+        ClassNode copy = BytecodeCopier.newSubclass(original, internalName);
+        for(MethodNode method : copier.copyMethods(original, copy)) {
+            addProbes(method);
+        }
+        return BytecodeCopier.write(copy);
+    }
+
+    /**
+     * Finds the decisions of the method and where the outcomes of their conditions lead, then puts a probe before
+     * every conditional jump, which gets a copy of the compared values
+     */
+    private void addProbes(MethodNode method) {
+        AbstractInsnNode[] instructions = method.instructions.toArray();
+        Map<AbstractInsnNode, Integer> indexes = new HashMap<>();
+        for(int index = 0; index < instructions.length; index ++) {
+            indexes.put(instructions[index], index);
+        }
+
+        List<List<Integer>> decisions = new ArrayList<>();
+        List<Integer> lines = new ArrayList<>();
+        int line = 0;
+        for(int index = 0; index < instructions.length; index ++) {
+            if(instructions[index] instanceof LineNumberNode) {
+                line = ((LineNumberNode) instructions[index]).line;
+            } else if(isConditionalJump(instructions[index])) {
+                int last = decisions.size() - 1;
+                if(last >= 0 && lines.get(last) == line && continuesDecision(instructions, indexes, decisions.get(last), index)) {
+                    decisions.get(last).add(index);
+                } else {
+                    decisions.add(new ArrayList<>(Collections.singletonList(index)));
+                    lines.add(line);
+                }
+            }
+        }
+
+        for(int decision = 0; decision < decisions.size(); decision ++) {
+            List<Integer> jumps = decisions.get(decision);
+            if(jumps.size() > MAXIMUM_CONDITIONS_PER_DECISION) {
+                throw new RuntimeException("A decision of " + method.name + " has too many conditions.");
+            }
+            int decisionIndex = conditionsOfDecisions.size();
+            Set<Integer> starts = conditionStarts(instructions, jumps);
+            Map<Integer, Integer> exits = new HashMap<>();
+            int[] conditionsOfDecision = new int[jumps.size()];
+            for(int conditionIndex = 0; conditionIndex < jumps.size(); conditionIndex ++) {
+                int jump = jumps.get(conditionIndex);
+                JumpInsnNode instruction = (JumpInsnNode) instructions[jump];
+                // an outcome leading to where a later condition of the decision starts goes on to that condition
+                int[] conditionExits = new int[2];
+                int[] targets = targets(instructions, indexes, jump);
+                for(int outcome = 0; outcome < 2; outcome ++) {
+                    conditionExits[outcome] = targets[outcome] > jump && starts.contains(targets[outcome])
+                            ? CONTINUES : exits.computeIfAbsent(targets[outcome], key -> exits.size());
+                }
+
+                conditionsOfDecision[conditionIndex] = conditions.size();
+                String description = method.name + " line " + lines.get(decision) + ", condition " + (conditionIndex + 1)
+                        + " of " + jumps.size() + " (" + OpcodeNames.of(instruction.getOpcode()) + ")";
+                conditions.add(description);
+                table = Arrays.copyOf(table, conditions.size() * FIELDS);
+                int row = conditionsOfDecision[conditionIndex] * FIELDS;
+                table[row + DECISION] = decisionIndex;
+                table[row + INDEX] = conditionIndex;
+                table[row + EXIT_IF_FALSE] = conditionExits[0];
+                table[row + EXIT_IF_TRUE] = conditionExits[1];
+                method.instructions.insertBefore(instruction, newProbe(instruction.getOpcode(), conditionsOfDecision[conditionIndex]));
+            }
+            conditionsOfDecisions.add(conditionsOfDecision);
+        }
+    }
+
+    /**
+     * Whether the jump is one more condition of the decision made of the jumps, which are on its line. It is not after
+     * a backward jump, which closes a loop, or after a goto, a return, a throw or a switch, which end a basic block.
+     * And the conditions together still leave the decision to two places only, its true and its false outcome: the
+     * condition of a for loop and the condition of an if inside it, written on one line, leave to three.
+     */
+    private static boolean continuesDecision(AbstractInsnNode[] instructions, Map<AbstractInsnNode, Integer> indexes,
+                                             List<Integer> jumps, int jump) {
+        int previous = jumps.get(jumps.size() - 1);
+        if(indexes.get(((JumpInsnNode) instructions[previous]).label) < previous) {
+            return false;
+        }
+        for(int index = previous + 1; index < jump; index ++) {
+            int opcode = instructions[index].getOpcode();
+            if(opcode == Opcodes.GOTO || opcode == Opcodes.JSR || opcode == Opcodes.TABLESWITCH || opcode == Opcodes.LOOKUPSWITCH
+                    || opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN || opcode == Opcodes.ATHROW) {
+                return false;
+            }
+        }
+
+        List<Integer> extended = new ArrayList<>(jumps);
+        extended.add(jump);
+        Set<Integer> starts = conditionStarts(instructions, extended);
+        Set<Integer> exits = new HashSet<>();
+        for(int condition : extended) {
+            for(int target : targets(instructions, indexes, condition)) {
+                if(target <= condition || !starts.contains(target)) {
+                    exits.add(target);
+                }
+            }
+        }
+        return exits.size() <= 2;
+    }
+
+    /**
+     * Where the conditions after the first one start: right after the jump of the condition before them
+     */
+    private static Set<Integer> conditionStarts(AbstractInsnNode[] instructions, List<Integer> jumps) {
+        Set<Integer> starts = new HashSet<>();
+        for(int condition = 0; condition < jumps.size() - 1; condition ++) {
+            starts.add(firstExecuted(instructions, jumps.get(condition) + 1));
+        }
+        return starts;
+    }
+
+    /**
+     * The first instruction executed when the jump is not taken and when it is taken
+     */
+    private static int[] targets(AbstractInsnNode[] instructions, Map<AbstractInsnNode, Integer> indexes, int jump) {
+        return new int[] {firstExecuted(instructions, jump + 1),
+                firstExecuted(instructions, indexes.get(((JumpInsnNode) instructions[jump]).label))};
+    }
+
+    private static InsnList newProbe(int opcode, int condition) {
+        InsnList probe = new InsnList();
+        boolean references = opcode == Opcodes.IF_ACMPEQ || opcode == Opcodes.IF_ACMPNE
+                || opcode == Opcodes.IFNULL || opcode == Opcodes.IFNONNULL;
+        boolean twoOperands = opcode >= Opcodes.IF_ICMPEQ && opcode <= Opcodes.IF_ACMPNE;
+        if(twoOperands) {
+            probe.add(new InsnNode(Opcodes.DUP2));
+        } else {
+            probe.add(new InsnNode(Opcodes.DUP));
+            probe.add(new InsnNode(references ? Opcodes.ACONST_NULL : Opcodes.ICONST_0));
+        }
+        probe.add(new LdcInsnNode(opcode));
+        probe.add(new LdcInsnNode(condition));
+        probe.add(new MethodInsnNode(Opcodes.INVOKESTATIC, PROBES, references ? "compareReferences" : "compare",
+                references ? "(Ljava/lang/Object;Ljava/lang/Object;II)V" : "(IIII)V", false));
+        return probe;
+    }
+
+    private static boolean isConditionalJump(AbstractInsnNode instruction) {
+        int opcode = instruction.getOpcode();
+        return opcode >= Opcodes.IFEQ && opcode <= Opcodes.IF_ACMPNE || opcode == Opcodes.IFNULL || opcode == Opcodes.IFNONNULL;
+    }
+
+    /**
+     * The index of the first instruction from the index on which is not a label, a line number or a frame
+     */
+    private static int firstExecuted(AbstractInsnNode[] instructions, int index) {
+        while(index < instructions.length && instructions[index].getOpcode() < 0) {
+            index ++;
+        }
+        return index;
+    }
+
+    /**
+     * Splits the probe entries of the executions into evaluations, with buffers reused from one execution to the next
+     */
+    private final class Decoder {
+
+        private final int[] evaluated = new int[conditionsOfDecisions.size()];
+        private final int[] values = new int[conditionsOfDecisions.size()];
+        private final long[] lastVectors = new long[conditionsOfDecisions.size()];
+        private long[] vectors = new long[16];
+
+        /**
+         * The distinct evaluations of one execution, sorted, or null when the ring buffer overflowed during it
+         */
+        private long[] record(Problem problem, ConditionProbes probes) {
+            long from = probes.getWritten();
+            try {
+                instrumentedCopy.instantiate(problem).solve();
+            } catch(RuntimeException e) {
+                // the errors thrown by solve() are outcomes of its decisions as well
+            }
+            long to = probes.getWritten();
+            if(to - from > probes.getCapacity()) {
+                return null;
+            }
+
+            Arrays.fill(evaluated, CLOSED);
+            Arrays.fill(lastVectors, -1);
+            int size = 0;
+            for(long index = from; index < to; index ++) {
+                int entry = probes.get(index);
+                int outcome = entry & 1;
+                int row = (entry >>> 1) * FIELDS;
+                int decision = table[row + DECISION];
+                int conditionIndex = table[row + INDEX];
+                // a decision entered past its first condition starts a new evaluation as well, CLOSED would fill the vector
+                if(conditionIndex == 0 || evaluated[decision] == CLOSED) {
+                    evaluated[decision] = 0;
+                    values[decision] = 0;
+                }
+                evaluated[decision] |= 1 << conditionIndex;
+                values[decision] |= outcome << conditionIndex;
+                int exit = table[row + EXIT_IF_FALSE + outcome];
+                if(exit != CONTINUES) {
+                    long vector = vector(decision, exit, evaluated[decision], values[decision]);
+                    evaluated[decision] = CLOSED;
+                    // a loop repeats the same evaluation many times in a row
+                    if(vector != lastVectors[decision]) {
+                        lastVectors[decision] = vector;
+                        if(size == vectors.length) {
+                            vectors = Arrays.copyOf(vectors, 2 * size);
+                        }
+                        vectors[size ++] = vector;
+                    }
+                }
+            }
+
+            Arrays.sort(vectors, 0, size);
+            int distinct = 0;
+            for(int vector = 0; vector < size; vector ++) {
+                if(distinct == 0 || vectors[distinct - 1] != vectors[vector]) {
+                    vectors[distinct ++] = vectors[vector];
+                }
+            }
+            return Arrays.copyOf(vectors, distinct);
+        }
+    }
+
+    public static final class Report {
+
+        private final List<String> conditions;
+        private final int[][] pairs;
+        private final int numberOfVectors;
+        private final int numberOfTruncatedExecutions;
+
+        Report(List<String> conditions, int[][] pairs, int numberOfVectors, int numberOfTruncatedExecutions) {
+            this.conditions = Collections.unmodifiableList(conditions);
+            this.pairs = pairs;
+            this.numberOfVectors = numberOfVectors;
+            this.numberOfTruncatedExecutions = numberOfTruncatedExecutions;
+        }
+
+        public List<String> getConditions() {
+            return conditions;
+        }
+
+        public boolean isPaired(int condition) {
+            return pairs[condition] != null;
+        }
+
+        /**
+         * The indexes of the two inputs of the first independence pair found, or null
+         */
+        public int[] getPair(int condition) {
+            return pairs[condition] == null ? null : pairs[condition].clone();
+        }
+
+        public List<String> getUnpairedConditions() {
+            List<String> unpaired = new ArrayList<>();
+            for(int condition = 0; condition < conditions.size(); condition ++) {
+                if(!isPaired(condition)) {
+                    unpaired.add(conditions.get(condition));
+                }
+            }
+            return unpaired;
+        }
+
+        /**
+         * How many distinct evaluations of the decisions the inputs made
+         */
+        public int getNumberOfVectors() {
+            return numberOfVectors;
+        }
+
+        /**
+         * How many executions overflowed the ring buffer and were left out
+         */
+        public int getNumberOfTruncatedExecutions() {
+            return numberOfTruncatedExecutions;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            for(int condition = 0; condition < conditions.size(); condition ++) {
+                builder.append(conditions.get(condition)).append(": ");
+                if(isPaired(condition)) {
+                    builder.append("paired by the inputs ").append(pairs[condition][0]).append(" and ").append(pairs[condition][1]);
+                } else {
+                    builder.append("no independence pair");
+                }
+                builder.append(System.lineSeparator());
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package main.mutation;
+
+import main.Problem;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * A Problem subclass which changes the behaviour of solve(), either one of the classes inside main/mutants or one
+ * generated by the MutantGenerator. Every mutant class has a constructor taking the original Problem.
+ *
+ * The mutants of a MutantSchemata share one class instead, whose constructor takes the id of the mutant as well.
+ */
+public class Mutant {
+
+    static final int NO_SCHEMATA_ID = -1;
+
+    private final String id;
+    private final Mutation mutation;
+    private final Constructor<? extends Problem> constructor;
+    private final int schemataId;
+
+    Mutant(String id, Mutation mutation, Class<? extends Problem> mutantClass) {
+        this(id, mutation, mutantClass, NO_SCHEMATA_ID);
+    }
+
+    Mutant(String id, Mutation mutation, Class<? extends Problem> mutantClass, int schemataId) {
+        this.id = id;
+        this.mutation = mutation;
+        this.schemataId = schemataId;
+        try {
+            this.constructor = schemataId == NO_SCHEMATA_ID
+                    ? mutantClass.getConstructor(Problem.class)
+                    : mutantClass.getConstructor(Problem.class, int.class);
+        } catch(NoSuchMethodException e) {
+            throw new RuntimeException("The mutant " + mutantClass.getName() + " has no constructor taking a Problem.", e);
+        }
+    }
+
+    /**
+     * Wraps one of the mutants written by hand, like main.mutants.Problem_solve_ROR_32
+     */
+    public static Mutant of(Class<? extends Problem> mutantClass) {
+        return new Mutant(mutantClass.getSimpleName(), null, mutantClass);
+    }
+
+    public Problem instantiate(Problem problem) {
+        try {
+            return schemataId == NO_SCHEMATA_ID ? constructor.newInstance(problem) : constructor.newInstance(problem, schemataId);
+        } catch(InstantiationException | IllegalAccessException e) {
+            throw new RuntimeException("The mutant " + id + " can not be instantiated.", e);
+        } catch(InvocationTargetException e) {
+            throw new RuntimeException("The mutant " + id + " can not be instantiated.", e.getCause());
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * The change made by the MutantGenerator, null for the mutants written by hand
+     */
+    public Mutation getMutation() {
+        return mutation;
+    }
+
+    /**
+     * The id the class of a MutantSchemata switches on, or -1 for a mutant with a class of its own
+     */
+    public int getSchemataId() {
+        return schemataId;
+    }
+
+    public Class<? extends Problem> getMutantClass() {
+        return constructor.getDeclaringClass();
+    }
+
+    @Override
+    public String toString() {
+        return mutation != null ? mutation.toString() : id;
+    }
+}
@@ -0,0 +1,25 @@
+package main.mutation;
+
+/**
+ * Defines the classes generated in memory. One loader is reused for all the mutants of a run, every mutant class has
+ * its own name, and they are all unloaded together with the loader.
+ */
+public class MutantClassLoader extends ClassLoader {
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    public MutantClassLoader(ClassLoader parent) {
+        super(parent);
+    }
+
+    /**
+     * Defines the class and links it, so bytecode that does not pass the verifier fails here with a LinkageError,
+     * instead of failing later, when it is first run.
+     */
+    public Class<?> defineAndLink(String binaryName, byte[] bytecode) throws ClassNotFoundException {
+        defineClass(binaryName, bytecode, 0, bytecode.length);
+        return Class.forName(binaryName, true, this);
+    }
+}
@@ -0,0 +1,225 @@
+package main.mutation;
+
+import main.Problem;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.MethodNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates the mutants of a Problem class straight from its bytecode, in memory, instead of copying the class by hand
+ * for every mutant like the ones inside main/mutants.
+ *
+ * The mutations of the chosen methods (solve and getMirror by default) are found by the MutationFinder. For each
+ * mutation, a subclass of the original class is made by the BytecodeCopier, holding the mutated copy of the methods,
+ * and is defined through one reused MutantClassLoader. The mutants which do not pass the bytecode verifier (like the
+ * deletion of the statement which gives a local variable its first value) are stillborn and left out, the same way
+ * the mutants which do not compile are left out from the source mutants.
+ */
+public class MutantGenerator {
+
+    public static final String GENERATED_PACKAGE = "main.mutants.generated";
+
+    private static final List<String> DEFAULT_METHODS = Arrays.asList("solve", "getMirror");
+
+    private final BytecodeCopier copier;
+    private final MutantClassLoader classLoader;
+
+    private List<Mutation> mutations;
+    private List<Mutant> mutants;
+    private final Map<MutationMode, List<Mutant>> mutantsByMode = new EnumMap<>(MutationMode.class);
+    private Mutant original;
+    private Long methodsHash;
+    private final List<Mutation> stillbornMutations = new ArrayList<>();
+    private final Map<Class<? extends Problem>, Mutant> instrumentedMutants = new HashMap<>();
+
+    public MutantGenerator() {
+        this(Problem.class, DEFAULT_METHODS);
+    }
+
+    public MutantGenerator(Class<? extends Problem> originalClass, List<String> methodNames) {
+        this.copier = new BytecodeCopier(originalClass, methodNames);
+        this.classLoader = new MutantClassLoader(originalClass.getClassLoader());
+    }
+
+    /**
+     * Every mutation of the chosen methods, in the order of the methods and of their instructions
+     */
+    public synchronized List<Mutation> findMutations() {
+        if(mutations == null) {
+            mutations = MutationFinder.find(copier.readOriginal(), copier.getMethodNames());
+        }
+        return mutations;
+    }
+
+    /**
+     * Defines a class for every mutation, the first call generates them and the following ones return the same list.
+     */
+    public synchronized List<Mutant> generate() {
+        if(mutants == null) {
+            List<Mutant> generated = new ArrayList<>();
+            for(Mutation mutation : findMutations()) {
+                String binaryName = GENERATED_PACKAGE + "." + mutation.getId();
+                byte[] bytecode = generateBytecode(mutation, binaryName.replace('.', '/'));
+                try {
+                    Class<?> mutantClass = classLoader.defineAndLink(binaryName, bytecode);
+                    generated.add(new Mutant(mutation.getId(), mutation, mutantClass.asSubclass(Problem.class)));
+                } catch(LinkageError | ClassNotFoundException e) {
+                    stillbornMutations.add(mutation);
+                }
+            }
+            mutants = Collections.unmodifiableList(generated);
+        }
+        return mutants;
+    }
+
+    /**
+     * The same mutants as generate(), in the same order, made for the given mode. The weak and the firm mutants throw
+     * the InfectionSignal at the first difference from the original, see InfectionInstrumenter.
+     */
+    public synchronized List<Mutant> generate(MutationMode mode) {
+        if(mode == MutationMode.STRONG) {
+            return generate();
+        }
+        List<Mutant> modeMutants = mutantsByMode.get(mode);
+        if(modeMutants == null) {
+            List<Mutant> generated = new ArrayList<>();
+            for(Mutant mutant : generate()) {
+                Mutation mutation = mutant.getMutation();
+                String binaryName = GENERATED_PACKAGE + "." + mutation.getId() + "_" + mode.name().toLowerCase();
+                try {
+                    Class<?> mutantClass = classLoader.defineAndLink(binaryName, generateBytecode(mutation, binaryName.replace('.', '/'), mode));
+                    generated.add(new Mutant(mutation.getId(), mutation, mutantClass.asSubclass(Problem.class)));
+                } catch(ClassNotFoundException e) {
+                    throw new RuntimeException("The " + mode + " mutant " + mutation.getId() + " can not be loaded.", e);
+                }
+            }
+            modeMutants = Collections.unmodifiableList(generated);
+            mutantsByMode.put(mode, modeMutants);
+        }
+        return modeMutants;
+    }
+
+    /**
+     * The mutations whose class did not pass the verifier, known after generate()
+     */
+    public synchronized List<Mutation> getStillbornMutations() {
+        return Collections.unmodifiableList(new ArrayList<>(stillbornMutations));
+    }
+
+    /**
+     * A copy of the original class made the same way as the mutants, but without any mutation. It is used to find out
+     * how many ticks of the ExecutionBudget the original needs on every test case.
+     */
+    public synchronized Mutant getOriginal() {
+        if(original == null) {
+            String binaryName = GENERATED_PACKAGE + "." + getOriginalClass().getSimpleName() + "_original";
+            try {
+                Class<?> originalCopy = classLoader.defineAndLink(binaryName, generateBytecode(null, binaryName.replace('.', '/')));
+                original = new Mutant(getOriginalClass().getSimpleName(), null, originalCopy.asSubclass(Problem.class));
+            } catch(ClassNotFoundException e) {
+                throw new RuntimeException("The copy of " + getOriginalClass().getName() + " can not be loaded.", e);
+            }
+        }
+        return original;
+    }
+
+    /**
+     * One of the mutants written by hand, like main.mutants.Problem_mirror_AOIS_59, loaded again with the calls to the
+     * ExecutionBudget, so it can be stopped the same way as the generated mutants.
+     */
+    public synchronized Mutant instrument(Class<? extends Problem> mutantClass) {
+        Mutant instrumented = instrumentedMutants.get(mutantClass);
+        if(instrumented == null) {
+            ClassNode mutant = new ClassNode();
+            new ClassReader(BytecodeCopier.readBytecode(mutantClass)).accept(mutant, ClassReader.SKIP_FRAMES);
+            for(MethodNode method : mutant.methods) {
+                BudgetInstrumenter.instrument(method);
+            }
+            try {
+                Class<?> instrumentedClass = classLoader.defineAndLink(mutantClass.getName(), BytecodeCopier.write(mutant));
+                instrumented = new Mutant(mutantClass.getSimpleName(), null, instrumentedClass.asSubclass(Problem.class));
+            } catch(ClassNotFoundException e) {
+                throw new RuntimeException("The mutant " + mutantClass.getName() + " can not be loaded.", e);
+            }
+            instrumentedMutants.put(mutantClass, instrumented);
+        }
+        return instrumented;
+    }
+
+    /**
+     * The bytecode of a subclass of the original class with the given internal name (like main/mutants/generated/X),
+     * which holds a copy of the chosen methods, and of the methods they call, with the mutation applied, if there is
+     * one. Every loop of the copied methods ticks the ExecutionBudget.
+     */
+    public byte[] generateBytecode(Mutation mutation, String internalName) {
+        return generateBytecode(mutation, internalName, MutationMode.STRONG);
+    }
+
+    public byte[] generateBytecode(Mutation mutation, String internalName, MutationMode mode) {
+        ClassNode original = copier.readOriginal();
+        ClassNode mutant = BytecodeCopier.newSubclass(original, internalName);
+        for(MethodNode method : copier.copyMethods(original, mutant)) {
+            if(mutation != null && method.name.equals(mutation.getMethodName()) && method.desc.equals(mutation.getMethodDescriptor())) {
+                if(mode == MutationMode.WEAK) {
+                    InfectionInstrumenter.instrumentWeak(method, mutation);
+                } else if(mode == MutationMode.FIRM) {
+                    InfectionInstrumenter.instrumentFirm(mutant, method, mutation);
+                } else {
+                    mutation.applyTo(method);
+                }
+            }
+        }
+        for(MethodNode method : mutant.methods) {
+            BudgetInstrumenter.instrument(method);
+        }
+        return BytecodeCopier.write(mutant);
+    }
+
+    public Class<? extends Problem> getOriginalClass() {
+        return copier.getOriginalClass();
+    }
+
+    /**
+     * Copies the chosen methods of the original class into new subclasses, for the other generated classes
+     */
+    BytecodeCopier getCopier() {
+        return copier;
+    }
+
+    public MutantClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    /**
+     * A hash of the methods every mutant holds a copy of, without their line numbers. It changes only when the code
+     * of one of them does, not when another method of the original class is edited.
+     */
+    public synchronized long getMethodsHash() {
+        if(methodsHash == null) {
+            ClassNode original = copier.readOriginal();
+            ClassNode copy = BytecodeCopier.newSubclass(original, original.name + "_hash");
+            for(MethodNode method : copier.copyMethods(original, copy)) {
+                for(AbstractInsnNode instruction : method.instructions.toArray()) {
+                    if(instruction instanceof LineNumberNode) {
+                        method.instructions.remove(instruction);
+                    }
+                }
+            }
+            ClassWriter classWriter = new ClassWriter(0);
+            copy.accept(classWriter);
+            methodsHash = new ContentHash().add(classWriter.toByteArray()).value();
+        }
+        return methodsHash;
+    }
+}
@@ -0,0 +1,243 @@
+package main.mutation;
+
+import main.Problem;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.FieldNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LocalVariableNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * All the mutants of a MutantGenerator inside a single class, a mutant schemata: every mutated range of instructions
+ * is guarded by a switch on the id of the mutant, which is given to the constructor, and the original instructions
+ * run when no mutant of that range is chosen. Id 0 is the original.
+ *
+ * One class is loaded and compiled by the JIT once for all the mutants, instead of once for every mutant. The static
+ * methods, like getMirror, can not read the id from the instance, so they get it as an extra last parameter.
+ *
+ * The ranges of the mutations are either the same, or one holds the other, like the deletion of a statement holds the
+ * changes of its operators. The inner ranges are guarded first, so the original instructions of an outer range are
+ * the already guarded inner ones.
+ */
+public class MutantSchemata {
+
+    public static final String MUTANT_ID_FIELD = "mutantId";
+
+    private final MutantGenerator mutantGenerator;
+    private final MutantClassLoader classLoader;
+    private List<Mutant> mutants;
+
+    public MutantSchemata(MutantGenerator mutantGenerator) {
+        this.mutantGenerator = mutantGenerator;
+        this.classLoader = new MutantClassLoader(mutantGenerator.getOriginalClass().getClassLoader());
+    }
+
+    /**
+     * The mutants which are not stillborn for the MutantGenerator, sharing one class. The first call defines the
+     * class and the following ones return the same list.
+     */
+    public synchronized List<Mutant> generate() {
+        if(mutants == null) {
+            List<Mutation> mutations = new ArrayList<>();
+            for(Mutant mutant : mutantGenerator.generate()) {
+                mutations.add(mutant.getMutation());
+            }
+
+            String binaryName = MutantGenerator.GENERATED_PACKAGE + "."
+                    + mutantGenerator.getOriginalClass().getSimpleName() + "_schemata";
+            Class<? extends Problem> schemataClass;
+            try {
+                schemataClass = classLoader.defineAndLink(binaryName, generateBytecode(mutations, binaryName.replace('.', '/')))
+                        .asSubclass(Problem.class);
+            } catch(ClassNotFoundException e) {
+                throw new RuntimeException("The mutant schemata can not be loaded.", e);
+            }
+
+            List<Mutant> generated = new ArrayList<>();
+            for(int i = 0; i < mutations.size(); i ++) {
+                generated.add(new Mutant(mutations.get(i).getId(), mutations.get(i), schemataClass, i + 1));
+            }
+            mutants = Collections.unmodifiableList(generated);
+        }
+        return mutants;
+    }
+
+    /**
+     * The bytecode of the schemata class, in which mutation i of the list has the id i + 1
+     */
+    byte[] generateBytecode(List<Mutation> mutations, String internalName) {
+        BytecodeCopier copier = mutantGenerator.getCopier();
+        ClassNode original = copier.readOriginal();
+        ClassNode schemata = BytecodeCopier.newSubclass(original, internalName);
+        schemata.fields.add(new FieldNode(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL, MUTANT_ID_FIELD, "I", null, null));
+        schemata.methods.add(newSchemataConstructor(original, internalName));
+
+        List<MethodNode> methods = copier.copyMethods(original, schemata);
+        Set<String> staticMethods = new HashSet<>();
+        for(MethodNode method : methods) {
+            if((method.access & Opcodes.ACC_STATIC) != 0) {
+                staticMethods.add(method.name + method.desc);
+            }
+        }
+
+        for(MethodNode method : methods) {
+            boolean isStatic = (method.access & Opcodes.ACC_STATIC) != 0;
+            int idVariable = isStatic ? (Type.getArgumentsAndReturnSizes(method.desc) >> 2) - 1 : -1;
+            Set<AbstractInsnNode> idLoads = Collections.newSetFromMap(new HashMap<>());
+
+            Map<Long, List<Integer>> ranges = new LinkedHashMap<>();
+            for(int i = 0; i < mutations.size(); i ++) {
+                Mutation mutation = mutations.get(i);
+                if(mutation.getMethodName().equals(method.name) && mutation.getMethodDescriptor().equals(method.desc)) {
+                    long range = ((long) mutation.getFrom() << 32) | mutation.getTo();
+                    ranges.computeIfAbsent(range, key -> new ArrayList<>()).add(i);
+                }
+            }
+            addGuards(method, mutations, ranges, internalName, idVariable, idLoads);
+
+            for(AbstractInsnNode instruction : method.instructions.toArray()) {
+                if(instruction instanceof MethodInsnNode) {
+                    MethodInsnNode call = (MethodInsnNode) instruction;
+                    if(call.owner.equals(internalName) && staticMethods.contains(call.name + call.desc)) {
+                        AbstractInsnNode idLoad = loadId(internalName, idVariable);
+                        idLoads.add(idLoad);
+                        method.instructions.insertBefore(call, idLoad);
+                        if(idVariable < 0) {
+                            method.instructions.insertBefore(idLoad, new VarInsnNode(Opcodes.ALOAD, 0));
+                        }
+                        call.desc = withIdParameter(call.desc);
+                    }
+                }
+            }
+
+            if(isStatic) {
+                shiftVariables(method, idVariable, idLoads);
+                method.desc = withIdParameter(method.desc);
+            }
+            BudgetInstrumenter.instrument(method);
+        }
+        return BytecodeCopier.write(schemata);
+    }
+
+    private static void addGuards(MethodNode method, List<Mutation> mutations, Map<Long, List<Integer>> ranges,
+                                  String internalName, int idVariable, Set<AbstractInsnNode> idLoads) {
+        AbstractInsnNode[] instructions = method.instructions.toArray();
+        Map<LabelNode, LabelNode> labels = Mutation.sameLabels(instructions);
+        Map<AbstractInsnNode, AbstractInsnNode> firstNodes = new HashMap<>();
+        Map<AbstractInsnNode, AbstractInsnNode> lastNodes = new HashMap<>();
+
+        List<Long> sortedRanges = new ArrayList<>(ranges.keySet());
+        sortedRanges.sort((range1, range2) -> Long.compare(length(range1), length(range2)));
+
+        for(long range : sortedRanges) {
+            AbstractInsnNode from = instructions[(int) (range >>> 32)];
+            AbstractInsnNode last = instructions[(int) range - 1];
+            AbstractInsnNode first = firstNodes.getOrDefault(from, from);
+            last = lastNodes.getOrDefault(last, last);
+
+            LabelNode originalLabel = new LabelNode();
+            LabelNode endLabel = new LabelNode();
+            List<Integer> mutationIndexes = ranges.get(range);
+
+            InsnList guard = new InsnList();
+            if(idVariable < 0) {
+                guard.add(new VarInsnNode(Opcodes.ALOAD, 0));
+            }
+            AbstractInsnNode idLoad = loadId(internalName, idVariable);
+            idLoads.add(idLoad);
+            guard.add(idLoad);
+
+            int[] keys = new int[mutationIndexes.size()];
+            LabelNode[] caseLabels = new LabelNode[mutationIndexes.size()];
+            for(int i = 0; i < keys.length; i ++) {
+                keys[i] = mutationIndexes.get(i) + 1;
+                caseLabels[i] = new LabelNode();
+            }
+            guard.add(new LookupSwitchInsnNode(originalLabel, keys, caseLabels));
+            for(int i = 0; i < keys.length; i ++) {
+                guard.add(caseLabels[i]);
+                guard.add(mutations.get(mutationIndexes.get(i)).getReplacement().build(instructions, labels));
+                guard.add(new JumpInsnNode(Opcodes.GOTO, endLabel));
+            }
+            guard.add(originalLabel);
+
+            AbstractInsnNode guardStart = guard.getFirst();
+            method.instructions.insertBefore(first, guard);
+            method.instructions.insert(last, endLabel);
+            firstNodes.put(from, guardStart);
+            lastNodes.put(instructions[(int) range - 1], endLabel);
+        }
+    }
+
+    private static long length(long range) {
+        return (int) range - (range >>> 32);
+    }
+
+    private static AbstractInsnNode loadId(String internalName, int idVariable) {
+        return idVariable < 0
+                ? new FieldInsnNode(Opcodes.GETFIELD, internalName, MUTANT_ID_FIELD, "I")
+                : new VarInsnNode(Opcodes.ILOAD, idVariable);
+    }
+
+    /**
+     * Makes room for the id parameter of a static method, the local variables after the parameters move one slot up.
+     */
+    private static void shiftVariables(MethodNode method, int idVariable, Set<AbstractInsnNode> idLoads) {
+        for(AbstractInsnNode instruction : method.instructions.toArray()) {
+            if(idLoads.contains(instruction)) {
+                continue;
+            }
+            if(instruction instanceof VarInsnNode && ((VarInsnNode) instruction).var >= idVariable) {
+                ((VarInsnNode) instruction).var ++;
+            } else if(instruction instanceof IincInsnNode && ((IincInsnNode) instruction).var >= idVariable) {
+                ((IincInsnNode) instruction).var ++;
+            }
+        }
+        if(method.localVariables != null) {
+            for(LocalVariableNode localVariable : method.localVariables) {
+                if(localVariable.index >= idVariable) {
+                    localVariable.index ++;
+                }
+            }
+        }
+    }
+
+    private static String withIdParameter(String descriptor) {
+        int end = descriptor.indexOf(')');
+        return descriptor.substring(0, end) + "I" + descriptor.substring(end);
+    }
+
+    private static MethodNode newSchemataConstructor(ClassNode original, String internalName) {
+        String problem = Type.getInternalName(Problem.class);
+        MethodNode constructor = new MethodNode(Opcodes.ACC_PUBLIC, "<init>", "(L" + problem + ";I)V", null, null);
+        constructor.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        constructor.instructions.add(new VarInsnNode(Opcodes.ALOAD, 1));
+        constructor.instructions.add(new MethodInsnNode(Opcodes.INVOKESPECIAL, internalName, "<init>",
+                "(L" + problem + ";)V", false));
+        constructor.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        constructor.instructions.add(new VarInsnNode(Opcodes.ILOAD, 2));
+        constructor.instructions.add(new FieldInsnNode(Opcodes.PUTFIELD, internalName, MUTANT_ID_FIELD, "I"));
+        constructor.instructions.add(new InsnNode(Opcodes.RETURN));
+        return constructor;
+    }
+}
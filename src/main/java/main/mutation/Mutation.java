@@ -0,0 +1,157 @@
+package main.mutation;
+
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.MethodNode;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One change of one method: the instructions between positions from (inclusive) and to (exclusive) of the method's
+ * instruction list are replaced by the ones built by the replacement.
+ *
+ * The positions are the ones of a ClassNode read with ClassReader.SKIP_FRAMES, so they are the same every time the
+ * original class is read again.
+ */
+public final class Mutation {
+
+    /**
+     * What the replaced instructions do, which tells how the original and the mutated versions can be compared
+     */
+    public enum Kind {
+        /**
+         * A conditional jump, the instructions consume the compared values
+         */
+        JUMP,
+        /**
+         * Instructions which leave exactly one int on the stack in place of the ints they consume
+         */
+        VALUE,
+        /**
+         * A whole statement, the stack is empty before and after it
+         */
+        STATEMENT
+    }
+
+    /**
+     * Builds the mutated instructions from the original method's instructions, labels included. Jumps to the labels of
+     * the method have to use the labels found in the given map, which are the ones of the method being mutated.
+     */
+    public interface Replacement {
+        InsnList build(AbstractInsnNode[] instructions, Map<LabelNode, LabelNode> labels);
+    }
+
+    private final String id;
+    private final MutationOperator operator;
+    private final Kind kind;
+    private final String methodName;
+    private final String methodDescriptor;
+    private final int from;
+    private final int to;
+    private final int line;
+    private final String description;
+    private final Replacement replacement;
+
+    Mutation(String id, MutationOperator operator, Kind kind, String methodName, String methodDescriptor, int from, int to,
+             int line, String description, Replacement replacement) {
+        this.id = id;
+        this.operator = operator;
+        this.kind = kind;
+        this.methodName = methodName;
+        this.methodDescriptor = methodDescriptor;
+        this.from = from;
+        this.to = to;
+        this.line = line;
+        this.description = description;
+        this.replacement = replacement;
+    }
+
+    /**
+     * Named like the mutants inside main/mutants: Problem_solve_ROR_3, numbered for every method and operator
+     */
+    public String getId() {
+        return id;
+    }
+
+    public MutationOperator getOperator() {
+        return operator;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public String getMethodDescriptor() {
+        return methodDescriptor;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getTo() {
+        return to;
+    }
+
+    /**
+     * The source line of the first replaced instruction, or -1 if the class has no line numbers
+     */
+    public int getLine() {
+        return line;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Replacement getReplacement() {
+        return replacement;
+    }
+
+    /**
+     * Replaces the mutated instructions of the method. Only the real instructions of the range are removed, the labels
+     * and the line numbers stay where they are.
+     */
+    void applyTo(MethodNode method) {
+        applyTo(method, method.instructions.toArray());
+    }
+
+    /**
+     * Same as applyTo(method), with the instructions of the method as they were before anything was added to it, so
+     * the positions of the mutation still point to them.
+     */
+    void applyTo(MethodNode method, AbstractInsnNode[] instructions) {
+        InsnList mutated = replacement.build(instructions, sameLabels(instructions));
+
+        method.instructions.insertBefore(instructions[from], mutated);
+        for(int i = from; i < to; i ++) {
+            if(instructions[i].getOpcode() >= 0) {
+                method.instructions.remove(instructions[i]);
+            }
+        }
+    }
+
+    /**
+     * The labels of the instructions mapped to themselves, for building a replacement inside the same method
+     */
+    static Map<LabelNode, LabelNode> sameLabels(AbstractInsnNode[] instructions) {
+        Map<LabelNode, LabelNode> labels = new HashMap<>();
+        for(AbstractInsnNode instruction : instructions) {
+            if(instruction instanceof LabelNode) {
+                labels.put((LabelNode) instruction, (LabelNode) instruction);
+            }
+        }
+        return labels;
+    }
+
+    @Override
+    public String toString() {
+        return id + " (line " + line + "): " + description;
+    }
+}
@@ -0,0 +1,292 @@
+package main.mutation;
+
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the mutation points of a class: every MutationOperator is tried on every reachable instruction of the chosen
+ * methods, and each place where it fits gives a Mutation, named and numbered like the mutants inside main/mutants.
+ */
+final class MutationFinder {
+
+    private static final int[] INT_COMPARISONS = new int[] {Opcodes.IF_ICMPEQ, Opcodes.IF_ICMPNE, Opcodes.IF_ICMPLT,
+            Opcodes.IF_ICMPGE, Opcodes.IF_ICMPGT, Opcodes.IF_ICMPLE};
+    private static final int[] ZERO_COMPARISONS = new int[] {Opcodes.IFEQ, Opcodes.IFNE, Opcodes.IFLT, Opcodes.IFGE,
+            Opcodes.IFGT, Opcodes.IFLE};
+    private static final int[] REFERENCE_COMPARISONS = new int[] {Opcodes.IF_ACMPEQ, Opcodes.IF_ACMPNE};
+    private static final int[] NULL_COMPARISONS = new int[] {Opcodes.IFNULL, Opcodes.IFNONNULL};
+    private static final int[] ARITHMETIC_OPERATORS = new int[] {Opcodes.IADD, Opcodes.ISUB, Opcodes.IMUL,
+            Opcodes.IDIV, Opcodes.IREM};
+    private static final int[] BINARY_INT_OPERATORS = new int[] {Opcodes.IADD, Opcodes.ISUB, Opcodes.IMUL,
+            Opcodes.IDIV, Opcodes.IREM, Opcodes.ISHL, Opcodes.ISHR, Opcodes.IUSHR, Opcodes.IAND, Opcodes.IOR,
+            Opcodes.IXOR};
+
+    private MutationFinder() {
+    }
+
+    /**
+     * Every mutation of the chosen methods, in the order of the methods and of their instructions
+     */
+    static List<Mutation> find(ClassNode original, List<String> methodNames) {
+        List<Mutation> found = new ArrayList<>();
+        for(String methodName : methodNames) {
+            for(MethodNode method : original.methods) {
+                if(method.name.equals(methodName)) {
+                    find(original, method, found);
+                }
+            }
+        }
+        return Collections.unmodifiableList(found);
+    }
+
+    private static void find(ClassNode original, MethodNode method, List<Mutation> found) {
+        MutationCollector collector = new MutationCollector(original, method, found);
+        AbstractInsnNode[] instructions = method.instructions.toArray();
+        StackDepths depths = new StackDepths(method);
+
+        for(int i = 0; i < instructions.length; i ++) {
+            AbstractInsnNode instruction = instructions[i];
+            if(instruction instanceof LineNumberNode) {
+                collector.line = ((LineNumberNode) instruction).line;
+                continue;
+            }
+            int opcode = instruction.getOpcode();
+            if(opcode < 0 || depths.before(i) == StackDepths.UNREACHABLE) {
+                continue;
+            }
+
+            if(instruction instanceof JumpInsnNode) {
+                addRelationalOperatorReplacements(collector, i, opcode);
+            }
+
+            if(contains(ARITHMETIC_OPERATORS, opcode)) {
+                for(int replacement : ARITHMETIC_OPERATORS) {
+                    if(replacement != opcode) {
+                        collector.add(MutationOperator.AORB, Mutation.Kind.VALUE, i, i + 1,
+                                OpcodeNames.of(opcode) + " replaced by " + OpcodeNames.of(replacement),
+                                (nodes, labels) -> single(new InsnNode(replacement)));
+                    }
+                }
+            }
+
+            if(isIntVariable(instruction)) {
+                final int position = i;
+                collector.add(MutationOperator.AOIU, Mutation.Kind.VALUE, i, i + 1, "-" + variableName(method, instruction),
+                        (nodes, labels) -> {
+                            InsnList negated = new InsnList();
+                            negated.add(nodes[position].clone(labels));
+                            negated.add(new InsnNode(Opcodes.INEG));
+                            return negated;
+                        });
+            }
+
+            if(opcode == Opcodes.ILOAD) {
+                int variable = ((VarInsnNode) instruction).var;
+                String name = variableName(method, instruction);
+                collector.add(MutationOperator.AOIS, Mutation.Kind.VALUE, i, i + 1, "++" + name, (nodes, labels) -> shortcut(variable, 1, true));
+                collector.add(MutationOperator.AOIS, Mutation.Kind.VALUE, i, i + 1, "--" + name, (nodes, labels) -> shortcut(variable, -1, true));
+                collector.add(MutationOperator.AOIS, Mutation.Kind.VALUE, i, i + 1, name + "++", (nodes, labels) -> shortcut(variable, 1, false));
+                collector.add(MutationOperator.AOIS, Mutation.Kind.VALUE, i, i + 1, name + "--", (nodes, labels) -> shortcut(variable, -1, false));
+            }
+
+            if(isIntConstant(instruction) && i + 1 < instructions.length && contains(BINARY_INT_OPERATORS, instructions[i + 1].getOpcode())) {
+                collector.add(MutationOperator.CDL, Mutation.Kind.VALUE, i, i + 2,
+                        "'" + OpcodeNames.of(instructions[i + 1].getOpcode()) + " " + constant(instruction) + "' deleted",
+                        (nodes, labels) -> new InsnList());
+            }
+
+            if(depths.before(i) == 0) {
+                int end = findStatementEnd(instructions, depths, i);
+                if(end >= 0) {
+                    collector.add(MutationOperator.SDL, Mutation.Kind.STATEMENT, i, end + 1,
+                            "statement ending with " + OpcodeNames.of(instructions[end].getOpcode()) + " deleted",
+                            (nodes, labels) -> new InsnList());
+                }
+            }
+        }
+    }
+
+    private static void addRelationalOperatorReplacements(MutationCollector collector, int position, int opcode) {
+        int[] family = contains(INT_COMPARISONS, opcode) ? INT_COMPARISONS
+                : contains(ZERO_COMPARISONS, opcode) ? ZERO_COMPARISONS
+                : contains(REFERENCE_COMPARISONS, opcode) ? REFERENCE_COMPARISONS
+                : contains(NULL_COMPARISONS, opcode) ? NULL_COMPARISONS
+                : null;
+        if(family == null) {
+            return;
+        }
+
+        for(int replacement : family) {
+            if(replacement != opcode) {
+                collector.add(MutationOperator.ROR, Mutation.Kind.JUMP, position, position + 1,
+                        OpcodeNames.of(opcode) + " replaced by " + OpcodeNames.of(replacement),
+                        (nodes, labels) -> single(new JumpInsnNode(replacement, labels.get(((JumpInsnNode) nodes[position]).label))));
+            }
+        }
+
+        int pop = family == INT_COMPARISONS || family == REFERENCE_COMPARISONS ? Opcodes.POP2 : Opcodes.POP;
+        collector.add(MutationOperator.ROR, Mutation.Kind.JUMP, position, position + 1,
+                OpcodeNames.of(opcode) + " replaced by a jump never taken",
+                (nodes, labels) -> single(new InsnNode(pop)));
+        collector.add(MutationOperator.ROR, Mutation.Kind.JUMP, position, position + 1,
+                OpcodeNames.of(opcode) + " replaced by a jump always taken",
+                (nodes, labels) -> {
+                    InsnList always = new InsnList();
+                    always.add(new InsnNode(pop));
+                    always.add(new JumpInsnNode(Opcodes.GOTO, labels.get(((JumpInsnNode) nodes[position]).label)));
+                    return always;
+                });
+    }
+
+    /**
+     * The last instruction of the statement starting at the given position, or -1 if it is not a statement that can be
+     * deleted: it has to bring the stack back to empty with a store, an increment, a throw, a pop or a call without a
+     * result, without any jump going out of it or coming into it.
+     */
+    private static int findStatementEnd(AbstractInsnNode[] instructions, StackDepths depths, int start) {
+        for(int i = start; i < instructions.length; i ++) {
+            AbstractInsnNode instruction = instructions[i];
+            if(i > start && depths.isJumpTarget(instruction)) {
+                return -1;
+            }
+            int opcode = instruction.getOpcode();
+            if(opcode < 0) {
+                continue;
+            }
+            if(opcode == Opcodes.ATHROW) {
+                return i;
+            }
+            if(instruction instanceof JumpInsnNode || StackDepths.endsFlow(opcode)) {
+                return -1;
+            }
+            if(depths.before(i + 1) == 0) {
+                return endsStatement(instruction) ? i : -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean endsStatement(AbstractInsnNode instruction) {
+        int opcode = instruction.getOpcode();
+        if(instruction instanceof MethodInsnNode) {
+            return Type.getReturnType(((MethodInsnNode) instruction).desc) == Type.VOID_TYPE;
+        }
+        return (opcode >= Opcodes.ISTORE && opcode <= Opcodes.ASTORE) || (opcode >= Opcodes.IASTORE && opcode <= Opcodes.SASTORE)
+                || opcode == Opcodes.IINC || opcode == Opcodes.POP || opcode == Opcodes.POP2
+                || opcode == Opcodes.PUTFIELD || opcode == Opcodes.PUTSTATIC;
+    }
+
+    private static InsnList shortcut(int variable, int increment, boolean before) {
+        InsnList shortcut = new InsnList();
+        if(before) {
+            shortcut.add(new IincInsnNode(variable, increment));
+        }
+        shortcut.add(new VarInsnNode(Opcodes.ILOAD, variable));
+        if(!before) {
+            shortcut.add(new IincInsnNode(variable, increment));
+        }
+        return shortcut;
+    }
+
+    private static InsnList single(AbstractInsnNode instruction) {
+        InsnList list = new InsnList();
+        list.add(instruction);
+        return list;
+    }
+
+    private static boolean isIntVariable(AbstractInsnNode instruction) {
+        int opcode = instruction.getOpcode();
+        return opcode == Opcodes.ILOAD
+                || ((opcode == Opcodes.GETFIELD || opcode == Opcodes.GETSTATIC) && ((FieldInsnNode) instruction).desc.equals("I"));
+    }
+
+    private static boolean isIntConstant(AbstractInsnNode instruction) {
+        int opcode = instruction.getOpcode();
+        return (opcode >= Opcodes.ICONST_M1 && opcode <= Opcodes.ICONST_5) || opcode == Opcodes.BIPUSH || opcode == Opcodes.SIPUSH
+                || (opcode == Opcodes.LDC && ((LdcInsnNode) instruction).cst instanceof Integer);
+    }
+
+    private static int constant(AbstractInsnNode instruction) {
+        int opcode = instruction.getOpcode();
+        if(opcode >= Opcodes.ICONST_M1 && opcode <= Opcodes.ICONST_5) {
+            return opcode - Opcodes.ICONST_0;
+        }
+        if(opcode == Opcodes.LDC) {
+            return (Integer) ((LdcInsnNode) instruction).cst;
+        }
+        return ((IntInsnNode) instruction).operand;
+    }
+
+    private static String variableName(MethodNode method, AbstractInsnNode instruction) {
+        if(instruction instanceof FieldInsnNode) {
+            return ((FieldInsnNode) instruction).name;
+        }
+        int variable = ((VarInsnNode) instruction).var;
+        if(method.localVariables != null) {
+            for(org.objectweb.asm.tree.LocalVariableNode localVariable : method.localVariables) {
+                if(localVariable.index == variable) {
+                    return localVariable.name;
+                }
+            }
+        }
+        return "local" + variable;
+    }
+
+    private static boolean contains(int[] opcodes, int opcode) {
+        for(int candidate : opcodes) {
+            if(candidate == opcode) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Numbers the mutations of one method for every operator, and names them like the mutants inside main/mutants.
+     */
+    private static final class MutationCollector {
+
+        private final String prefix;
+        private final MethodNode method;
+        private final List<Mutation> found;
+        private final Map<MutationOperator, Integer> counters = new EnumMap<>(MutationOperator.class);
+        private int line = -1;
+
+        MutationCollector(ClassNode original, MethodNode method, List<Mutation> found) {
+            String className = original.name.substring(original.name.lastIndexOf('/') + 1);
+            String methodName = method.name.startsWith("get") && method.name.length() > 3
+                    ? Character.toLowerCase(method.name.charAt(3)) + method.name.substring(4)
+                    : method.name;
+            this.prefix = className + "_" + methodName + "_";
+            this.method = method;
+            this.found = found;
+        }
+
+        void add(MutationOperator operator, Mutation.Kind kind, int from, int to, String description,
+                 Mutation.Replacement replacement) {
+            int number = counters.getOrDefault(operator, 0) + 1;
+            counters.put(operator, number);
+            found.add(new Mutation(prefix + operator + "_" + number, operator, kind, method.name, method.desc,
+                    from, to, line, description, replacement));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package main.mutation;
+
+/**
+ * How early a mutant counts as killed:
+ *
+ * STRONG - the result of solve() is different from the expected one
+ * FIRM - the mutated method returns something different from the original method, on any of its calls
+ * WEAK - the mutated expression gives something different from the original expression, the first time it does
+ *
+ * A test case which kills a mutant strongly also kills it firmly, and one which kills it firmly also kills it weakly,
+ * so the weak and the firm scores are upper bounds of the strong one, which are cheaper to find. The weak one is a
+ * looser bound still: a deleted statement which cannot be compared, like a call, counts as infecting once reached.
+ */
+public enum MutationMode {
+
+    STRONG,
+    FIRM,
+    WEAK
+
+}
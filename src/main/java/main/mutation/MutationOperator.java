@@ -0,0 +1,23 @@
+package main.mutation;
+
+/**
+ * The mutation operators used for the mutants inside main/mutants, applied on the bytecode instructions:
+ *
+ * ROR - Relational Operator Replacement: a conditional jump is replaced by every other jump of its family, by a jump
+ *       which is always taken and by one which is never taken
+ * AORB - Arithmetic Operator Replacement (Binary): +, -, *, / and % on ints are replaced by each other
+ * AOIU - Arithmetic Operator Insertion (Unary): an int variable or field is negated where it is read
+ * AOIS - Arithmetic Operator Insertion (Short-cut): ++x, x++, --x and x-- where an int local variable is read
+ * CDL - Constant DeLetion: a constant right operand is deleted together with its binary operator
+ * SDL - Statement DeLetion: a statement which leaves the stack empty is deleted
+ */
+public enum MutationOperator {
+
+    ROR,
+    AORB,
+    AOIU,
+    AOIS,
+    CDL,
+    SDL
+
+}
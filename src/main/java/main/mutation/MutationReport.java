@@ -0,0 +1,179 @@
+package main.mutation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of every mutant on every test case of a MutationRunner run, with the time spent running each mutant.
+ */
+public class MutationReport {
+
+    private final List<String> mutantIds;
+    private final List<String> testCaseIds;
+    private final Outcome[] outcomes;
+    private final long[] nanos;
+    private final long totalNanos;
+    private final int reusedRuns;
+
+    MutationReport(List<String> mutantIds, List<String> testCaseIds, Outcome[] outcomes, long[] nanos, long totalNanos) {
+        this(mutantIds, testCaseIds, outcomes, nanos, totalNanos, 0);
+    }
+
+    MutationReport(List<String> mutantIds, List<String> testCaseIds, Outcome[] outcomes, long[] nanos, long totalNanos,
+                   int reusedRuns) {
+        this.mutantIds = Collections.unmodifiableList(new ArrayList<>(mutantIds));
+        this.testCaseIds = Collections.unmodifiableList(new ArrayList<>(testCaseIds));
+        this.outcomes = outcomes;
+        this.nanos = nanos;
+        this.totalNanos = totalNanos;
+        this.reusedRuns = reusedRuns;
+    }
+
+    public Outcome getOutcome(int mutant, int testCase) {
+        return outcomes[mutant * testCaseIds.size() + testCase];
+    }
+
+    public boolean isKilled(int mutant) {
+        return firstKillingTestCase(mutant) >= 0;
+    }
+
+    /**
+     * The test cases which kill the mutant, among the ones it was run on
+     */
+    public BitSet getKillingTestCases(int mutant) {
+        BitSet killingTestCases = new BitSet(testCaseIds.size());
+        for(int testCase = 0; testCase < testCaseIds.size(); testCase ++) {
+            if(isKilling(getOutcome(mutant, testCase))) {
+                killingTestCases.set(testCase);
+            }
+        }
+        return killingTestCases;
+    }
+
+    public int getNumberOfKilledMutants() {
+        int killedMutants = 0;
+        for(int mutant = 0; mutant < mutantIds.size(); mutant ++) {
+            if(isKilled(mutant)) {
+                killedMutants ++;
+            }
+        }
+        return killedMutants;
+    }
+
+    /**
+     * Killed mutants / all mutants, 0 when there are no mutants
+     */
+    public double getMutationScore() {
+        return mutantIds.isEmpty() ? 0 : (double) getNumberOfKilledMutants() / mutantIds.size();
+    }
+
+    /**
+     * How many mutant and test case pairs were actually run
+     */
+    public int getNumberOfRuns() {
+        int runs = 0;
+        for(Outcome outcome : outcomes) {
+            if(outcome != Outcome.NOT_RUN) {
+                runs ++;
+            }
+        }
+        return runs;
+    }
+
+    /**
+     * How many test cases the mutant was run on
+     */
+    public int getNumberOfRuns(int mutant) {
+        int runs = 0;
+        for(int testCase = 0; testCase < testCaseIds.size(); testCase ++) {
+            if(getOutcome(mutant, testCase) != Outcome.NOT_RUN) {
+                runs ++;
+            }
+        }
+        return runs;
+    }
+
+    /**
+     * The median of getNumberOfRuns(mutant) over the mutants, 0 when there are no mutants
+     */
+    public double getMedianNumberOfRuns() {
+        int[] runs = new int[mutantIds.size()];
+        for(int mutant = 0; mutant < runs.length; mutant ++) {
+            runs[mutant] = getNumberOfRuns(mutant);
+        }
+        return median(runs);
+    }
+
+    static double median(int[] values) {
+        if(values.length == 0) {
+            return 0;
+        }
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+    }
+
+    /**
+     * How many of the runs were not run again, since their outcome was known from an earlier run
+     */
+    public int getNumberOfReusedRuns() {
+        return reusedRuns;
+    }
+
+    public int getNumberOfTimeouts() {
+        int timeouts = 0;
+        for(Outcome outcome : outcomes) {
+            if(outcome == Outcome.KILLED_BY_TIMEOUT) {
+                timeouts ++;
+            }
+        }
+        return timeouts;
+    }
+
+    public long getNanos(int mutant) {
+        return nanos[mutant];
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public List<String> getMutantIds() {
+        return mutantIds;
+    }
+
+    public List<String> getTestCaseIds() {
+        return testCaseIds;
+    }
+
+    private int firstKillingTestCase(int mutant) {
+        for(int testCase = 0; testCase < testCaseIds.size(); testCase ++) {
+            if(isKilling(getOutcome(mutant, testCase))) {
+                return testCase;
+            }
+        }
+        return -1;
+    }
+
+    static boolean isKilling(Outcome outcome) {
+        return outcome == Outcome.KILLED || outcome == Outcome.KILLED_BY_TIMEOUT || outcome == Outcome.INFECTED;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Mutation score: %d/%d = %.2f%%, %d runs (%d reused) in %.3f ms%n", getNumberOfKilledMutants(),
+                mutantIds.size(), 100 * getMutationScore(), getNumberOfRuns(), reusedRuns, totalNanos / 1e6));
+        for(int mutant = 0; mutant < mutantIds.size(); mutant ++) {
+            int killingTestCase = firstKillingTestCase(mutant);
+            report.append(String.format("%s: %s in %.3f ms%n", mutantIds.get(mutant),
+                    killingTestCase >= 0 ? getOutcome(mutant, killingTestCase) + " by " + testCaseIds.get(killingTestCase) : Outcome.SURVIVED,
+                    nanos[mutant] / 1e6));
+        }
+        return report.toString();
+    }
+}
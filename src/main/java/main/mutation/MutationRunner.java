@@ -0,0 +1,234 @@
+package main.mutation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Runs every mutant on every test case, the whole matrix at once, on a work stealing pool.
+ *
+ * The matrix is split the same way BatchProblem splits its rows, the cells of one mutant are next to each other, so a
+ * thread usually runs the test cases of a mutant one after another and skips the rest of them as soon as one kills it.
+ * Skipping can be turned off to get the full kill matrix, in which every mutant is run on every test case.
+ *
+ * With a BudgetCalibration, every run gets the ExecutionBudget of its test case, and a mutant which goes over it is
+ * killed by timeout. Only the generated or instrumented mutants tick the budget, see MutantGenerator.instrument().
+ * The weak and firm mutants of MutantGenerator.generate(MutationMode) stop at the first difference and are infected.
+ *
+ * With a SplitStream.Recording of the same test cases, the Resumable mutants of SplitStream.generate() skip the part
+ * of solve() before their mutation, and the ones whose mutation a test case never reaches get the outcome of the
+ * original on it without running.
+ */
+public class MutationRunner {
+
+    private static final int PARALLEL_THRESHOLD = 16;
+
+    private final ForkJoinPool pool;
+    private final boolean fullKillMatrix;
+    private final BudgetCalibration budgets;
+    private final SplitStream.Recording recording;
+
+    public MutationRunner() {
+        this(ForkJoinPool.commonPool(), false);
+    }
+
+    public MutationRunner(ForkJoinPool pool, boolean fullKillMatrix) {
+        this(pool, fullKillMatrix, null);
+    }
+
+    public MutationRunner(ForkJoinPool pool, boolean fullKillMatrix, BudgetCalibration budgets) {
+        this(pool, fullKillMatrix, budgets, null);
+    }
+
+    public MutationRunner(ForkJoinPool pool, boolean fullKillMatrix, BudgetCalibration budgets,
+                          SplitStream.Recording recording) {
+        this.pool = pool;
+        this.fullKillMatrix = fullKillMatrix;
+        this.budgets = budgets;
+        this.recording = recording;
+    }
+
+    public MutationReport run(List<Mutant> mutants, List<TestCase> testCases) {
+        Outcome[] outcomes = new Outcome[mutants.size() * testCases.size()];
+        Arrays.fill(outcomes, Outcome.NOT_RUN);
+        return run(mutants, testCases, outcomes);
+    }
+
+    /**
+     * Runs only the cells whose outcome is NOT_RUN, the other outcomes are taken as they are, like the ones a
+     * KillMatrix kept from an earlier run. Without the full kill matrix, a mutant already killed is not run again.
+     */
+    MutationReport run(List<Mutant> mutants, List<TestCase> testCases, Outcome[] knownOutcomes) {
+        return run(mutants, testCases, knownOutcomes, null);
+    }
+
+    /**
+     * Runs every mutant on the test cases in its own order, testCaseOrders[mutant] holding the indexes of all the
+     * test cases, like the ones a TestPrioritizer gives. Only the order of the runs changes, the report is indexed by
+     * the test cases as they are in the list.
+     */
+    public MutationReport run(List<Mutant> mutants, List<TestCase> testCases, int[][] testCaseOrders) {
+        if(testCaseOrders.length != mutants.size()) {
+            throw new RuntimeException("There is not one test case order for every mutant.");
+        }
+        Outcome[] outcomes = new Outcome[mutants.size() * testCases.size()];
+        Arrays.fill(outcomes, Outcome.NOT_RUN);
+        return run(mutants, testCases, outcomes, testCaseOrders);
+    }
+
+    private MutationReport run(List<Mutant> mutants, List<TestCase> testCases, Outcome[] knownOutcomes, int[][] testCaseOrders) {
+        if(recording != null && !recording.getTestCases().equals(testCases)) {
+            throw new RuntimeException("The split stream was recorded on other test cases.");
+        }
+        if(knownOutcomes.length != mutants.size() * testCases.size()) {
+            throw new RuntimeException("The known outcomes do not match the mutants and the test cases.");
+        }
+        Matrix matrix = new Matrix(mutants, testCases, knownOutcomes.clone(), testCaseOrders);
+
+        int reusedRuns = 0;
+        boolean anythingToRun = false;
+        for(int cell = 0; cell < knownOutcomes.length; cell ++) {
+            if(knownOutcomes[cell] != Outcome.NOT_RUN) {
+                reusedRuns ++;
+            } else if(fullKillMatrix || matrix.killed.get(cell / testCases.size()) == 0) {
+                anythingToRun = true;
+            }
+        }
+
+        long start = System.nanoTime();
+        if(anythingToRun) {
+            pool.invoke(new RunCellsAction(matrix, 0, mutants.size() * testCases.size()));
+        }
+        long totalNanos = System.nanoTime() - start;
+
+        long[] nanos = new long[mutants.size()];
+        for(int mutant = 0; mutant < nanos.length; mutant ++) {
+            nanos[mutant] = matrix.nanos.get(mutant);
+        }
+        List<String> mutantIds = new ArrayList<>();
+        for(Mutant mutant : mutants) {
+            mutantIds.add(mutant.getId());
+        }
+        List<String> testCaseIds = new ArrayList<>();
+        for(TestCase testCase : testCases) {
+            testCaseIds.add(testCase.getId());
+        }
+        return new MutationReport(mutantIds, testCaseIds, matrix.outcomes, nanos, totalNanos, reusedRuns);
+    }
+
+    public boolean isFullKillMatrix() {
+        return fullKillMatrix;
+    }
+
+    /**
+     * The state shared by the tasks of one run. Every cell is written by a single task, and the pool makes the writes
+     * visible once invoke() returns.
+     */
+    private static final class Matrix {
+
+        private final List<Mutant> mutants;
+        private final List<TestCase> testCases;
+        private final Outcome[] outcomes;
+        private final AtomicIntegerArray killed;
+        private final AtomicLongArray nanos;
+        private final int[][] testCaseOrders;
+
+        Matrix(List<Mutant> mutants, List<TestCase> testCases, Outcome[] outcomes, int[][] testCaseOrders) {
+            this.mutants = mutants;
+            this.testCases = testCases;
+            this.outcomes = outcomes;
+            this.testCaseOrders = testCaseOrders;
+            this.killed = new AtomicIntegerArray(mutants.size());
+            this.nanos = new AtomicLongArray(mutants.size());
+            for(int cell = 0; cell < outcomes.length; cell ++) {
+                if(MutationReport.isKilling(outcomes[cell])) {
+                    killed.set(cell / testCases.size(), 1);
+                }
+            }
+        }
+    }
+
+    private class RunCellsAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Matrix matrix;
+        private final int fromCell;
+        private final int toCell;
+
+        RunCellsAction(Matrix matrix, int fromCell, int toCell) {
+            this.matrix = matrix;
+            this.fromCell = fromCell;
+            this.toCell = toCell;
+        }
+
+        @Override
+        protected void compute() {
+            if(toCell - fromCell <= PARALLEL_THRESHOLD) {
+                for(int cell = fromCell; cell < toCell; cell ++) {
+                    runCell(cell);
+                }
+                return;
+            }
+
+            int middleCell = (fromCell + toCell) >>> 1;
+            invokeAll(new RunCellsAction(matrix, fromCell, middleCell),
+                    new RunCellsAction(matrix, middleCell, toCell));
+        }
+
+        /**
+         * The cells are visited in the order of the runs, the outcomes are kept in the order of the list
+         */
+        private void runCell(int position) {
+            int mutant = position / matrix.testCases.size();
+            int testCase = matrix.testCaseOrders != null
+                    ? matrix.testCaseOrders[mutant][position % matrix.testCases.size()]
+                    : position % matrix.testCases.size();
+            int cell = mutant * matrix.testCases.size() + testCase;
+            if(matrix.outcomes[cell] != Outcome.NOT_RUN || (!fullKillMatrix && matrix.killed.get(mutant) != 0)) {
+                return;
+            }
+
+            Outcome outcome;
+            long start = System.nanoTime();
+            ExecutionBudget budget = budgets != null ? budgets.start(testCase) : null;
+            try {
+                outcome = isKilled(matrix.mutants.get(mutant), testCase) ? Outcome.KILLED : Outcome.SURVIVED;
+            } catch(BudgetExceededError e) {
+                outcome = Outcome.KILLED_BY_TIMEOUT;
+            } catch(InfectionSignal e) {
+                outcome = Outcome.INFECTED;
+            } finally {
+                if(budget != null) {
+                    budget.finish();
+                }
+            }
+            matrix.nanos.addAndGet(mutant, System.nanoTime() - start);
+
+            matrix.outcomes[cell] = outcome;
+            if(outcome != Outcome.SURVIVED) {
+                matrix.killed.set(mutant, 1);
+            }
+        }
+
+        private boolean isKilled(Mutant mutant, int testCase) {
+            TestCase current = matrix.testCases.get(testCase);
+            if(recording == null || !Resumable.class.isAssignableFrom(mutant.getMutantClass())) {
+                return current.isKilledBy(mutant.instantiate(current.getProblem()));
+            }
+
+            Mutation mutation = mutant.getMutation();
+            if(!recording.isReached(mutation, testCase)) {
+                return recording.isKilledByOriginal(testCase);
+            }
+            Resumable resumable = (Resumable) mutant.instantiate(current.getProblem());
+            int statement = recording.getStatement(mutation, testCase);
+            int[] locals = recording.getLocals(mutation, testCase);
+            return current.isKilledBy(() -> resumable.resume(statement, locals));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package main.mutation;
+
+import org.objectweb.asm.Opcodes;
+
+/**
+ * The names of the opcodes used in the descriptions of the mutations and of the conditions: the jumps by their
+ * mnemonic, the int operators by their Java symbol.
+ */
+final class OpcodeNames {
+
+    private OpcodeNames() {
+    }
+
+    static String of(int opcode) {
+        switch(opcode) {
+            case Opcodes.IFEQ: return "IFEQ";
+            case Opcodes.IFNE: return "IFNE";
+            case Opcodes.IFLT: return "IFLT";
+            case Opcodes.IFGE: return "IFGE";
+            case Opcodes.IFGT: return "IFGT";
+            case Opcodes.IFLE: return "IFLE";
+            case Opcodes.IF_ICMPEQ: return "IF_ICMPEQ";
+            case Opcodes.IF_ICMPNE: return "IF_ICMPNE";
+            case Opcodes.IF_ICMPLT: return "IF_ICMPLT";
+            case Opcodes.IF_ICMPGE: return "IF_ICMPGE";
+            case Opcodes.IF_ICMPGT: return "IF_ICMPGT";
+            case Opcodes.IF_ICMPLE: return "IF_ICMPLE";
+            case Opcodes.IF_ACMPEQ: return "IF_ACMPEQ";
+            case Opcodes.IF_ACMPNE: return "IF_ACMPNE";
+            case Opcodes.IFNULL: return "IFNULL";
+            case Opcodes.IFNONNULL: return "IFNONNULL";
+            case Opcodes.IADD: return "+";
+            case Opcodes.ISUB: return "-";
+            case Opcodes.IMUL: return "*";
+            case Opcodes.IDIV: return "/";
+            case Opcodes.IREM: return "%";
+            case Opcodes.ISHL: return "<<";
+            case Opcodes.ISHR: return ">>";
+            case Opcodes.IUSHR: return ">>>";
+            case Opcodes.IAND: return "&";
+            case Opcodes.IOR: return "|";
+            case Opcodes.IXOR: return "^";
+            case Opcodes.ATHROW: return "throw";
+            case Opcodes.IINC: return "increment";
+            default:
+                if(opcode >= Opcodes.ISTORE && opcode <= Opcodes.ASTORE) {
+                    return "store";
+                }
+                return "opcode " + opcode;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package main.mutation;
+
+/**
+ * What happened when one mutant was run on one test case
+ */
+public enum Outcome {
+
+    /**
+     * The mutant was already killed by another test case, so this one was skipped
+     */
+    NOT_RUN,
+    SURVIVED,
+    KILLED,
+    /**
+     * The mutant went over its ExecutionBudget and was stopped
+     */
+    KILLED_BY_TIMEOUT,
+    /**
+     * A weak or firm mutant differed from the original, see MutationMode
+     */
+    INFECTED
+
+}
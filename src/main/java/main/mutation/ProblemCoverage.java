@@ -0,0 +1,99 @@
+package main.mutation;
+
+import main.FastMirror;
+import main.Problem;
+import main.utilities.Result;
+import main.utilities.ResultType;
+
+/**
+ * The partitions and the MC/DC condition vectors of Problem.solve() an input covers, as the bits of a long.
+ *
+ * The partitions are the 7 equivalence partitions of TestDataProvider. A condition vector is one way a decision of
+ * solve() is evaluated, with short circuit, like 'numberOfElements < 2' false and 'numberOfElements > 100' true on
+ * line 41. An MC/DC pair is made of two vectors of the same decision, so a suite covering the same vectors as another
+ * one shows the same pairs. The vectors are worked out from the input, following solve() line by line.
+ */
+final class ProblemCoverage {
+
+    static final String[] REQUIREMENTS = {
+            "Partition: N < 2",
+            "Partition: N > 100",
+            "Partition: N inside [2, 100] and null input data",
+            "Partition: N inside [2, 100] and input data of invalid length",
+            "Partition: N inside [2, 100] and input data with negative values",
+            "Partition: N inside [2, 100] and the result is false",
+            "Partition: N inside [2, 100] and the result is true",
+            "Line 41: 'numberOfElements < 2' is true",
+            "Line 41: 'numberOfElements < 2' is false, 'numberOfElements > 100' is true",
+            "Line 41: 'numberOfElements < 2' is false, 'numberOfElements > 100' is false",
+            "Line 45: 'input == null' is true",
+            "Line 45: 'input == null' is false",
+            "Line 49: 'input.length != numberOfElements' is true",
+            "Line 49: 'input.length != numberOfElements' is false",
+            "Line 53: 'i < numberOfElements' is true",
+            "Line 53: 'i < numberOfElements' is false",
+            "Line 54: 'input[i] < 0' is true",
+            "Line 54: 'input[i] < 0' is false",
+            "Line 61: 'i < numberOfElements - 1' is true",
+            "Line 61: 'i < numberOfElements - 1' is false",
+            "Line 62: 'input[i] == lastElementMirror' is true",
+            "Line 62: 'input[i] == lastElementMirror' is false",
+            "Line 72: 'x != 0' is true",
+            "Line 72: 'x != 0' is false"
+    };
+
+    private static final int LINE_41 = 7;
+    private static final int LINE_45 = 10;
+    private static final int LINE_49 = 12;
+    private static final int LINE_53 = 14;
+    private static final int LINE_54 = 16;
+    private static final int LINE_61 = 18;
+    private static final int LINE_62 = 20;
+    private static final int LINE_72 = 22;
+
+    private ProblemCoverage() {}
+
+    static long of(Problem problem) {
+        int numberOfElements = problem.getNumberOfElements();
+        int[] input = problem.getInput();
+        Result result = problem.solveToResult();
+
+        if(numberOfElements < 2) {
+            return bit(0) | bit(LINE_41);
+        }
+        if(numberOfElements > 100) {
+            return bit(1) | bit(LINE_41 + 1);
+        }
+        long coverage = bit(LINE_41 + 2);
+        if(input == null) {
+            return coverage | bit(2) | bit(LINE_45);
+        }
+        coverage |= bit(LINE_45 + 1);
+        if(input.length != numberOfElements) {
+            return coverage | bit(3) | bit(LINE_49);
+        }
+        coverage |= bit(LINE_49 + 1) | bit(LINE_53);
+        if(result.getResultType() == ResultType.EXCEPTION) {
+            // the loop stops at the first negative element, the elements before it are checked as natural numbers
+            coverage |= bit(4) | bit(LINE_54);
+            return result.getErrorPosition() > 0 ? coverage | bit(LINE_54 + 1) : coverage;
+        }
+        coverage |= bit(LINE_53 + 1) | bit(LINE_54 + 1) | bit(LINE_72 + 1) | bit(LINE_61);
+        if(input[numberOfElements - 1] != 0) {
+            coverage |= bit(LINE_72);
+        }
+
+        int lastElementMirror = FastMirror.getMirror(input[numberOfElements - 1]);
+        if(input[0] != lastElementMirror) {
+            coverage |= bit(LINE_62 + 1);
+        }
+        if(result.getValue()) {
+            return coverage | bit(6) | bit(LINE_62);
+        }
+        return coverage | bit(5) | bit(LINE_61 + 1);
+    }
+
+    private static long bit(int requirement) {
+        return 1L << requirement;
+    }
+}
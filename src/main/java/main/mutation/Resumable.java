@@ -0,0 +1,14 @@
+package main.mutation;
+
+/**
+ * A generated mutant which can start solve() from the middle, with the local variables the original had at that
+ * point, see SplitStream.
+ */
+public interface Resumable {
+
+    /**
+     * Runs solve() from the given statement, which is the position of its first instruction inside the original
+     * solve(), with the int local variables taken from the given array, indexed by slot.
+     */
+    boolean resume(int statement, int[] locals);
+}
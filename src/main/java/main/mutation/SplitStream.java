@@ -0,0 +1,415 @@
+package main.mutation;
+
+import main.Problem;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.FieldNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Split-stream execution: the part of solve() which comes before a mutation is the same for the original and for the
+ * mutant, so it is run once for every test case, by a recording copy of the original, instead of once for every mutant.
+ *
+ * The recording copy notes, for every mutated range, the statement of solve() during which the range is first reached
+ * and the int local variables at the start of that statement, like the loop index. The mutants of generate() can
+ * resume solve() from that statement with those variables, see Resumable, and a mutant whose range is never reached
+ * by a test case behaves like the original on it, so it does not have to run at all.
+ *
+ * Only the local variables are restored: solve() and the methods it calls only read the fields and the input array of
+ * the Problem, which every mutant gets from the test case anyway. A mutant whose resuming copy does not pass the
+ * verifier is left as the plain mutant of the MutantGenerator, which always runs from the start.
+ */
+public class SplitStream {
+
+    public static final String ENTRY_NAME = "solve";
+    public static final String ENTRY_DESCRIPTOR = "()Z";
+    public static final String RESUME_STATEMENT_FIELD = "resumeStatement";
+    public static final String RESUME_LOCALS_FIELD = "resumeLocals";
+
+    static final int UNREACHED = -1;
+
+    private static final String RECORDER = Type.getInternalName(SplitStreamRecorder.class);
+
+    private final MutantGenerator mutantGenerator;
+    private final MutantClassLoader classLoader;
+    private final int[] statements;
+    private final int[] intSlots;
+    private final int numberOfLocals;
+    private final Map<String, Integer> ranges = new HashMap<>();
+
+    private List<Mutant> mutants;
+    private Mutant recorder;
+
+    public SplitStream(MutantGenerator mutantGenerator) {
+        this.mutantGenerator = mutantGenerator;
+        this.classLoader = new MutantClassLoader(mutantGenerator.getOriginalClass().getClassLoader());
+
+        MethodNode entry = findEntry(mutantGenerator.getCopier().readOriginal());
+        this.statements = findStatements(entry);
+        this.intSlots = findIntSlots(entry);
+        this.numberOfLocals = entry.maxLocals;
+        for(Mutation mutation : mutantGenerator.findMutations()) {
+            ranges.putIfAbsent(rangeKey(mutation), ranges.size());
+        }
+    }
+
+    /**
+     * The same mutants as MutantGenerator.generate(), in the same order, which can resume solve(). The first call
+     * defines the classes and the following ones return the same list.
+     */
+    public synchronized List<Mutant> generate() {
+        if(mutants == null) {
+            List<Mutant> generated = new ArrayList<>();
+            for(Mutant mutant : mutantGenerator.generate()) {
+                Mutation mutation = mutant.getMutation();
+                String binaryName = MutantGenerator.GENERATED_PACKAGE + "." + mutation.getId() + "_resumable";
+                try {
+                    Class<?> mutantClass = classLoader.defineAndLink(binaryName, generateBytecode(mutation, binaryName.replace('.', '/'), false));
+                    generated.add(new Mutant(mutation.getId(), mutation, mutantClass.asSubclass(Problem.class)));
+                } catch(LinkageError | ClassNotFoundException e) {
+                    generated.add(mutant);
+                }
+            }
+            mutants = Collections.unmodifiableList(generated);
+        }
+        return mutants;
+    }
+
+    /**
+     * Runs the recording copy of the original once on every test case.
+     */
+    public Recording record(List<TestCase> testCases) {
+        Mutant recordingCopy = getRecorder();
+        int[][] reachedStatements = new int[ranges.size()][testCases.size()];
+        int[][][] reachedLocals = new int[ranges.size()][testCases.size()][];
+        boolean[] killedByOriginal = new boolean[testCases.size()];
+
+        for(int testCase = 0; testCase < testCases.size(); testCase ++) {
+            SplitStreamRecorder recording = SplitStreamRecorder.start(numberOfLocals, ranges.size());
+            try {
+                killedByOriginal[testCase] = testCases.get(testCase).isKilledBy(
+                        recordingCopy.instantiate(testCases.get(testCase).getProblem()));
+            } finally {
+                recording.finish();
+            }
+            for(int range = 0; range < ranges.size(); range ++) {
+                reachedStatements[range][testCase] = recording.getReachedStatement(range);
+                reachedLocals[range][testCase] = recording.getReachedLocals(range);
+            }
+        }
+        return new Recording(new ArrayList<>(testCases), ranges, reachedStatements, reachedLocals, killedByOriginal);
+    }
+
+    private synchronized Mutant getRecorder() {
+        if(recorder == null) {
+            String binaryName = MutantGenerator.GENERATED_PACKAGE + "." + mutantGenerator.getOriginalClass().getSimpleName() + "_recorder";
+            try {
+                Class<?> recorderClass = classLoader.defineAndLink(binaryName, generateBytecode(null, binaryName.replace('.', '/'), true));
+                recorder = new Mutant(mutantGenerator.getOriginalClass().getSimpleName(), null, recorderClass.asSubclass(Problem.class));
+            } catch(ClassNotFoundException e) {
+                throw new RuntimeException("The recording copy of the original can not be loaded.", e);
+            }
+        }
+        return recorder;
+    }
+
+    /**
+     * Either a resumable copy of the mutation, or, without a mutation, the recording copy of the original
+     */
+    byte[] generateBytecode(Mutation mutation, String internalName, boolean recording) {
+        BytecodeCopier copier = mutantGenerator.getCopier();
+        ClassNode original = copier.readOriginal();
+        ClassNode copy = BytecodeCopier.newSubclass(original, internalName);
+        if(!recording) {
+            copy.interfaces.add(Type.getInternalName(Resumable.class));
+            copy.fields.add(new FieldNode(Opcodes.ACC_PRIVATE, RESUME_STATEMENT_FIELD, "I", null, null));
+            copy.fields.add(new FieldNode(Opcodes.ACC_PRIVATE, RESUME_LOCALS_FIELD, "[I", null, null));
+            copy.methods.add(newResumeMethod(internalName));
+        }
+
+        for(MethodNode method : copier.copyMethods(original, copy)) {
+            boolean isEntry = isEntry(method);
+            if(recording) {
+                addRecording(method, isEntry);
+            } else if(isEntry) {
+                addResumePoints(method, internalName, isMutated(method, mutation) ? mutation : null);
+            } else if(isMutated(method, mutation)) {
+                mutation.applyTo(method);
+            }
+        }
+        if(!recording) {
+            for(MethodNode method : copy.methods) {
+                BudgetInstrumenter.instrument(method);
+            }
+        }
+        return BytecodeCopier.write(copy);
+    }
+
+    /**
+     * The recording copy tells the SplitStreamRecorder about every mutated range it reaches and, inside solve(), about
+     * every statement and every store of an int local variable.
+     */
+    private void addRecording(MethodNode method, boolean isEntry) {
+        AbstractInsnNode[] instructions = method.instructions.toArray();
+        if(isEntry) {
+            for(AbstractInsnNode instruction : instructions) {
+                int slot = storedSlot(instruction);
+                if(slot >= 0 && contains(intSlots, slot)) {
+                    InsnList hook = new InsnList();
+                    hook.add(new VarInsnNode(Opcodes.ILOAD, slot));
+                    hook.add(new LdcInsnNode(slot));
+                    hook.add(new MethodInsnNode(Opcodes.INVOKESTATIC, RECORDER, "local", "(II)V", false));
+                    method.instructions.insert(instruction, hook);
+                }
+            }
+            for(int statement : statements) {
+                InsnList hook = new InsnList();
+                hook.add(new LdcInsnNode(statement));
+                hook.add(new MethodInsnNode(Opcodes.INVOKESTATIC, RECORDER, "statement", "(I)V", false));
+                method.instructions.insertBefore(instructions[statement], hook);
+            }
+        }
+
+        for(Map.Entry<String, Integer> range : ranges.entrySet()) {
+            String prefix = method.name + method.desc + "@";
+            if(range.getKey().startsWith(prefix)) {
+                InsnList hook = new InsnList();
+                hook.add(new LdcInsnNode(range.getValue()));
+                hook.add(new MethodInsnNode(Opcodes.INVOKESTATIC, RECORDER, "reached", "(I)V", false));
+                method.instructions.insertBefore(instructions[Integer.parseInt(range.getKey().substring(prefix.length()))], hook);
+            }
+        }
+    }
+
+    /**
+     * Puts a label before every statement of solve(), applies the mutation, and adds a prologue which, when the
+     * resume fields are set, loads the int local variables from resumeLocals and jumps to the resumeStatement. The
+     * fields are cleared on the way, so the instance runs from the start the next time.
+     */
+    private void addResumePoints(MethodNode method, String internalName, Mutation mutation) {
+        AbstractInsnNode[] instructions = method.instructions.toArray();
+        LabelNode[] labels = new LabelNode[statements.length];
+        for(int i = 0; i < statements.length; i ++) {
+            labels[i] = new LabelNode();
+            method.instructions.insertBefore(instructions[statements[i]], labels[i]);
+        }
+        if(mutation != null) {
+            mutation.applyTo(method, instructions);
+        }
+
+        LabelNode body = new LabelNode();
+        InsnList prologue = new InsnList();
+        prologue.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        prologue.add(new FieldInsnNode(Opcodes.GETFIELD, internalName, RESUME_LOCALS_FIELD, "[I"));
+        prologue.add(new JumpInsnNode(Opcodes.IFNULL, body));
+        for(int slot : intSlots) {
+            prologue.add(new VarInsnNode(Opcodes.ALOAD, 0));
+            prologue.add(new FieldInsnNode(Opcodes.GETFIELD, internalName, RESUME_LOCALS_FIELD, "[I"));
+            prologue.add(new LdcInsnNode(slot));
+            prologue.add(new InsnNode(Opcodes.IALOAD));
+            prologue.add(new VarInsnNode(Opcodes.ISTORE, slot));
+        }
+        prologue.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        prologue.add(new FieldInsnNode(Opcodes.GETFIELD, internalName, RESUME_STATEMENT_FIELD, "I"));
+        prologue.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        prologue.add(new InsnNode(Opcodes.ACONST_NULL));
+        prologue.add(new FieldInsnNode(Opcodes.PUTFIELD, internalName, RESUME_LOCALS_FIELD, "[I"));
+        prologue.add(new LookupSwitchInsnNode(body, statements, labels));
+        prologue.add(body);
+        method.instructions.insert(prologue);
+    }
+
+    private static MethodNode newResumeMethod(String internalName) {
+        MethodNode resume = new MethodNode(Opcodes.ACC_PUBLIC, "resume", "(I[I)Z", null, null);
+        resume.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        resume.instructions.add(new VarInsnNode(Opcodes.ILOAD, 1));
+        resume.instructions.add(new FieldInsnNode(Opcodes.PUTFIELD, internalName, RESUME_STATEMENT_FIELD, "I"));
+        resume.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        resume.instructions.add(new VarInsnNode(Opcodes.ALOAD, 2));
+        resume.instructions.add(new FieldInsnNode(Opcodes.PUTFIELD, internalName, RESUME_LOCALS_FIELD, "[I"));
+        resume.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        resume.instructions.add(new MethodInsnNode(Opcodes.INVOKEVIRTUAL, internalName, ENTRY_NAME, ENTRY_DESCRIPTOR, false));
+        resume.instructions.add(new InsnNode(Opcodes.IRETURN));
+        return resume;
+    }
+
+    private static MethodNode findEntry(ClassNode original) {
+        for(MethodNode method : original.methods) {
+            if(isEntry(method)) {
+                return method;
+            }
+        }
+        throw new RuntimeException("The original class has no " + ENTRY_NAME + ENTRY_DESCRIPTOR + " to split.");
+    }
+
+    private static boolean isEntry(MethodNode method) {
+        return method.name.equals(ENTRY_NAME) && method.desc.equals(ENTRY_DESCRIPTOR);
+    }
+
+    private static boolean isMutated(MethodNode method, Mutation mutation) {
+        return mutation != null && method.name.equals(mutation.getMethodName()) && method.desc.equals(mutation.getMethodDescriptor());
+    }
+
+    static String rangeKey(Mutation mutation) {
+        return mutation.getMethodName() + mutation.getMethodDescriptor() + "@" + mutation.getFrom();
+    }
+
+    /**
+     * The positions of the reachable instructions which start with an empty stack, in increasing order
+     */
+    private static int[] findStatements(MethodNode method) {
+        AbstractInsnNode[] instructions = method.instructions.toArray();
+        StackDepths depths = new StackDepths(method);
+        List<Integer> found = new ArrayList<>();
+        for(int i = 0; i < instructions.length; i ++) {
+            if(instructions[i].getOpcode() >= 0 && depths.before(i) == 0) {
+                found.add(i);
+            }
+        }
+        int[] statements = new int[found.size()];
+        for(int i = 0; i < statements.length; i ++) {
+            statements[i] = found.get(i);
+        }
+        return statements;
+    }
+
+    /**
+     * The local variables, after the parameters, which are only ever used as ints
+     */
+    private static int[] findIntSlots(MethodNode method) {
+        int firstLocal = Type.getArgumentsAndReturnSizes(method.desc) >> 2;
+        boolean[] used = new boolean[method.maxLocals];
+        boolean[] other = new boolean[method.maxLocals];
+        for(AbstractInsnNode instruction : method.instructions.toArray()) {
+            if(instruction instanceof IincInsnNode) {
+                used[((IincInsnNode) instruction).var] = true;
+            } else if(instruction instanceof VarInsnNode) {
+                int opcode = instruction.getOpcode();
+                int slot = ((VarInsnNode) instruction).var;
+                used[slot] = true;
+                if(opcode != Opcodes.ILOAD && opcode != Opcodes.ISTORE) {
+                    other[slot] = true;
+                }
+            }
+        }
+
+        List<Integer> found = new ArrayList<>();
+        for(int slot = firstLocal; slot < method.maxLocals; slot ++) {
+            if(used[slot] && !other[slot]) {
+                found.add(slot);
+            }
+        }
+        int[] slots = new int[found.size()];
+        for(int i = 0; i < slots.length; i ++) {
+            slots[i] = found.get(i);
+        }
+        return slots;
+    }
+
+    private static int storedSlot(AbstractInsnNode instruction) {
+        if(instruction instanceof IincInsnNode) {
+            return ((IincInsnNode) instruction).var;
+        }
+        return instruction.getOpcode() == Opcodes.ISTORE ? ((VarInsnNode) instruction).var : -1;
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for(int candidate : values) {
+            if(candidate == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * What the recording copy of the original found on a list of test cases, for every mutated range
+     */
+    public static final class Recording {
+
+        private final List<TestCase> testCases;
+        private final Map<String, Integer> ranges;
+        private final int[][] reachedStatements;
+        private final int[][][] reachedLocals;
+        private final boolean[] killedByOriginal;
+
+        Recording(List<TestCase> testCases, Map<String, Integer> ranges, int[][] reachedStatements,
+                  int[][][] reachedLocals, boolean[] killedByOriginal) {
+            this.testCases = Collections.unmodifiableList(testCases);
+            this.ranges = ranges;
+            this.reachedStatements = reachedStatements;
+            this.reachedLocals = reachedLocals;
+            this.killedByOriginal = killedByOriginal;
+        }
+
+        public List<TestCase> getTestCases() {
+            return testCases;
+        }
+
+        public boolean isReached(Mutation mutation, int testCase) {
+            return getStatement(mutation, testCase) != UNREACHED;
+        }
+
+        /**
+         * The statement of solve() a mutant of the mutation resumes from on the test case, or -1 if the test case
+         * never reaches the mutation
+         */
+        public int getStatement(Mutation mutation, int testCase) {
+            return reachedStatements[range(mutation)][testCase];
+        }
+
+        public int[] getLocals(Mutation mutation, int testCase) {
+            return reachedLocals[range(mutation)][testCase];
+        }
+
+        /**
+         * Whether the original itself fails the test case, which is then the outcome of every mutant not reached
+         */
+        public boolean isKilledByOriginal(int testCase) {
+            return killedByOriginal[testCase];
+        }
+
+        /**
+         * How many mutant and test case pairs need no run at all, out of the given mutants
+         */
+        public int getNumberOfUnreachedPairs(List<Mutant> mutants) {
+            int unreached = 0;
+            for(Mutant mutant : mutants) {
+                if(mutant.getMutation() != null && Resumable.class.isAssignableFrom(mutant.getMutantClass())) {
+                    for(int testCase = 0; testCase < testCases.size(); testCase ++) {
+                        if(!isReached(mutant.getMutation(), testCase)) {
+                            unreached ++;
+                        }
+                    }
+                }
+            }
+            return unreached;
+        }
+
+        private int range(Mutation mutation) {
+            Integer range = ranges.get(rangeKey(mutation));
+            if(range == null) {
+                throw new RuntimeException("The mutation " + mutation.getId() + " was not recorded.");
+            }
+            return range;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package main.mutation;
+
+import java.util.Arrays;
+
+/**
+ * Called by the recording copy of the original, see SplitStream. It follows the int local variables of solve(), keeps
+ * them as they were at the start of the current statement, and copies them for every mutated range the first time the
+ * range is reached.
+ */
+public final class SplitStreamRecorder {
+
+    private static final ThreadLocal<SplitStreamRecorder> CURRENT = new ThreadLocal<>();
+
+    private final int[] locals;
+    private final int[] statementLocals;
+    private int statement = -1;
+    private final int[] reachedStatements;
+    private final int[][] reachedLocals;
+
+    private SplitStreamRecorder(int numberOfLocals, int numberOfRanges) {
+        this.locals = new int[numberOfLocals];
+        this.statementLocals = new int[numberOfLocals];
+        this.reachedStatements = new int[numberOfRanges];
+        this.reachedLocals = new int[numberOfRanges][];
+        Arrays.fill(reachedStatements, SplitStream.UNREACHED);
+    }
+
+    static SplitStreamRecorder start(int numberOfLocals, int numberOfRanges) {
+        SplitStreamRecorder recorder = new SplitStreamRecorder(numberOfLocals, numberOfRanges);
+        CURRENT.set(recorder);
+        return recorder;
+    }
+
+    void finish() {
+        CURRENT.remove();
+    }
+
+    /**
+     * After every store of an int local variable
+     */
+    public static void local(int value, int slot) {
+        SplitStreamRecorder recorder = CURRENT.get();
+        if(recorder != null) {
+            recorder.locals[slot] = value;
+        }
+    }
+
+    /**
+     * Before every statement of solve(), which is known by the position of its first instruction
+     */
+    public static void statement(int statement) {
+        SplitStreamRecorder recorder = CURRENT.get();
+        if(recorder != null) {
+            recorder.statement = statement;
+            System.arraycopy(recorder.locals, 0, recorder.statementLocals, 0, recorder.locals.length);
+        }
+    }
+
+    /**
+     * Before the first instruction of every mutated range
+     */
+    public static void reached(int range) {
+        SplitStreamRecorder recorder = CURRENT.get();
+        if(recorder != null && recorder.reachedStatements[range] == SplitStream.UNREACHED) {
+            recorder.reachedStatements[range] = recorder.statement;
+            recorder.reachedLocals[range] = recorder.statementLocals.clone();
+        }
+    }
+
+    int getReachedStatement(int range) {
+        return reachedStatements[range];
+    }
+
+    int[] getReachedLocals(int range) {
+        return reachedLocals[range];
+    }
+}
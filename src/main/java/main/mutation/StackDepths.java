@@ -0,0 +1,178 @@
+package main.mutation;
+
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.MultiANewArrayInsnNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Size of the operand stack, in slots, before every instruction of a method, found with a single pass over the
+ * instructions. The methods compiled by javac have the same stack size on every path reaching an instruction, therefore
+ * it is enough to take the size from the instruction before or, after a goto, return or throw, from the jumps to it.
+ */
+final class StackDepths {
+
+    static final int UNREACHABLE = -1;
+
+    private final int[] depths;
+    private final Set<LabelNode> jumpTargets = new HashSet<>();
+
+    StackDepths(MethodNode method) {
+        AbstractInsnNode[] instructions = method.instructions.toArray();
+        depths = new int[instructions.length + 1];
+
+        Map<LabelNode, Integer> depthsAtLabels = new HashMap<>();
+        for(TryCatchBlockNode tryCatchBlock : method.tryCatchBlocks) {
+            depthsAtLabels.put(tryCatchBlock.handler, 1);
+            jumpTargets.add(tryCatchBlock.handler);
+        }
+
+        int depth = 0;
+        for(int i = 0; i < instructions.length; i ++) {
+            AbstractInsnNode instruction = instructions[i];
+
+            if(instruction instanceof LabelNode && depthsAtLabels.containsKey(instruction)) {
+                depth = depthsAtLabels.get(instruction);
+            }
+            depths[i] = depth;
+            if(depth == UNREACHABLE || instruction.getOpcode() < 0) {
+                continue;
+            }
+
+            depth += effect(instruction);
+            for(LabelNode target : targets(instruction)) {
+                jumpTargets.add(target);
+                depthsAtLabels.put(target, depth);
+            }
+            if(endsFlow(instruction.getOpcode())) {
+                depth = UNREACHABLE;
+            }
+        }
+        depths[instructions.length] = depth;
+    }
+
+    /**
+     * The stack size before the instruction at the given position, or UNREACHABLE
+     */
+    int before(int position) {
+        return depths[position];
+    }
+
+    boolean isJumpTarget(AbstractInsnNode instruction) {
+        return instruction instanceof LabelNode && jumpTargets.contains(instruction);
+    }
+
+    static LabelNode[] targets(AbstractInsnNode instruction) {
+        if(instruction instanceof JumpInsnNode) {
+            return new LabelNode[] {((JumpInsnNode) instruction).label};
+        }
+        if(instruction instanceof TableSwitchInsnNode) {
+            TableSwitchInsnNode tableSwitch = (TableSwitchInsnNode) instruction;
+            LabelNode[] targets = tableSwitch.labels.toArray(new LabelNode[tableSwitch.labels.size() + 1]);
+            targets[targets.length - 1] = tableSwitch.dflt;
+            return targets;
+        }
+        if(instruction instanceof LookupSwitchInsnNode) {
+            LookupSwitchInsnNode lookupSwitch = (LookupSwitchInsnNode) instruction;
+            LabelNode[] targets = lookupSwitch.labels.toArray(new LabelNode[lookupSwitch.labels.size() + 1]);
+            targets[targets.length - 1] = lookupSwitch.dflt;
+            return targets;
+        }
+        return new LabelNode[0];
+    }
+
+    static boolean endsFlow(int opcode) {
+        return opcode == Opcodes.GOTO || opcode == Opcodes.ATHROW || opcode == Opcodes.TABLESWITCH
+                || opcode == Opcodes.LOOKUPSWITCH || (opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN);
+    }
+
+    /**
+     * How many slots the instruction pushes minus how many it pops
+     */
+    static int effect(AbstractInsnNode instruction) {
+        int opcode = instruction.getOpcode();
+
+        switch(opcode) {
+            case Opcodes.LDC:
+                Object constant = ((LdcInsnNode) instruction).cst;
+                return constant instanceof Long || constant instanceof Double ? 2 : 1;
+            case Opcodes.GETSTATIC:
+                return Type.getType(((FieldInsnNode) instruction).desc).getSize();
+            case Opcodes.PUTSTATIC:
+                return -Type.getType(((FieldInsnNode) instruction).desc).getSize();
+            case Opcodes.GETFIELD:
+                return Type.getType(((FieldInsnNode) instruction).desc).getSize() - 1;
+            case Opcodes.PUTFIELD:
+                return -Type.getType(((FieldInsnNode) instruction).desc).getSize() - 1;
+            case Opcodes.INVOKEVIRTUAL:
+            case Opcodes.INVOKESPECIAL:
+            case Opcodes.INVOKESTATIC:
+            case Opcodes.INVOKEINTERFACE: {
+                int sizes = Type.getArgumentsAndReturnSizes(((MethodInsnNode) instruction).desc);
+                int arguments = (sizes >> 2) - (opcode == Opcodes.INVOKESTATIC ? 1 : 0);
+                return (sizes & 3) - arguments;
+            }
+            case Opcodes.INVOKEDYNAMIC: {
+                int sizes = Type.getArgumentsAndReturnSizes(((InvokeDynamicInsnNode) instruction).desc);
+                return (sizes & 3) - ((sizes >> 2) - 1);
+            }
+            case Opcodes.MULTIANEWARRAY:
+                return 1 - ((MultiANewArrayInsnNode) instruction).dims;
+            default:
+                return EFFECTS[opcode];
+        }
+    }
+
+    /**
+     * Effect of the instructions which do not depend on a descriptor or a constant, indexed by opcode
+     */
+    private static final int[] EFFECTS = new int[Opcodes.IFNONNULL + 1];
+
+    static {
+        set(1, Opcodes.ACONST_NULL, Opcodes.ICONST_M1, Opcodes.ICONST_0, Opcodes.ICONST_1, Opcodes.ICONST_2,
+                Opcodes.ICONST_3, Opcodes.ICONST_4, Opcodes.ICONST_5, Opcodes.FCONST_0, Opcodes.FCONST_1,
+                Opcodes.FCONST_2, Opcodes.BIPUSH, Opcodes.SIPUSH, Opcodes.ILOAD, Opcodes.FLOAD, Opcodes.ALOAD,
+                Opcodes.DUP, Opcodes.DUP_X1, Opcodes.DUP_X2, Opcodes.I2L, Opcodes.I2D, Opcodes.F2L, Opcodes.F2D,
+                Opcodes.JSR, Opcodes.NEW);
+        set(2, Opcodes.LCONST_0, Opcodes.LCONST_1, Opcodes.DCONST_0, Opcodes.DCONST_1, Opcodes.LLOAD, Opcodes.DLOAD,
+                Opcodes.DUP2, Opcodes.DUP2_X1, Opcodes.DUP2_X2);
+        set(-1, Opcodes.IALOAD, Opcodes.FALOAD, Opcodes.AALOAD, Opcodes.BALOAD, Opcodes.CALOAD, Opcodes.SALOAD,
+                Opcodes.ISTORE, Opcodes.FSTORE, Opcodes.ASTORE, Opcodes.POP,
+                Opcodes.IADD, Opcodes.FADD, Opcodes.ISUB, Opcodes.FSUB, Opcodes.IMUL, Opcodes.FMUL, Opcodes.IDIV,
+                Opcodes.FDIV, Opcodes.IREM, Opcodes.FREM, Opcodes.ISHL, Opcodes.LSHL, Opcodes.ISHR, Opcodes.LSHR,
+                Opcodes.IUSHR, Opcodes.LUSHR, Opcodes.IAND, Opcodes.IOR, Opcodes.IXOR, Opcodes.L2I, Opcodes.L2F,
+                Opcodes.D2I, Opcodes.D2F, Opcodes.FCMPL, Opcodes.FCMPG, Opcodes.IFEQ, Opcodes.IFNE, Opcodes.IFLT,
+                Opcodes.IFGE, Opcodes.IFGT, Opcodes.IFLE, Opcodes.TABLESWITCH, Opcodes.LOOKUPSWITCH, Opcodes.IRETURN,
+                Opcodes.FRETURN, Opcodes.ARETURN, Opcodes.ATHROW, Opcodes.MONITORENTER, Opcodes.MONITOREXIT,
+                Opcodes.IFNULL, Opcodes.IFNONNULL);
+        set(-2, Opcodes.LSTORE, Opcodes.DSTORE, Opcodes.POP2, Opcodes.LADD, Opcodes.DADD, Opcodes.LSUB, Opcodes.DSUB,
+                Opcodes.LMUL, Opcodes.DMUL, Opcodes.LDIV, Opcodes.DDIV, Opcodes.LREM, Opcodes.DREM, Opcodes.LAND,
+                Opcodes.LOR, Opcodes.LXOR, Opcodes.IF_ICMPEQ, Opcodes.IF_ICMPNE, Opcodes.IF_ICMPLT, Opcodes.IF_ICMPGE,
+                Opcodes.IF_ICMPGT, Opcodes.IF_ICMPLE, Opcodes.IF_ACMPEQ, Opcodes.IF_ACMPNE, Opcodes.LRETURN,
+                Opcodes.DRETURN);
+        set(-3, Opcodes.IASTORE, Opcodes.FASTORE, Opcodes.AASTORE, Opcodes.BASTORE, Opcodes.CASTORE, Opcodes.SASTORE,
+                Opcodes.LCMP, Opcodes.DCMPL, Opcodes.DCMPG);
+        set(-4, Opcodes.LASTORE, Opcodes.DASTORE);
+    }
+
+    private static void set(int effect, int... opcodes) {
+        for(int opcode : opcodes) {
+            EFFECTS[opcode] = effect;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package main.mutation;
+
+import main.Problem;
+import main.utilities.Result;
+import main.utilities.ResultType;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * One input of the test data together with the result Problem.solve() has to give for it, the same pairs the tests
+ * inside main/mutants check.
+ */
+public final class TestCase {
+
+    private final String id;
+    private final Problem problem;
+    private final Result expected;
+
+    public TestCase(String id, Problem problem, Result expected) {
+        this.id = id;
+        this.problem = problem;
+        this.expected = expected;
+    }
+
+    /**
+     * Runs the mutated problem and tells if its outcome is different from the expected one: another value, an
+     * exception when a value was expected, or an exception with another message.
+     */
+    public boolean isKilledBy(Problem mutated) {
+        return isKilledBy(mutated::solve);
+    }
+
+    /**
+     * The same as isKilledBy(Problem), for a mutant which is run another way than through solve(), like a mutant
+     * resumed by the SplitStream
+     */
+    public boolean isKilledBy(BooleanSupplier execution) {
+        try {
+            boolean value = execution.getAsBoolean();
+            return expected.getResultType() == ResultType.EXCEPTION || value != expected.getValue();
+        } catch(RuntimeException | StackOverflowError e) {
+            return expected.getResultType() != ResultType.EXCEPTION || !expected.getErrorMessage().equals(e.getMessage());
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Problem getProblem() {
+        return problem;
+    }
+
+    public Result getExpected() {
+        return expected;
+    }
+
+    /**
+     * A hash of everything the outcome of a mutant on this test case depends on: N, the input array and the expected
+     * result. The description and the id are left out.
+     */
+    public long getContentHash() {
+        ContentHash hash = new ContentHash().add(problem.getNumberOfElements());
+        int[] input = problem.getInput();
+        if(input == null) {
+            hash.add(-1);
+        } else {
+            hash.add(input.length);
+            for(int element : input) {
+                hash.add(element);
+            }
+        }
+        hash.add(expected.getResultType().ordinal());
+        if(expected.getResultType() == ResultType.EXCEPTION) {
+            hash.add(expected.getErrorMessage());
+        } else {
+            hash.add(expected.getValue() ? 1 : 0);
+        }
+        return hash.value();
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+}
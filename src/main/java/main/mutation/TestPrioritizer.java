@@ -0,0 +1,155 @@
+package main.mutation;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Orders the test cases of every mutant by how likely they are to kill it, from the kill history of a saved
+ * KillMatrix, so that with early kill a mutant is usually stopped by the first test case it runs.
+ *
+ * The test cases which killed the same mutant before come first. The others follow by how often they killed the
+ * mutants of the same group, which is the id without its number, like Problem_solve_ROR for Problem_solve_ROR_32,
+ * and then by how often they killed any mutant. The test cases and the mutants are matched with the history by id,
+ * so a new mutant is ranked by its group and a new test case by nothing, and it keeps its place in the list.
+ */
+public class TestPrioritizer {
+
+    private final KillMatrix history;
+    private final Map<String, Integer> historyMutants = new HashMap<>();
+    private final Map<String, Integer> historyTestCases = new HashMap<>();
+    private final Map<String, int[]> groupKills = new HashMap<>();
+    private final Map<String, int[]> groupRuns = new HashMap<>();
+    private final int[] kills;
+    private final int[] runs;
+
+    public TestPrioritizer(KillMatrix history) {
+        this.history = history;
+        int numberOfTestCases = history.getTestCaseIds().size();
+        for(int testCase = 0; testCase < numberOfTestCases; testCase ++) {
+            historyTestCases.put(history.getTestCaseIds().get(testCase), testCase);
+        }
+
+        kills = new int[numberOfTestCases];
+        runs = new int[numberOfTestCases];
+        for(int mutant = 0; mutant < history.getMutantIds().size(); mutant ++) {
+            String id = history.getMutantIds().get(mutant);
+            historyMutants.put(id, mutant);
+            int[] mutantGroupKills = groupKills.computeIfAbsent(group(id), key -> new int[numberOfTestCases]);
+            int[] mutantGroupRuns = groupRuns.computeIfAbsent(group(id), key -> new int[numberOfTestCases]);
+
+            BitSet killing = history.getKillingTestCases(mutant);
+            BitSet run = history.getRunTestCases(mutant);
+            for(int testCase = run.nextSetBit(0); testCase >= 0; testCase = run.nextSetBit(testCase + 1)) {
+                runs[testCase] ++;
+                mutantGroupRuns[testCase] ++;
+                if(killing.get(testCase)) {
+                    kills[testCase] ++;
+                    mutantGroupKills[testCase] ++;
+                }
+            }
+        }
+    }
+
+    /**
+     * For every mutant, the indexes of all the test cases in the order they should be run
+     */
+    public int[][] order(List<Mutant> mutants, List<TestCase> testCases) {
+        int[] historyColumns = historyColumns(testCases);
+        double[] overallRates = new double[testCases.size()];
+        for(int testCase = 0; testCase < testCases.size(); testCase ++) {
+            int column = historyColumns[testCase];
+            overallRates[testCase] = column >= 0 ? rate(kills[column], runs[column]) : rate(0, 0);
+        }
+
+        int[][] orders = new int[mutants.size()][];
+        for(int mutant = 0; mutant < mutants.size(); mutant ++) {
+            String id = mutants.get(mutant).getId();
+            Integer historyMutant = historyMutants.get(id);
+            BitSet killing = historyMutant != null ? history.getKillingTestCases(historyMutant) : new BitSet();
+            BitSet run = historyMutant != null ? history.getRunTestCases(historyMutant) : new BitSet();
+            int[] mutantGroupKills = groupKills.get(group(id));
+            int[] mutantGroupRuns = groupRuns.get(group(id));
+
+            double[] scores = new double[testCases.size()];
+            for(int testCase = 0; testCase < testCases.size(); testCase ++) {
+                int column = historyColumns[testCase];
+                double groupRate = column >= 0 && mutantGroupKills != null
+                        ? rate(mutantGroupKills[column], mutantGroupRuns[column]) : rate(0, 0);
+                // the killers first, the test cases it survived last, the rates in [0, 1] break the ties
+                int known = column < 0 || !run.get(column) ? 1 : killing.get(column) ? 2 : 0;
+                scores[testCase] = 2 * known + groupRate + overallRates[testCase] / 2;
+            }
+
+            List<Integer> order = new ArrayList<>();
+            for(int testCase = 0; testCase < testCases.size(); testCase ++) {
+                order.add(testCase);
+            }
+            order.sort(Comparator.comparingDouble((Integer testCase) -> -scores[testCase]));
+            orders[mutant] = order.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return orders;
+    }
+
+    /**
+     * Runs the mutants with the order of order(), which saves runs only without the full kill matrix
+     */
+    public MutationReport run(MutationRunner runner, List<Mutant> mutants, List<TestCase> testCases) {
+        return runner.run(mutants, testCases, order(mutants, testCases));
+    }
+
+    /**
+     * The median number of test cases the mutants would run in the order of the list with early kill, as far as the
+     * history tells: up to the first one which killed them before, or all of them
+     */
+    public double getMedianNumberOfRunsInListOrder(List<Mutant> mutants, List<TestCase> testCases) {
+        int[] historyColumns = historyColumns(testCases);
+        int[] numberOfRuns = new int[mutants.size()];
+        for(int mutant = 0; mutant < mutants.size(); mutant ++) {
+            Integer historyMutant = historyMutants.get(mutants.get(mutant).getId());
+            BitSet killing = historyMutant != null ? history.getKillingTestCases(historyMutant) : new BitSet();
+            numberOfRuns[mutant] = testCases.size();
+            for(int testCase = 0; testCase < testCases.size(); testCase ++) {
+                if(historyColumns[testCase] >= 0 && killing.get(historyColumns[testCase])) {
+                    numberOfRuns[mutant] = testCase + 1;
+                    break;
+                }
+            }
+        }
+        return MutationReport.median(numberOfRuns);
+    }
+
+    /**
+     * A line comparing the median number of runs of a prioritized report with the one of the list order
+     */
+    public String describeReduction(MutationReport prioritized, List<Mutant> mutants, List<TestCase> testCases) {
+        double listOrder = getMedianNumberOfRunsInListOrder(mutants, testCases);
+        double prioritizedRuns = prioritized.getMedianNumberOfRuns();
+        double reduction = listOrder > 0 ? 100 * (listOrder - prioritizedRuns) / listOrder : 0;
+        return String.format("Median test cases run per mutant: %.1f in the list order, %.1f prioritized, %.1f%% fewer",
+                listOrder, prioritizedRuns, reduction);
+    }
+
+    private int[] historyColumns(List<TestCase> testCases) {
+        int[] columns = new int[testCases.size()];
+        for(int testCase = 0; testCase < columns.length; testCase ++) {
+            columns[testCase] = historyTestCases.getOrDefault(testCases.get(testCase).getId(), -1);
+        }
+        return columns;
+    }
+
+    /**
+     * The share of kills, with one kill and one survival added, so a test case never run gets one half
+     */
+    private static double rate(int kills, int runs) {
+        return (kills + 1.0) / (runs + 2.0);
+    }
+
+    static String group(String mutantId) {
+        int end = mutantId.lastIndexOf('_');
+        return end > 0 && mutantId.substring(end + 1).chars().allMatch(Character::isDigit) ? mutantId.substring(0, end) : mutantId;
+    }
+}
@@ -0,0 +1,259 @@
+package main.mutation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Finds a small subset of the test cases which keeps what the whole suite covers: it kills the same mutants, it shows
+ * the same MC/DC condition vectors and it covers the same equivalence partitions (see ProblemCoverage).
+ *
+ * Every test case gets a vector of the requirements it covers, packed in 64 bit words: the partitions and condition
+ * vectors first, then one bit for every dominator of the full kill matrix (see DominatorAnalysis), since a subset
+ * killing the dominators kills every mutant the suite kills. Only the requirements the whole suite covers are kept.
+ *
+ * The subset is found by a greedy set cover, or for at most EXACT_LIMIT distinct vectors by an exact branch and bound
+ * which starts from the greedy cover. The subset is meant for the fast runs, the full runs keep the whole suite.
+ */
+public class TestSuiteMinimizer {
+
+    public static final int EXACT_LIMIT = 40;
+
+    private final List<TestCase> testCases;
+    private final List<String> requirements = new ArrayList<>();
+    private final long[][] coverage;
+    private final long[] required;
+
+    /**
+     * The report has to hold the full kill matrix of the test cases, in the same order
+     */
+    public TestSuiteMinimizer(List<TestCase> testCases, MutationReport fullReport) {
+        if(testCases.size() != fullReport.getTestCaseIds().size()) {
+            throw new RuntimeException("The report is not about these test cases.");
+        }
+        for(int testCase = 0; testCase < testCases.size(); testCase ++) {
+            if(!testCases.get(testCase).getId().equals(fullReport.getTestCaseIds().get(testCase))) {
+                throw new RuntimeException("The report is not about these test cases.");
+            }
+        }
+        this.testCases = Collections.unmodifiableList(new ArrayList<>(testCases));
+
+        DominatorAnalysis analysis = DominatorAnalysis.of(fullReport);
+        List<Integer> dominators = analysis.getDominators();
+        requirements.addAll(Arrays.asList(ProblemCoverage.REQUIREMENTS));
+        for(int dominator : dominators) {
+            requirements.add("Kill " + fullReport.getMutantIds().get(dominator));
+        }
+
+        int words = (requirements.size() + 63) / 64;
+        coverage = new long[testCases.size()][words];
+        required = new long[words];
+        for(int testCase = 0; testCase < testCases.size(); testCase ++) {
+            coverage[testCase][0] = ProblemCoverage.of(testCases.get(testCase).getProblem());
+            for(int dominator = 0; dominator < dominators.size(); dominator ++) {
+                if(fullReport.getKillingTestCases(dominators.get(dominator)).get(testCase)) {
+                    int requirement = ProblemCoverage.REQUIREMENTS.length + dominator;
+                    coverage[testCase][requirement / 64] |= 1L << requirement;
+                }
+            }
+            for(int word = 0; word < words; word ++) {
+                required[word] |= coverage[testCase][word];
+            }
+        }
+    }
+
+    /**
+     * The exact subset when there are at most EXACT_LIMIT distinct vectors, the greedy one otherwise
+     */
+    public List<TestCase> minimize() {
+        return select(distinct().size() <= EXACT_LIMIT ? exact() : greedy());
+    }
+
+    /**
+     * The indexes of a cover built by always taking the test case which covers the most requirements left, the first
+     * one in the list on a tie
+     */
+    public int[] greedy() {
+        long[] left = required.clone();
+        List<Integer> chosen = new ArrayList<>();
+        while(!isEmpty(left)) {
+            int best = -1;
+            int bestCount = 0;
+            for(int testCase = 0; testCase < coverage.length; testCase ++) {
+                int count = countAnd(coverage[testCase], left);
+                if(count > bestCount) {
+                    best = testCase;
+                    bestCount = count;
+                }
+            }
+            chosen.add(best);
+            andNot(left, coverage[best]);
+        }
+        return sorted(chosen);
+    }
+
+    /**
+     * The indexes of a smallest cover. It branches on the requirement left with the fewest test cases covering it,
+     * so its time grows exponentially with the number of distinct vectors.
+     */
+    public int[] exact() {
+        List<Integer> candidates = distinct();
+        int[] greedy = greedy();
+        Search search = new Search(candidates, greedy);
+        search.run(required.clone(), new int[greedy.length], 0);
+        return search.best;
+    }
+
+    /**
+     * How many requirements the whole suite covers
+     */
+    public int getNumberOfRequirements() {
+        int count = 0;
+        for(long word : required) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * The requirements the test case covers, by their index in getRequirements()
+     */
+    public BitSet getCoverage(int testCase) {
+        return BitSet.valueOf(coverage[testCase]);
+    }
+
+    /**
+     * The names of all the requirements, including the ones the suite does not cover
+     */
+    public List<String> getRequirements() {
+        return Collections.unmodifiableList(requirements);
+    }
+
+    public List<TestCase> select(int[] indexes) {
+        List<TestCase> selected = new ArrayList<>();
+        for(int index : indexes) {
+            selected.add(testCases.get(index));
+        }
+        return selected;
+    }
+
+    /**
+     * A line comparing the mutation run of the whole suite with the one of the reduced suite, on the same mutants
+     */
+    public static String describeSavings(MutationReport full, MutationReport reduced) {
+        double fullMillis = full.getTotalNanos() / 1e6;
+        double reducedMillis = reduced.getTotalNanos() / 1e6;
+        double saved = fullMillis > 0 ? 100 * (fullMillis - reducedMillis) / fullMillis : 0;
+        return String.format("Test cases: %d in the full suite, %d in the reduced one; mutation score %.2f%% and %.2f%%;" +
+                        " %d runs in %.3f ms and %d runs in %.3f ms, %.1f%% saved",
+                full.getTestCaseIds().size(), reduced.getTestCaseIds().size(), 100 * full.getMutationScore(),
+                100 * reduced.getMutationScore(), full.getNumberOfRuns(), fullMillis, reduced.getNumberOfRuns(),
+                reducedMillis, saved);
+    }
+
+    /**
+     * The first test case of every distinct coverage vector
+     */
+    private List<Integer> distinct() {
+        List<Integer> distinct = new ArrayList<>();
+        for(int testCase = 0; testCase < coverage.length; testCase ++) {
+            boolean seen = false;
+            for(int other : distinct) {
+                if(Arrays.equals(coverage[other], coverage[testCase])) {
+                    seen = true;
+                    break;
+                }
+            }
+            if(!seen) {
+                distinct.add(testCase);
+            }
+        }
+        return distinct;
+    }
+
+    private class Search {
+
+        private final List<Integer> candidates;
+        private int[] best;
+
+        private Search(List<Integer> candidates, int[] greedy) {
+            this.candidates = candidates;
+            this.best = greedy;
+        }
+
+        private void run(long[] left, int[] chosen, int size) {
+            if(isEmpty(left)) {
+                best = sorted(chosen, size);
+                return;
+            }
+            // one more test case is needed, which has to make the cover smaller than the best one
+            if(size + 1 >= best.length) {
+                return;
+            }
+
+            int requirement = -1;
+            int fewest = Integer.MAX_VALUE;
+            for(int word = 0; word < left.length; word ++) {
+                for(long bits = left[word]; bits != 0; bits &= bits - 1) {
+                    int candidate = word * 64 + Long.numberOfTrailingZeros(bits);
+                    int count = 0;
+                    for(int testCase : candidates) {
+                        if((coverage[testCase][word] & (1L << candidate)) != 0) {
+                            count ++;
+                        }
+                    }
+                    if(count < fewest) {
+                        requirement = candidate;
+                        fewest = count;
+                    }
+                }
+            }
+
+            for(int testCase : candidates) {
+                if((coverage[testCase][requirement / 64] & (1L << requirement)) != 0) {
+                    long[] next = left.clone();
+                    andNot(next, coverage[testCase]);
+                    chosen[size] = testCase;
+                    run(next, chosen, size + 1);
+                }
+            }
+        }
+    }
+
+    private static int[] sorted(List<Integer> indexes) {
+        int[] array = indexes.stream().mapToInt(Integer::intValue).toArray();
+        Arrays.sort(array);
+        return array;
+    }
+
+    private static int[] sorted(int[] indexes, int size) {
+        int[] array = Arrays.copyOf(indexes, size);
+        Arrays.sort(array);
+        return array;
+    }
+
+    private static boolean isEmpty(long[] bits) {
+        for(long word : bits) {
+            if(word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int countAnd(long[] bits, long[] mask) {
+        int count = 0;
+        for(int word = 0; word < bits.length; word ++) {
+            count += Long.bitCount(bits[word] & mask[word]);
+        }
+        return count;
+    }
+
+    private static void andNot(long[] bits, long[] mask) {
+        for(int word = 0; word < bits.length; word ++) {
+            bits[word] &= ~mask[word];
+        }
+    }
+}
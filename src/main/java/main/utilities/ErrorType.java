@@ -0,0 +1,28 @@
+package main.utilities;
+
+/**
+ * The errors Problem.solve() can end with, in the order they are checked.
+ *
+ * Only NEGATIVE_ELEMENT needs the failing position to build its message.
+ */
+public enum ErrorType {
+
+    NUMBER_OF_ELEMENTS_OUTSIDE_BOUNDS,
+    NULL_INPUT,
+    LENGTH_DIFFERENT_THAN_N,
+    NEGATIVE_ELEMENT;
+
+    public String getMessage(int position) {
+        switch(this) {
+            case NUMBER_OF_ELEMENTS_OUTSIDE_BOUNDS:
+                return "The number of elements is outside the interval [2, 100].";
+            case NULL_INPUT:
+                return "Input array is null.";
+            case LENGTH_DIFFERENT_THAN_N:
+                return "Input array length is different than the N given.";
+            default:
+                return "The element on position " + position + " is not a natural number.";
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+package main.utilities;
+
+public class Result {
+
+    public static final int NO_POSITION = -1;
+
+    /**
+     * The largest N accepted by Problem.solve(), so every possible negative element position has a shared result.
+     */
+    private static final int MAXIMUM_NUMBER_OF_ELEMENTS = 100;
+
+    private static final Result TRUE = new Result(ResultType.VALUE, true, null, NO_POSITION, null);
+    private static final Result FALSE = new Result(ResultType.VALUE, false, null, NO_POSITION, null);
+    private static final Result NUMBER_OF_ELEMENTS_OUTSIDE_BOUNDS = makeSharedErrorResult(ErrorType.NUMBER_OF_ELEMENTS_OUTSIDE_BOUNDS, NO_POSITION);
+    private static final Result NULL_INPUT = makeSharedErrorResult(ErrorType.NULL_INPUT, NO_POSITION);
+    private static final Result LENGTH_DIFFERENT_THAN_N = makeSharedErrorResult(ErrorType.LENGTH_DIFFERENT_THAN_N, NO_POSITION);
+    private static final Result[] NEGATIVE_ELEMENTS = new Result[MAXIMUM_NUMBER_OF_ELEMENTS];
+
+    static {
+        for(int position = 0; position < MAXIMUM_NUMBER_OF_ELEMENTS; position ++) {
+            NEGATIVE_ELEMENTS[position] = makeSharedErrorResult(ErrorType.NEGATIVE_ELEMENT, position);
+        }
+    }
+
+    private final ResultType resultType;
+    private final boolean value;
+    private final ErrorType errorType;
+    private final int errorPosition;
+    private final String errorMessage;
+
+    private Result(ResultType resultType, boolean value, ErrorType errorType, int errorPosition, String errorMessage) {
+        this.resultType = resultType;
+        this.value = value;
+        this.errorType = errorType;
+        this.errorPosition = errorPosition;
+        this.errorMessage = errorMessage;
+    }
+
+    public ResultType getResultType() {
+        return resultType;
+    }
+
+    public boolean getValue() {
+        return value;
+    }
+
+    /**
+     * Null for the results made from a message only, through makeErrorResult(String).
+     */
+    public ErrorType getErrorType() {
+        return errorType;
+    }
+
+    public int getErrorPosition() {
+        return errorPosition;
+    }
+
+    /**
+     * The shared results hold their message from the start. The other ones build it every time it is asked for, and
+     * never store it, since a result can be read by many threads.
+     */
+    public String getErrorMessage() {
+        if(errorMessage == null && errorType != null) {
+            return errorType.getMessage(errorPosition);
+        }
+        return errorMessage;
+    }
+
+    public static Result makeErrorResult(String errorMessage) {
+        return new Result(ResultType.EXCEPTION, false, null, NO_POSITION, errorMessage);
+    }
+
+    public static Result makeNormalResult(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    /**
+     * Returns a shared instance for every error, except for negative elements on positions beyond the bounds of N.
+     */
+    public static Result makeErrorResult(ErrorType errorType, int errorPosition) {
+        switch(errorType) {
+            case NUMBER_OF_ELEMENTS_OUTSIDE_BOUNDS:
+                return NUMBER_OF_ELEMENTS_OUTSIDE_BOUNDS;
+            case NULL_INPUT:
+                return NULL_INPUT;
+            case LENGTH_DIFFERENT_THAN_N:
+                return LENGTH_DIFFERENT_THAN_N;
+            default:
+                if(errorPosition >= 0 && errorPosition < MAXIMUM_NUMBER_OF_ELEMENTS) {
+                    return NEGATIVE_ELEMENTS[errorPosition];
+                }
+                return new Result(ResultType.EXCEPTION, false, errorType, errorPosition, null);
+        }
+    }
+
+    private static Result makeSharedErrorResult(ErrorType errorType, int errorPosition) {
+        return new Result(ResultType.EXCEPTION, false, errorType, errorPosition, errorType.getMessage(errorPosition));
+    }
+
+}
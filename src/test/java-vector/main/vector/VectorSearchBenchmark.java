@@ -0,0 +1,81 @@
+package main.vector;
+
+import main.LargeProblem;
+
+/**
+ * Compares the scalar fused loop of LargeProblem.solve() with the vectorized one, and a plain scalar search with
+ * VectorizedSearch.contains(), over a range of array sizes. The mirror of the last element is not in the array, so
+ * every element is read.
+ *
+ * Run after mvn -Pvector test-compile with:
+ * java --add-modules jdk.incubator.vector -cp target/classes:target/test-classes main.vector.VectorSearchBenchmark
+ */
+public class VectorSearchBenchmark {
+
+    private static final int[] SIZES = new int[] {64, 1 << 10, 1 << 14, 1 << 18, 1 << 22, 1 << 25};
+    private static final long ELEMENTS_PER_MEASUREMENT = 1L << 28;
+    private static final int WARMUP_MEASUREMENTS = 3;
+
+    public static void main(String[] args) {
+        System.out.println(String.format("%10s %16s %16s %16s %16s", "N",
+                "scalar find G/s", "vector find G/s", "scalar solve G/s", "vector solve G/s"));
+
+        for(int size : SIZES) {
+            int[] input = new int[size];
+            for(int i = 0; i < size; i ++) {
+                input[i] = i % 1000;
+            }
+            input[size - 1] = 12345;
+
+            System.out.println(String.format("%10d %16.2f %16.2f %16.2f %16.2f", size,
+                    measure(input, 0), measure(input, 1), measure(input, 2), measure(input, 3)));
+        }
+    }
+
+    /**
+     * Elements per nanosecond, that is billions of elements per second
+     */
+    private static double measure(int[] input, int kernel) {
+        int rounds = (int) Math.max(1, ELEMENTS_PER_MEASUREMENT / input.length);
+        int answers = 0;
+        for(int measurement = 0; measurement < WARMUP_MEASUREMENTS; measurement ++) {
+            for(int round = 0; round < rounds; round ++) {
+                answers += run(input, kernel) ? 1 : 0;
+            }
+        }
+
+        long start = System.nanoTime();
+        for(int round = 0; round < rounds; round ++) {
+            answers += run(input, kernel) ? 1 : 0;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if(answers != 0) {
+            System.out.println("Unexpected answer");
+        }
+        return (double) rounds * input.length / elapsed;
+    }
+
+    private static boolean run(int[] input, int kernel) {
+        switch(kernel) {
+            case 0:
+                return scalarContains(input, input.length - 1, 54321);
+            case 1:
+                return VectorizedSearch.contains(input, input.length - 1, 54321);
+            case 2:
+                return new LargeProblem(input.length, input, "Scalar").solve();
+            default:
+                return new VectorizedLargeProblem(input.length, input, "Vector").solve();
+        }
+    }
+
+    private static boolean scalarContains(int[] input, int length, int value) {
+        for(int i = 0; i < length; i++) {
+            if(input[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,91 @@
+package main.vector;
+
+
+import main.LargeProblem;
+import main.Problem;
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+public class VectorizedSearchTest {
+
+    @Test
+    public void containsFindsValuesInTheLanesAndInTheTail() {
+        for(int length = 0; length < 100; length ++) {
+            int[] input = new int[length + 1];
+            for(int i = 0; i < input.length; i ++) {
+                input[i] = i + 1;
+            }
+
+            for(int value = 0; value <= length + 1; value ++) {
+                Assert.assertEquals(value >= 1 && value <= length, VectorizedSearch.contains(input, length, value));
+            }
+        }
+    }
+
+    @Test
+    public void sameOutcomeAsLargeProblem() {
+        Random random = new Random(506);
+        for(int round = 0; round < 20000; round ++) {
+            int[] input = new int[2 + random.nextInt(300)];
+            for(int i = 0; i < input.length; i ++) {
+                input[i] = random.nextInt(100) - (random.nextInt(500) == 0 ? 50 : 0);
+            }
+
+            String expectedMessage = null;
+            boolean expectedValue = false;
+            try {
+                expectedValue = new LargeProblem(input.length, input, "Scalar").solve();
+            } catch (RuntimeException e) {
+                expectedMessage = e.getMessage();
+            }
+
+            try {
+                Assert.assertEquals(expectedValue, new VectorizedLargeProblem(input.length, input, "Vector").solve());
+                Assert.assertNull(expectedMessage);
+            } catch (RuntimeException e) {
+                Assert.assertEquals(expectedMessage, e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void lastElementIsNotSearched() {
+        Problem problem = new VectorizedLargeProblem(17, new int[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 0}, "0 only on the last position");
+
+        Assert.assertFalse(problem.solve());
+    }
+
+    @Test
+    public void firstNegativePositionIsReported() {
+        int[] input = new int[40];
+        input[33] = -1;
+        input[35] = -2;
+        Problem problem = new VectorizedLargeProblem(input.length, input, "Negative inside the lanes");
+
+        Exception exception = Assertions.assertThrows(RuntimeException.class, problem::solve);
+        Assert.assertEquals("The element on position 33 is not a natural number.", exception.getMessage());
+    }
+
+    @Test
+    public void firstSolveValidatesForTheLookups() {
+        int[] input = new int[100];
+        for(int i = 0; i < input.length; i ++) {
+            input[i] = i + 1;
+        }
+        input[99] = 21;
+        LargeProblem problem = new VectorizedLargeProblem(input.length, input, "Lookups after solve");
+
+        Assert.assertTrue(problem.solve());
+        // the input is validated only once, like for LargeProblem, so a later change is not seen by the lookups
+        input[0] = -1;
+        for(int value = 1; value <= 10; value ++) {
+            Assert.assertEquals(value != 1 && value != 10, problem.containsMirrorOf(value));
+        }
+        Assert.assertTrue(problem.solve());
+        Assert.assertTrue(problem.isIndexed());
+    }
+
+}
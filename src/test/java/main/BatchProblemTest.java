@@ -0,0 +1,130 @@
+package main;
+
+
+import javafx.util.Pair;
+import main.utilities.Result;
+import main.utilities.ResultType;
+import main.utilities.TestDataProvider;
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class BatchProblemTest {
+
+    private static TestDataProvider testDataProvider;
+
+    @BeforeAll
+    public static void initializeUtilities() {
+        testDataProvider = new TestDataProvider();
+    }
+
+    @Test
+    public void batchMatchesExpectedResults() {
+        List<Pair<Problem, Result>> testData = testDataProvider.getAllTestData();
+
+        // a null input array cannot be packed, therefore it is not a possible row
+        testData.removeIf(pair -> pair.getKey().getInput() == null);
+
+        BatchSolution solution = pack(testData).solve();
+
+        Assert.assertEquals(testData.size(), solution.getNumberOfRows());
+        for(int row = 0; row < testData.size(); row ++) {
+            Result r = testData.get(row).getValue();
+            if(r.getResultType() == ResultType.EXCEPTION) {
+                Assert.assertTrue(solution.isError(row));
+                Assert.assertEquals(r.getErrorMessage(), solution.getErrorMessage(row));
+            } else {
+                Assert.assertFalse(solution.isError(row));
+                Assert.assertEquals(r.getValue(), solution.getValue(row));
+            }
+        }
+    }
+
+    @Test
+    public void errorRowDoesNotStopTheBatch() {
+        BatchProblem batchProblem = new BatchProblem(new int[] {4, 4, 2},
+                new int[] {12, 2, 3, 21, 1, -2, 3, 4, 123, 321}, new int[] {0, 4, 8, 10}, "Error in the middle row");
+
+        BatchSolution solution = batchProblem.solve();
+
+        Assert.assertTrue(solution.getValue(0));
+        Assert.assertEquals("The element on position 1 is not a natural number.", solution.getErrorMessage(1));
+        Assert.assertTrue(solution.getValue(2));
+        Assert.assertEquals(1, solution.getErrorCount());
+
+        Exception exception = Assertions.assertThrows(RuntimeException.class, () -> solution.getValue(1));
+        Assert.assertEquals("The element on position 1 is not a natural number.", exception.getMessage());
+    }
+
+    @Test
+    public void valuesAreACopy() {
+        BatchProblem batchProblem = new BatchProblem(new int[] {2, 2}, new int[] {12, 21, 1, 2}, new int[] {0, 2, 4}, "Two rows");
+        BatchSolution solution = batchProblem.solve();
+
+        solution.getValues()[0] = false;
+        solution.getValues()[1] = true;
+
+        Assert.assertTrue(solution.getValue(0));
+        Assert.assertFalse(solution.getValue(1));
+    }
+
+    @Test
+    public void invalidLayoutIsThrown() {
+        BatchProblem batchProblem = new BatchProblem(new int[] {2, 2}, new int[] {1, 2, 3, 4}, new int[] {0, 2}, "Missing offset");
+
+        Exception exception = Assertions.assertThrows(RuntimeException.class, batchProblem::solve);
+        Assert.assertEquals("Offsets array length is different than the number of rows + 1.", exception.getMessage());
+    }
+
+    @Test
+    public void parallelSolveMatchesSequentialSolve() {
+        Random random = new Random(506);
+        List<Pair<Problem, Result>> testData = new ArrayList<>();
+        for(int row = 0; row < 20000; row ++) {
+            int numberOfElements = 1 + random.nextInt(101);
+            int[] input = new int[numberOfElements];
+            for(int i = 0; i < numberOfElements; i ++) {
+                input[i] = random.nextInt(1000) - 1;
+            }
+            testData.add(new Pair<Problem, Result>(new Problem(numberOfElements, input, "Random row " + row), null));
+        }
+        BatchProblem batchProblem = pack(testData);
+
+        BatchSolution sequential = batchProblem.solve();
+        BatchSolution parallel = batchProblem.solveParallel(new ForkJoinPool(4));
+
+        Assert.assertEquals(sequential.toBitSet(), parallel.toBitSet());
+        for(int row = 0; row < testData.size(); row ++) {
+            Assert.assertEquals(sequential.getErrorMessage(row), parallel.getErrorMessage(row));
+            Problem problem = testData.get(row).getKey();
+            if(!sequential.isError(row)) {
+                Assert.assertEquals(problem.solve(), sequential.getValue(row));
+            }
+        }
+    }
+
+    private BatchProblem pack(List<Pair<Problem, Result>> testData) {
+        int[] numbersOfElements = new int[testData.size()];
+        int[] offsets = new int[testData.size() + 1];
+        for(int row = 0; row < testData.size(); row ++) {
+            Problem problem = testData.get(row).getKey();
+            numbersOfElements[row] = problem.getNumberOfElements();
+            offsets[row + 1] = offsets[row] + problem.getInput().length;
+        }
+
+        int[] elements = new int[offsets[testData.size()]];
+        for(int row = 0; row < testData.size(); row ++) {
+            int[] input = testData.get(row).getKey().getInput();
+            System.arraycopy(input, 0, elements, offsets[row], input.length);
+        }
+
+        return new BatchProblem(numbersOfElements, elements, offsets, "Packed test data");
+    }
+
+}
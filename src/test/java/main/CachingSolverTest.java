@@ -0,0 +1,92 @@
+package main;
+
+
+import javafx.util.Pair;
+import main.utilities.Result;
+import main.utilities.ResultType;
+import main.utilities.TestDataProvider;
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class CachingSolverTest {
+
+    private static TestDataProvider testDataProvider;
+
+    @BeforeAll
+    public static void initializeUtilities() {
+        testDataProvider = new TestDataProvider();
+    }
+
+    @Test
+    public void cachedOutcomesAreTheSameAsSolve() {
+        List<Pair<Problem, Result>> testData = testDataProvider.getAllTestData();
+
+        CachingSolver cachingSolver = new CachingSolver(1000);
+        for(int round = 0; round < 2; round ++) {
+            for(Pair<Problem, Result> pair : testData) {
+                Problem p = pair.getKey();
+                Result r = pair.getValue();
+                if(r.getResultType() == ResultType.EXCEPTION) {
+                    Exception exception = Assertions.assertThrows(RuntimeException.class, () -> cachingSolver.solve(p));
+                    Assert.assertEquals(r.getErrorMessage(), exception.getMessage());
+                } else {
+                    Assert.assertEquals(r.getValue(), cachingSolver.solve(p));
+                }
+            }
+        }
+
+        // the test data repeats some of the problems, like (4, {1, 2, 3, 4}), so even the first round has hits
+        Assert.assertEquals(2 * testData.size(), cachingSolver.getHits() + cachingSolver.getMisses());
+        Assert.assertEquals(cachingSolver.getSize(), cachingSolver.getMisses());
+        Assert.assertTrue(cachingSolver.getHits() >= testData.size());
+    }
+
+    @Test
+    public void changingTheArrayAfterwardsIsAMiss() {
+        CachingSolver cachingSolver = new CachingSolver(10);
+        int[] input = new int[] {12, 2, 3, 21};
+
+        Assert.assertTrue(cachingSolver.solve(new Problem(4, input, "Before the change")));
+        input[0] = 13;
+        Assert.assertFalse(cachingSolver.solve(new Problem(4, input, "After the change")));
+        Assert.assertEquals(0, cachingSolver.getHits());
+        Assert.assertEquals(2, cachingSolver.getMisses());
+    }
+
+    @Test
+    public void sameArrayWithADifferentNIsAMiss() {
+        CachingSolver cachingSolver = new CachingSolver(10);
+
+        cachingSolver.solveToResult(new Problem(4, new int[] {1, 2, 3, 4}, "Valid N"));
+        Result result = cachingSolver.solveToResult(new Problem(3, new int[] {1, 2, 3, 4}, "Invalid N"));
+
+        Assert.assertEquals("Input array length is different than the N given.", result.getErrorMessage());
+        Assert.assertEquals(2, cachingSolver.getMisses());
+    }
+
+    @Test
+    public void leastRecentlyUsedIsEvicted() {
+        CachingSolver cachingSolver = new CachingSolver(2);
+        Problem problem1 = new Problem(2, new int[] {1, 1}, "First");
+        Problem problem2 = new Problem(2, new int[] {2, 2}, "Second");
+        Problem problem3 = new Problem(2, new int[] {3, 3}, "Third");
+
+        cachingSolver.solve(problem1);
+        cachingSolver.solve(problem2);
+        cachingSolver.solve(problem1);
+        cachingSolver.solve(problem3);
+
+        Assert.assertEquals(1, cachingSolver.getEvictions());
+        Assert.assertEquals(2, cachingSolver.getSize());
+
+        cachingSolver.solve(problem1);
+        Assert.assertEquals(2, cachingSolver.getHits());
+        cachingSolver.solve(problem2);
+        Assert.assertEquals(4, cachingSolver.getMisses());
+    }
+
+}
@@ -0,0 +1,55 @@
+package main;
+
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * The whole non-negative int range was checked once against Problem.getMirror(). These tests keep a sample of it:
+ * every number below 10^7, the numbers around each power of 10 and a few million random ones.
+ */
+public class FastMirrorTest {
+
+    @Test
+    public void sameMirrorsBelowTenMillion() {
+        for(int x = 0; x < 10000000; x ++) {
+            if(FastMirror.getMirror(x) != Problem.getMirror(x)) {
+                Assert.assertEquals("Mirror of " + x, Problem.getMirror(x), FastMirror.getMirror(x));
+            }
+        }
+    }
+
+    @Test
+    public void sameMirrorsAroundPowersOfTen() {
+        for(int powerOfTen = 1; powerOfTen <= 1000000000; powerOfTen *= 10) {
+            for(int x = powerOfTen - 1000; x <= powerOfTen + 1000; x ++) {
+                if(x >= 0) {
+                    Assert.assertEquals("Mirror of " + x, Problem.getMirror(x), FastMirror.getMirror(x));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void overflowingMirrorsAreTheSame() {
+        int[] numbers = new int[] {1999999999, 1000000009, 1000000003, 2147483647, 2147483646, 1463847412, 1463847413};
+        for(int x : numbers) {
+            Assert.assertEquals("Mirror of " + x, Problem.getMirror(x), FastMirror.getMirror(x));
+        }
+        Assert.assertEquals((int) 9999999991L, FastMirror.getMirror(1999999999));
+    }
+
+    @Test
+    public void sameMirrorsOnRandomNumbers() {
+        Random random = new Random(506);
+        for(int round = 0; round < 5000000; round ++) {
+            int x = random.nextInt() & Integer.MAX_VALUE;
+            if(FastMirror.getMirror(x) != Problem.getMirror(x)) {
+                Assert.assertEquals("Mirror of " + x, Problem.getMirror(x), FastMirror.getMirror(x));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+package main;
+
+
+import javafx.util.Pair;
+import main.utilities.Result;
+import main.utilities.ResultType;
+import main.utilities.TestDataProvider;
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+public class LargeProblemTest {
+
+    private static TestDataProvider testDataProvider;
+
+    @BeforeAll
+    public static void initializeUtilities() {
+        testDataProvider = new TestDataProvider();
+    }
+
+    /**
+     * Every problem that is valid for Problem, is valid for LargeProblem too and has the same answer
+     */
+    @TestFactory
+    public Iterable<DynamicTest> sameResultsInsideTheBounds() {
+        List<Pair<Problem, Result>> testData = testDataProvider.getAllTestData();
+
+        return testData.stream()
+                .filter(pair -> pair.getKey().getNumberOfElements() >= 2 && pair.getKey().getNumberOfElements() <= 100)
+                .map(pair -> {
+                    Problem p = new LargeProblem(pair.getKey());
+                    Result r = pair.getValue();
+                    return DynamicTest.dynamicTest(p.toString(), () -> {
+                        if(r.getResultType() == ResultType.EXCEPTION) {
+                            Exception exception = Assertions.assertThrows(RuntimeException.class, p::solve);
+                            Assert.assertEquals(r.getErrorMessage(), exception.getMessage());
+                        } else {
+                            Assert.assertEquals(r.getValue(), p.solve());
+                        }
+                    });
+                }).collect(Collectors.toList());
+    }
+
+    @Test
+    public void numberOfElementsAbove100IsAccepted() {
+        int[] input = new int[1000000];
+        for(int i = 0; i < input.length; i ++) {
+            input[i] = i;
+        }
+        input[input.length - 1] = 4321;
+
+        Assert.assertTrue(new LargeProblem(input.length, input, "One million elements").solve());
+
+        input[1234] = 1;
+        Assert.assertFalse(new LargeProblem(input.length, input, "One million elements, without 1234").solve());
+    }
+
+    @Test
+    public void lessThanTwoElementsIsRejected() {
+        LargeProblem problem = new LargeProblem(1, new int[] {1}, "N is 1");
+
+        Exception exception = Assertions.assertThrows(RuntimeException.class, problem::solve);
+        Assert.assertEquals("The number of elements is less than 2.", exception.getMessage());
+    }
+
+    @Test
+    public void indexedLookupsMatchTheLinearScan() {
+        Random random = new Random(506);
+        int[] input = new int[100000];
+        for(int i = 0; i < input.length; i ++) {
+            input[i] = random.nextInt(200000);
+        }
+        LargeProblem linear = new LargeProblem(input.length, input, "Linear scan");
+        LargeProblem indexed = new LargeProblem(input.length, input, "Hash index");
+        indexed.buildIndex();
+
+        for(int value = 0; value < 3; value ++) {
+            Assert.assertEquals(linear.containsMirrorOf(value), indexed.containsMirrorOf(value));
+        }
+        Assert.assertFalse(linear.isIndexed());
+
+        for(int value = 3; value < 1000; value ++) {
+            Assert.assertEquals(linearScan(input, value), indexed.containsMirrorOf(value));
+            Assert.assertEquals(linearScan(input, value), linear.containsMirrorOf(value));
+        }
+        Assert.assertTrue(linear.isIndexed());
+    }
+
+    @Test
+    public void hashSetHandlesZeroAndGrowth() {
+        IntHashSet set = new IntHashSet();
+        for(int value = 0; value < 10000; value += 2) {
+            Assert.assertTrue(set.add(value));
+        }
+        Assert.assertFalse(set.add(0));
+        Assert.assertEquals(5000, set.size());
+        for(int value = 0; value < 10000; value ++) {
+            Assert.assertEquals(value % 2 == 0, set.contains(value));
+        }
+    }
+
+    private boolean linearScan(int[] input, int value) {
+        int mirror = Problem.getMirror(value);
+        for(int i = 0; i < input.length - 1; i ++) {
+            if(input[i] == mirror) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,89 @@
+package main;
+
+
+import javafx.util.Pair;
+import main.utilities.Result;
+import main.utilities.ResultType;
+import main.utilities.TestDataProvider;
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+public class ProblemFusedTest {
+
+    private static TestDataProvider testDataProvider;
+
+    @BeforeAll
+    public static void initializeUtilities() {
+        testDataProvider = new TestDataProvider();
+    }
+
+    @TestFactory
+    public Iterable<DynamicTest> sameOutcomeAsSolve() {
+        List<Pair<Problem, Result>> testData = testDataProvider.getAllTestData();
+
+        return testData.stream().map(pair -> {
+            Problem p = pair.getKey();
+            Result r = pair.getValue();
+            return DynamicTest.dynamicTest(p.toString(), () -> {
+                if(r.getResultType() == ResultType.EXCEPTION) {
+                    Exception exception = Assertions.assertThrows(RuntimeException.class, p::solveFused);
+                    Assert.assertEquals(r.getErrorMessage(), exception.getMessage());
+                } else {
+                    Assert.assertEquals(r.getValue(), p.solveFused());
+                }
+            });
+        }).collect(Collectors.toList());
+    }
+
+    @Test
+    public void negativeAfterTheMatchIsStillReported() {
+        Problem problem = new Problem(5, new int[] {21, 2, -3, -4, 12}, "Match before the negative elements");
+
+        Exception exception = Assertions.assertThrows(RuntimeException.class, problem::solveFused);
+        Assert.assertEquals("The element on position 2 is not a natural number.", exception.getMessage());
+    }
+
+    @Test
+    public void negativeLastElementIsReported() {
+        Problem problem = new Problem(3, new int[] {1, 2, -21}, "Negative last element");
+
+        Exception exception = Assertions.assertThrows(RuntimeException.class, problem::solveFused);
+        Assert.assertEquals("The element on position 2 is not a natural number.", exception.getMessage());
+    }
+
+    @Test
+    public void randomInputsHaveTheSameOutcomeAsSolve() {
+        Random random = new Random(506);
+        for(int round = 0; round < 10000; round ++) {
+            int[] input = new int[2 + random.nextInt(99)];
+            for(int i = 0; i < input.length; i ++) {
+                input[i] = random.nextInt(200) - (random.nextInt(50) == 0 ? 100 : 0);
+            }
+            Problem problem = new Problem(input.length, input, "Random input");
+
+            String expectedMessage = null;
+            boolean expectedValue = false;
+            try {
+                expectedValue = problem.solve();
+            } catch (RuntimeException e) {
+                expectedMessage = e.getMessage();
+            }
+
+            try {
+                Assert.assertEquals(expectedValue, problem.solveFused());
+                Assert.assertNull(expectedMessage);
+            } catch (RuntimeException e) {
+                Assert.assertEquals(expectedMessage, e.getMessage());
+            }
+        }
+    }
+
+}
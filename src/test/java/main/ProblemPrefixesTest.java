@@ -0,0 +1,64 @@
+package main;
+
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+public class ProblemPrefixesTest {
+
+    @Test
+    public void exampleFromTheProblemStatement() {
+        Problem problem = new Problem(7, new int[] {10, 321, 5, 23, 12, 17, 123}, "Example from the problem statement");
+
+        BitSet expectedAnswers = new BitSet();
+        expectedAnswers.set(6);
+        Assert.assertEquals(expectedAnswers, problem.solvePrefixes());
+        Assert.assertArrayEquals(new int[] {-1, -1, -1, -1, -1, -1, 1}, problem.findFirstMatchPositions());
+    }
+
+    @Test
+    public void firstMatchIsTheEarliestPosition() {
+        Problem problem = new Problem(5, new int[] {21, 0, 21, 12, 0}, "Repeated mirrors");
+
+        Assert.assertArrayEquals(new int[] {-1, -1, -1, 0, 1}, problem.findFirstMatchPositions());
+    }
+
+    @Test
+    public void sameAnswerAsSolveForEveryPrefix() {
+        Random random = new Random(506);
+        for(int round = 0; round < 100; round ++) {
+            int[] input = new int[2 + random.nextInt(99)];
+            for(int i = 0; i < input.length; i ++) {
+                input[i] = random.nextInt(100);
+            }
+
+            Problem problem = new Problem(input.length, input, "Random input");
+            BitSet answers = problem.solvePrefixes();
+            int[] firstMatchPositions = problem.findFirstMatchPositions();
+
+            Assert.assertFalse(answers.get(0));
+            for(int k = 1; k < input.length; k ++) {
+                boolean expected = new Problem(k + 1, Arrays.copyOf(input, k + 1), "Prefix").solve();
+                Assert.assertEquals(expected, answers.get(k));
+                Assert.assertEquals(expected, firstMatchPositions[k] != -1);
+                if(expected) {
+                    Assert.assertEquals(Problem.getMirror(input[k]), input[firstMatchPositions[k]]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void invalidInputHasTheSameErrorAsSolve() {
+        Problem problem = new Problem(6, new int[] {1, 2, -3, 4, -5, 6}, "Negative values");
+
+        Exception exception = Assertions.assertThrows(RuntimeException.class, problem::solvePrefixes);
+        Assert.assertEquals("The element on position 2 is not a natural number.", exception.getMessage());
+    }
+
+}
@@ -0,0 +1,72 @@
+package main;
+
+
+import javafx.util.Pair;
+import main.utilities.ErrorType;
+import main.utilities.Result;
+import main.utilities.ResultType;
+import main.utilities.TestDataProvider;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ProblemResultTest {
+
+    private static TestDataProvider testDataProvider;
+
+    @BeforeAll
+    public static void initializeUtilities() {
+        testDataProvider = new TestDataProvider();
+    }
+
+    @TestFactory
+    public Iterable<DynamicTest> sameOutcomeAsSolve() {
+        List<Pair<Problem, Result>> testData = testDataProvider.getAllTestData();
+
+        return testData.stream().map(pair -> {
+            Problem p = pair.getKey();
+            Result r = pair.getValue();
+            return DynamicTest.dynamicTest(p.toString(), () -> {
+                Result result = p.solveToResult();
+                Assert.assertEquals(r.getResultType(), result.getResultType());
+                if(r.getResultType() == ResultType.EXCEPTION) {
+                    Assert.assertEquals(r.getErrorMessage(), result.getErrorMessage());
+                } else {
+                    Assert.assertEquals(r.getValue(), result.getValue());
+                }
+            });
+        }).collect(Collectors.toList());
+    }
+
+    @Test
+    public void resultsAreShared() {
+        Problem problem1 = new Problem(4, new int[] {12, 2, 3, 21}, "True");
+        Problem problem2 = new Problem(2, new int[] {123, 321}, "Also true");
+        Assert.assertSame(problem1.solveToResult(), problem2.solveToResult());
+        Assert.assertSame(Result.makeNormalResult(true), problem1.solveToResult());
+
+        Problem problem3 = new Problem(6, new int[] {1, 2, -3, 4, -5, 6}, "Negative on position 2");
+        Problem problem4 = new Problem(3, new int[] {1, 2, -3}, "Also negative on position 2");
+        Assert.assertSame(problem3.solveToResult(), problem4.solveToResult());
+    }
+
+    @Test
+    public void errorKeepsTypeAndPosition() {
+        Result result = new Problem(6, new int[] {1, 2, 3, 4, -5, 6}, "Negative on position 4").solveToResult();
+
+        Assert.assertEquals(ResultType.EXCEPTION, result.getResultType());
+        Assert.assertEquals(ErrorType.NEGATIVE_ELEMENT, result.getErrorType());
+        Assert.assertEquals(4, result.getErrorPosition());
+        Assert.assertEquals("The element on position 4 is not a natural number.", result.getErrorMessage());
+
+        Result nullInput = new Problem(4, null, "Null input").solveToResult();
+        Assert.assertEquals(ErrorType.NULL_INPUT, nullInput.getErrorType());
+        Assert.assertEquals(Result.NO_POSITION, nullInput.getErrorPosition());
+    }
+
+}
@@ -0,0 +1,61 @@
+package main;
+
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class StreamingProblemTest {
+
+    @Test
+    public void answersAfterEveryElement() {
+        StreamingProblem problem = new StreamingProblem("Example from the problem statement");
+        int[] elements = new int[] {10, 321, 5, 23, 12, 17, 123};
+        boolean[] expectedAnswers = new boolean[] {false, false, false, false, false, false, true};
+
+        for(int i = 0; i < elements.length; i ++) {
+            Assert.assertEquals(expectedAnswers[i], problem.add(elements[i]));
+        }
+        Assert.assertTrue(problem.solve());
+    }
+
+    @Test
+    public void sameAnswerAsProblemForEveryPrefix() {
+        Random random = new Random(506);
+        StreamingProblem problem = new StreamingProblem("Random stream");
+        int[] elements = new int[100];
+        for(int i = 0; i < elements.length; i ++) {
+            elements[i] = random.nextInt(50);
+            problem.add(elements[i]);
+            if(i >= 1) {
+                int[] prefix = Arrays.copyOf(elements, i + 1);
+                Assert.assertEquals(new Problem(i + 1, prefix, "Prefix").solve(), problem.solve());
+            }
+        }
+    }
+
+    @Test
+    public void negativeElementIsRejected() {
+        StreamingProblem problem = new StreamingProblem("Negative third element");
+        problem.add(1);
+        problem.add(2);
+
+        Exception exception = Assertions.assertThrows(RuntimeException.class, () -> problem.add(-3));
+        Assert.assertEquals("The element on position 2 is not a natural number.", exception.getMessage());
+        Assert.assertEquals(2, problem.getNumberOfElements());
+        Assert.assertTrue(problem.add(2));
+    }
+
+    @Test
+    public void lessThanTwoElementsHasNoAnswer() {
+        StreamingProblem problem = new StreamingProblem("Single element");
+        problem.add(1);
+
+        Exception exception = Assertions.assertThrows(RuntimeException.class, problem::solve);
+        Assert.assertEquals("The number of elements is less than 2.", exception.getMessage());
+    }
+
+}
@@ -0,0 +1,66 @@
+package main.benchmark;
+
+import main.LargeProblem;
+
+/**
+ * Compares the two loops solve (natural number check, then the search) with the fused loop, on arrays larger than the
+ * L2 cache, where both loops have to bring the whole array from memory.
+ *
+ * The mirror of the last element is not in the array, so the two loops version can not stop the search early.
+ *
+ * Run with: java -cp target/classes:target/test-classes main.benchmark.FusedSolveBenchmark
+ */
+public class FusedSolveBenchmark {
+
+    private static final int[] SIZES = new int[] {1 << 16, 1 << 20, 1 << 24, 1 << 26};
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    public static void main(String[] args) {
+        System.out.println(String.format("%12s %14s %14s %12s %12s", "N", "two loops ms", "fused ms", "two GB/s", "fused GB/s"));
+
+        for(int size : SIZES) {
+            int[] input = new int[size];
+            for(int i = 0; i < size; i ++) {
+                input[i] = i % 1000;
+            }
+            input[size - 1] = 12345;
+
+            double twoLoopsNanos = measure(input, false);
+            double fusedNanos = measure(input, true);
+
+            // the two loops version reads the array twice, the fused one reads it once
+            double bytes = 4.0 * size;
+            System.out.println(String.format("%12d %14.3f %14.3f %12.2f %12.2f", size,
+                    twoLoopsNanos / 1e6, fusedNanos / 1e6, 2 * bytes / twoLoopsNanos, bytes / fusedNanos));
+        }
+    }
+
+    private static double measure(int[] input, boolean fused) {
+        boolean answers = false;
+        for(int round = 0; round < WARMUP_ROUNDS; round ++) {
+            answers ^= solve(input, fused);
+        }
+
+        long start = System.nanoTime();
+        for(int round = 0; round < MEASURED_ROUNDS; round ++) {
+            answers ^= solve(input, fused);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if(answers) {
+            System.out.println("Unexpected answer");
+        }
+        return (double) elapsed / MEASURED_ROUNDS;
+    }
+
+    /**
+     * A new LargeProblem has not validated its input yet: solve() takes the fused loop, while containsMirrorOf()
+     * validates in a loop of its own and then scans again.
+     */
+    private static boolean solve(int[] input, boolean fused) {
+        LargeProblem problem = new LargeProblem(input.length, input, "Benchmark");
+        return fused ? problem.solve() : problem.containsMirrorOf(input[input.length - 1]);
+    }
+
+}
@@ -0,0 +1,86 @@
+package main.benchmark;
+
+import main.FastMirror;
+
+import java.util.Random;
+
+/**
+ * Compares the digit loop of Problem.getMirror() with the table based FastMirror.getMirror(), on small numbers and on
+ * numbers taken uniformly from [0, Integer.MAX_VALUE], which mostly have 10 digits.
+ *
+ * Run with: java -cp target/classes:target/test-classes main.benchmark.MirrorBenchmark
+ */
+public class MirrorBenchmark {
+
+    private static final int NUMBERS = 1 << 20;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    public static void main(String[] args) {
+        Random random = new Random(506);
+        int[] smallNumbers = new int[NUMBERS];
+        int[] largeNumbers = new int[NUMBERS];
+        for(int i = 0; i < NUMBERS; i ++) {
+            smallNumbers[i] = random.nextInt(1000);
+            largeNumbers[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+
+        System.out.println(String.format("%10s %18s %18s %10s", "numbers", "loop M mirrors/s", "table M mirrors/s", "speedup"));
+        report("< 1000", smallNumbers);
+        report("any int", largeNumbers);
+    }
+
+    private static void report(String name, int[] numbers) {
+        double loopNanos = measure(numbers, false);
+        double tableNanos = measure(numbers, true);
+        System.out.println(String.format("%10s %18.1f %18.1f %10.2f", name,
+                NUMBERS * 1e3 / loopNanos, NUMBERS * 1e3 / tableNanos, loopNanos / tableNanos));
+    }
+
+    private static double measure(int[] numbers, boolean table) {
+        int checksum = 0;
+        for(int round = 0; round < WARMUP_ROUNDS; round ++) {
+            checksum += mirrorAll(numbers, table);
+        }
+
+        long start = System.nanoTime();
+        for(int round = 0; round < MEASURED_ROUNDS; round ++) {
+            checksum += mirrorAll(numbers, table);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if(checksum == 42) {
+            System.out.println("Unlikely checksum");
+        }
+        return (double) elapsed / MEASURED_ROUNDS;
+    }
+
+    private static int mirrorAll(int[] numbers, boolean table) {
+        int checksum = 0;
+        if(table) {
+            for(int number : numbers) {
+                checksum += FastMirror.getMirror(number);
+            }
+        } else {
+            for(int number : numbers) {
+                checksum += loopMirror(number);
+            }
+        }
+        return checksum;
+    }
+
+    /**
+     * Copy of Problem.getMirror(), which is not visible outside of the main package
+     */
+    private static int loopMirror(int x) {
+        int y = 0;
+
+        while(x != 0) {
+            y = y * 10 + x % 10;
+            x /= 10;
+        }
+
+        return y;
+    }
+
+}
@@ -0,0 +1,82 @@
+package main.benchmark;
+
+import main.mutants.Problem_mirror_AOIS_59;
+import main.mutants.Problem_mirror_AOIS_67;
+import main.mutants.Problem_mirror_AORB_20;
+import main.mutants.Problem_mirror_CDL_11;
+import main.mutants.Problem_solve_AOIU_5;
+import main.mutants.Problem_solve_ROR_32;
+import main.mutants.Problem_solve_ROR_39;
+import main.mutants.Problem_solve_SDL_11;
+import main.mutation.BudgetCalibration;
+import main.mutation.Mutant;
+import main.mutation.MutantGenerator;
+import main.mutation.MutantSchemata;
+import main.mutation.MutationReport;
+import main.mutation.MutationRunner;
+import main.mutation.TestCase;
+import main.utilities.TestDataProvider;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Runs the full kill matrix of the whole TestDataProvider suite with the mutants inside main/mutants, with the
+ * generated mutants, one class each, and with the same generated mutants inside one MutantSchemata class.
+ *
+ * Every round starts from a new MutantGenerator, so the generated classes are defined, loaded and warmed up by the JIT
+ * again, which is the cost the schemata avoids. The first round shows the cold start, the other ones the steady state.
+ * A single thread runs the matrix, to keep the numbers comparable.
+ *
+ * Run with: java -cp target/classes:target/test-classes:<asm and asm-tree jars>:<javafx jar> main.benchmark.MutantSchemataBenchmark
+ */
+public class MutantSchemataBenchmark {
+
+    private static final int ROUNDS = 10;
+
+    public static void main(String[] args) {
+        List<TestCase> testCases = new TestDataProvider().getAllTestCases();
+        BudgetCalibration budgets = BudgetCalibration.calibrate(new MutantGenerator().getOriginal(), testCases);
+        MutationRunner runner = new MutationRunner(new ForkJoinPool(1), true, budgets);
+
+        System.out.println(String.format("%-28s %8s %12s %12s %16s %8s", "mutants", "count", "first ms", "next ms",
+                "ns per run", "score"));
+
+        measure("main/mutants, a class each", runner, testCases, generator -> Arrays.asList(
+                Mutant.of(Problem_solve_ROR_32.class), Mutant.of(Problem_solve_ROR_39.class),
+                Mutant.of(Problem_solve_AOIU_5.class), Mutant.of(Problem_solve_SDL_11.class),
+                generator.instrument(Problem_mirror_AOIS_59.class), Mutant.of(Problem_mirror_AOIS_67.class),
+                Mutant.of(Problem_mirror_AORB_20.class), Mutant.of(Problem_mirror_CDL_11.class)));
+        measure("generated, a class each", runner, testCases, MutantGenerator::generate);
+        measure("generated, schemata", runner, testCases, generator -> new MutantSchemata(generator).generate());
+    }
+
+    private static void measure(String name, MutationRunner runner, List<TestCase> testCases,
+                                Function<MutantGenerator, List<Mutant>> mutantsOf) {
+        long firstNanos = 0;
+        long nextNanos = 0;
+        int numberOfMutants = 0;
+        double score = 0;
+
+        for(int round = 0; round < ROUNDS; round ++) {
+            long start = System.nanoTime();
+            List<Mutant> mutants = mutantsOf.apply(new MutantGenerator());
+            MutationReport report = runner.run(mutants, testCases);
+            long elapsed = System.nanoTime() - start;
+
+            if(round == 0) {
+                firstNanos = elapsed;
+            } else {
+                nextNanos += elapsed;
+            }
+            numberOfMutants = mutants.size();
+            score = report.getMutationScore();
+        }
+
+        double nextRoundNanos = (double) nextNanos / (ROUNDS - 1);
+        System.out.println(String.format("%-28s %8d %12.3f %12.3f %16.1f %8.3f", name, numberOfMutants,
+                firstNanos / 1e6, nextRoundNanos / 1e6, nextRoundNanos / (numberOfMutants * testCases.size()), score));
+    }
+}
@@ -0,0 +1,101 @@
+package main.benchmark;
+
+import main.Problem;
+import main.mutation.BudgetCalibration;
+import main.mutation.MutantGenerator;
+import main.mutation.MutationReport;
+import main.mutation.MutationRunner;
+import main.mutation.SplitStream;
+import main.mutation.TestCase;
+import main.utilities.Result;
+import main.utilities.TestDataProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs the full kill matrix of the generated mutants from the start of solve() every time, and with the SplitStream,
+ * on the TestDataProvider suite and on a large suite of random valid inputs. The split stream time includes recording
+ * the original on every test case, which is paid once for all the mutants.
+ *
+ * A single thread runs the matrix, to keep the numbers comparable.
+ *
+ * Run with: java -cp target/classes:target/test-classes:<asm and asm-tree jars>:<javafx jar> main.benchmark.SplitStreamBenchmark
+ */
+public class SplitStreamBenchmark {
+
+    private static final int ROUNDS = 5;
+    private static final int RANDOM_TEST_CASES = 10_000;
+    private static final int MAXIMUM_NUMBER_OF_ELEMENTS = 100;
+    private static final int MAXIMUM_ELEMENT = 100_000;
+    private static final long SEED = 42;
+
+    public static void main(String[] args) {
+        MutantGenerator mutantGenerator = new MutantGenerator();
+        SplitStream splitStream = new SplitStream(mutantGenerator);
+
+        System.out.println(String.format("%-24s %8s %14s %14s %10s %10s", "suite", "cases", "full ms", "split ms",
+                "speedup", "unreached"));
+        measure("TestDataProvider", new TestDataProvider().getAllTestCases(), mutantGenerator, splitStream);
+        measure("random, N <= " + MAXIMUM_NUMBER_OF_ELEMENTS, randomTestCases(), mutantGenerator, splitStream);
+    }
+
+    private static void measure(String name, List<TestCase> testCases, MutantGenerator mutantGenerator, SplitStream splitStream) {
+        BudgetCalibration budgets = BudgetCalibration.calibrate(mutantGenerator.getOriginal(), testCases);
+        MutationRunner fullRunner = new MutationRunner(new ForkJoinPool(1), true, budgets);
+
+        long fullNanos = Long.MAX_VALUE;
+        long splitNanos = Long.MAX_VALUE;
+        double unreached = 0;
+        for(int round = 0; round < ROUNDS; round ++) {
+            long start = System.nanoTime();
+            MutationReport fullReport = fullRunner.run(mutantGenerator.generate(), testCases);
+            fullNanos = Math.min(fullNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            SplitStream.Recording recording = splitStream.record(testCases);
+            MutationReport splitReport = new MutationRunner(new ForkJoinPool(1), true, budgets, recording)
+                    .run(splitStream.generate(), testCases);
+            splitNanos = Math.min(splitNanos, System.nanoTime() - start);
+
+            if(fullReport.getNumberOfKilledMutants() != splitReport.getNumberOfKilledMutants()) {
+                throw new RuntimeException("The split stream killed other mutants than the full runs.");
+            }
+            unreached = (double) recording.getNumberOfUnreachedPairs(splitStream.generate())
+                    / (splitStream.generate().size() * testCases.size());
+        }
+
+        System.out.println(String.format("%-24s %8d %14.3f %14.3f %10.2f %9.1f%%", name, testCases.size(),
+                fullNanos / 1e6, splitNanos / 1e6, (double) fullNanos / splitNanos, 100 * unreached));
+    }
+
+    private static List<TestCase> randomTestCases() {
+        Random random = new Random(SEED);
+        List<TestCase> testCases = new ArrayList<>();
+        for(int i = 0; i < RANDOM_TEST_CASES; i ++) {
+            int numberOfElements = 2 + random.nextInt(MAXIMUM_NUMBER_OF_ELEMENTS - 1);
+            int[] input = new int[numberOfElements];
+            for(int k = 0; k < numberOfElements; k ++) {
+                input[k] = random.nextInt(MAXIMUM_ELEMENT);
+            }
+            // plant the mirror of the last element half of the time, so both answers are covered
+            if(random.nextBoolean()) {
+                input[random.nextInt(numberOfElements - 1)] = mirror(input[numberOfElements - 1]);
+            }
+            Problem problem = new Problem(numberOfElements, input, "Random " + i);
+            testCases.add(new TestCase("R" + i, problem, Result.makeNormalResult(problem.solve())));
+        }
+        return testCases;
+    }
+
+    private static int mirror(int x) {
+        int y = 0;
+        while(x != 0) {
+            y = y * 10 + x % 10;
+            x /= 10;
+        }
+        return y;
+    }
+}
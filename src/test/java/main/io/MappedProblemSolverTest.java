@@ -0,0 +1,131 @@
+package main.io;
+
+
+import javafx.util.Pair;
+import main.Problem;
+import main.utilities.ErrorType;
+import main.utilities.Result;
+import main.utilities.ResultType;
+import main.utilities.TestDataProvider;
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class MappedProblemSolverTest {
+
+    private static TestDataProvider testDataProvider;
+
+    @BeforeAll
+    public static void initializeUtilities() {
+        testDataProvider = new TestDataProvider();
+    }
+
+    @Test
+    public void sameOutcomesAsSolve() throws IOException {
+        List<Pair<Problem, Result>> testData = testDataProvider.getAllTestData();
+
+        // only the problems with exactly N elements can be written as records
+        testData.removeIf(pair -> pair.getKey().getInput() == null
+                || pair.getKey().getInput().length != pair.getKey().getNumberOfElements());
+
+        List<Problem> problems = new ArrayList<>();
+        for(Pair<Problem, Result> pair : testData) {
+            problems.add(pair.getKey());
+        }
+        List<Result> results = writeAndSolve(problems, MappedProblemSolver.DEFAULT_WINDOW_SIZE);
+
+        for(int record = 0; record < testData.size(); record ++) {
+            Result expected = testData.get(record).getValue();
+            Result actual = results.get(record);
+            Assert.assertEquals(expected.getResultType(), actual.getResultType());
+            if(expected.getResultType() == ResultType.EXCEPTION) {
+                Assert.assertEquals(expected.getErrorMessage(), actual.getErrorMessage());
+            } else {
+                Assert.assertEquals(expected.getValue(), actual.getValue());
+            }
+        }
+    }
+
+    /**
+     * With the smallest window, the records are read through many windows and some of them would cross a window end
+     */
+    @Test
+    public void smallWindowsGiveTheSameOutcomes() throws IOException {
+        Random random = new Random(506);
+        List<Problem> problems = new ArrayList<>();
+        for(int record = 0; record < 5000; record ++) {
+            int numberOfElements = random.nextInt(10) == 0 ? 100 + random.nextInt(1000) : random.nextInt(101);
+            int[] input = new int[numberOfElements];
+            for(int i = 0; i < numberOfElements; i ++) {
+                input[i] = random.nextInt(200) - (random.nextInt(300) == 0 ? 100 : 0);
+            }
+            problems.add(new Problem(numberOfElements, input, "Random record " + record));
+        }
+
+        List<Result> results = writeAndSolve(problems, 4096);
+
+        for(int record = 0; record < problems.size(); record ++) {
+            Result expected = problems.get(record).solveToResult();
+            Assert.assertSame(expected, results.get(record));
+        }
+    }
+
+    @Test
+    public void outcomeCodesKeepThePosition() {
+        Result result = ProblemFileFormat.decode(ProblemFileFormat.encode(ErrorType.NEGATIVE_ELEMENT, 77));
+
+        Assert.assertEquals(ErrorType.NEGATIVE_ELEMENT, result.getErrorType());
+        Assert.assertEquals(77, result.getErrorPosition());
+    }
+
+    @Test
+    public void otherFilesAreRejected() throws IOException {
+        Path problemFile = createTemporaryFile("problems");
+        Path resultFile = createTemporaryFile("results");
+        Files.write(problemFile, new byte[64]);
+
+        Exception exception = Assertions.assertThrows(IOException.class,
+                () -> new MappedProblemSolver().solve(problemFile, resultFile));
+        Assert.assertEquals("The file is not a problem file of version 1.", exception.getMessage());
+    }
+
+    private List<Result> writeAndSolve(List<Problem> problems, long windowSize) throws IOException {
+        Path problemFile = createTemporaryFile("problems");
+        Path resultFile = createTemporaryFile("results");
+        try(ProblemFileWriter writer = new ProblemFileWriter(problemFile)) {
+            for(Problem problem : problems) {
+                writer.write(problem);
+            }
+        }
+
+        Assert.assertEquals(problems.size(), new MappedProblemSolver(windowSize).solve(problemFile, resultFile));
+
+        List<Result> results = new ArrayList<>();
+        try(ResultFileReader reader = new ResultFileReader(resultFile)) {
+            Assert.assertEquals(problems.size(), reader.getNumberOfRecords());
+            for(long record = 0; record < reader.getNumberOfRecords(); record ++) {
+                results.add(reader.read(record));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * A mapped file can not be deleted while it is still mapped on some systems, and it stays mapped until the buffer
+     * is garbage collected, therefore the files are only deleted on exit.
+     */
+    private Path createTemporaryFile(String prefix) throws IOException {
+        Path path = Files.createTempFile(prefix, ".bin");
+        path.toFile().deleteOnExit();
+        return path;
+    }
+
+}
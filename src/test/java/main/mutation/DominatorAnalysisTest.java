@@ -0,0 +1,132 @@
+package main.mutation;
+
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class DominatorAnalysisTest {
+
+    private static List<TestCase> testCases;
+    private static MutantGenerator mutantGenerator;
+    private static BudgetCalibration budgets;
+    private static MutationReport fullReport;
+
+    @BeforeAll
+    public static void initializeUtilities() {
+        MutationFixture fixture = MutationFixture.get();
+        testCases = fixture.getTestCases();
+        mutantGenerator = fixture.getMutantGenerator();
+        budgets = fixture.getBudgets();
+        fullReport = fixture.getFullReport();
+    }
+
+    @Test
+    public void everyKilledMutantIsSubsumedByADominator() {
+        DominatorAnalysis analysis = DominatorAnalysis.of(fullReport);
+
+        for(int mutant = 0; mutant < fullReport.getMutantIds().size(); mutant ++) {
+            BitSet killing = fullReport.getKillingTestCases(mutant);
+            int dominator = analysis.getDominatorOf(mutant);
+            if(killing.isEmpty()) {
+                Assert.assertEquals(-1, dominator);
+                continue;
+            }
+            Assert.assertTrue(analysis.isDominator(dominator));
+            BitSet notKilledByTheMutant = fullReport.getKillingTestCases(dominator);
+            notKilledByTheMutant.andNot(killing);
+            Assert.assertTrue(notKilledByTheMutant.isEmpty());
+        }
+        Assert.assertTrue(analysis.getNumberOfSubsumedMutants() > 0);
+        Assert.assertEquals(fullReport.getNumberOfKilledMutants(), analysis.getDominators().size() + analysis.getNumberOfSubsumedMutants());
+    }
+
+    @Test
+    public void noDominatorSubsumesAnother() {
+        DominatorAnalysis analysis = DominatorAnalysis.of(fullReport);
+
+        for(int dominator : analysis.getDominators()) {
+            for(int other : analysis.getDominators()) {
+                if(dominator != other) {
+                    Assert.assertFalse(DominatorAnalysis.isSubset(fullReport.getKillingTestCases(dominator).toLongArray(),
+                            fullReport.getKillingTestCases(other).toLongArray()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void killingTheDominatorsKillsEveryKilledMutant() {
+        DominatorAnalysis analysis = DominatorAnalysis.of(fullReport);
+        List<Mutant> dominators = analysis.selectDominators(mutantGenerator.generate());
+        Assert.assertEquals(analysis.getDominators().size(), dominators.size());
+
+        // one killing test case for every dominator is enough for all the killed mutants
+        BitSet chosen = new BitSet();
+        for(int dominator : analysis.getDominators()) {
+            chosen.set(fullReport.getKillingTestCases(dominator).nextSetBit(0));
+        }
+        for(int mutant = 0; mutant < fullReport.getMutantIds().size(); mutant ++) {
+            if(fullReport.isKilled(mutant)) {
+                Assert.assertTrue(fullReport.getKillingTestCases(mutant).intersects(chosen));
+            }
+        }
+    }
+
+    @Test
+    public void equalKillSetsShareOneDominator() {
+        DominatorAnalysis analysis = new DominatorAnalysis(Arrays.asList("A", "B", "C", "D", "E"),
+                new BitSet[] {bits(1, 2), bits(1, 2), bits(1, 2, 3), bits(), bits(4)});
+
+        Assert.assertEquals(Arrays.asList(0, 4), analysis.getDominators());
+        Assert.assertEquals(0, analysis.getDominatorOf(1));
+        Assert.assertEquals(0, analysis.getDominatorOf(2));
+        Assert.assertEquals(-1, analysis.getDominatorOf(3));
+        Assert.assertEquals(2, analysis.getNumberOfSubsumedMutants());
+    }
+
+    @Test
+    public void manyMutantsAreAnalysed() {
+        Random random = new Random(7);
+        int numberOfMutants = 20_000;
+        List<String> ids = new ArrayList<>();
+        BitSet[] killingTestCases = new BitSet[numberOfMutants];
+        for(int mutant = 0; mutant < numberOfMutants; mutant ++) {
+            ids.add("M" + mutant);
+            killingTestCases[mutant] = new BitSet();
+            for(int testCase = 0; testCase < 200; testCase ++) {
+                if(random.nextInt(4) == 0) {
+                    killingTestCases[mutant].set(testCase);
+                }
+            }
+            // every mutant holds the kill set of mutant 0 or mutant 1
+            killingTestCases[mutant].or(killingTestCases[mutant % 2]);
+        }
+
+        DominatorAnalysis analysis = new DominatorAnalysis(ids, killingTestCases);
+        Assert.assertEquals(Arrays.asList(0, 1), analysis.getDominators());
+    }
+
+    @Test
+    public void partialKillMatrixIsRejected() {
+        MutationReport earlyKillReport = new MutationRunner(new ForkJoinPool(1), false, budgets).run(mutantGenerator.generate(), testCases);
+
+        Assertions.assertThrows(RuntimeException.class, () -> DominatorAnalysis.of(earlyKillReport));
+    }
+
+    private static BitSet bits(int... testCases) {
+        BitSet bits = new BitSet();
+        for(int testCase : testCases) {
+            bits.set(testCase);
+        }
+        return bits;
+    }
+}
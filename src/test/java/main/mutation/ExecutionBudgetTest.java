@@ -0,0 +1,79 @@
+package main.mutation;
+
+
+import main.mutants.Problem_mirror_AOIS_59;
+import main.utilities.ResultType;
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class ExecutionBudgetTest {
+
+    private static List<TestCase> testCases;
+    private static MutantGenerator mutantGenerator;
+    private static BudgetCalibration budgets;
+
+    @BeforeAll
+    public static void initializeUtilities() {
+        MutationFixture fixture = MutationFixture.get();
+        testCases = fixture.getTestCases();
+        mutantGenerator = fixture.getMutantGenerator();
+        budgets = fixture.getBudgets();
+    }
+
+    @Test
+    public void budgetStopsALoop() {
+        ExecutionBudget budget = ExecutionBudget.start(100, ExecutionBudget.UNLIMITED);
+        try {
+            Assertions.assertThrows(BudgetExceededError.class, () -> {
+                while(true) {
+                    ExecutionBudget.tick();
+                }
+            });
+            Assert.assertEquals(100, budget.getTicks());
+        } finally {
+            budget.finish();
+        }
+
+        // without a budget a tick does nothing
+        ExecutionBudget.tick();
+    }
+
+    @Test
+    public void originalStaysInsideItsBudget() {
+        MutationReport report = new MutationRunner(ForkJoinPool.commonPool(), true, budgets)
+                .run(Arrays.asList(mutantGenerator.getOriginal()), testCases);
+
+        Assert.assertFalse(report.isKilled(0));
+        Assert.assertEquals(testCases.size(), report.getNumberOfRuns());
+    }
+
+    @Test
+    public void nonTerminatingMutantIsKilledByTimeout() {
+        Mutant mutant = mutantGenerator.instrument(Problem_mirror_AOIS_59.class);
+        MutationReport report = new MutationRunner(ForkJoinPool.commonPool(), true, budgets)
+                .run(Arrays.asList(mutant), testCases);
+
+        Assert.assertTrue(report.isKilled(0));
+        Assert.assertSame(mutant, mutantGenerator.instrument(Problem_mirror_AOIS_59.class));
+        for(int testCase = 0; testCase < testCases.size(); testCase ++) {
+            // getMirror is only reached by the inputs which pass the validation
+            boolean reachesGetMirror = testCases.get(testCase).getExpected().getResultType() == ResultType.VALUE;
+            Assert.assertEquals(reachesGetMirror ? Outcome.KILLED_BY_TIMEOUT : Outcome.SURVIVED, report.getOutcome(0, testCase));
+        }
+    }
+
+    @Test
+    public void everyGeneratedMutantIsStopped() {
+        List<Mutant> mutants = mutantGenerator.generate();
+        MutationReport report = new MutationRunner(ForkJoinPool.commonPool(), false, budgets).run(mutants, testCases);
+
+        Assert.assertTrue(report.getNumberOfTimeouts() > 0);
+        Assert.assertTrue(report.getMutationScore() > 0.5);
+    }
+}
@@ -0,0 +1,102 @@
+package main.mutation;
+
+
+import main.Problem;
+import main.utilities.Result;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class IncrementalMutationRunnerTest {
+
+    private static List<TestCase> testCases;
+    private static MutantGenerator mutantGenerator;
+    private static MutationRunner runner;
+
+    @BeforeAll
+    public static void initializeUtilities() {
+        MutationFixture fixture = MutationFixture.get();
+        testCases = fixture.getTestCases();
+        mutantGenerator = fixture.getMutantGenerator();
+        runner = fixture.newRunner();
+    }
+
+    @Test
+    public void secondRunReusesEveryOutcome() throws IOException {
+        IncrementalMutationRunner incrementalRunner = new IncrementalMutationRunner(runner, mutantGenerator, newFile());
+        MutationReport firstReport = incrementalRunner.run(mutantGenerator.generate(), testCases);
+        MutationReport secondReport = incrementalRunner.run(mutantGenerator.generate(), testCases);
+
+        int cells = mutantGenerator.generate().size() * testCases.size();
+        Assert.assertEquals(0, firstReport.getNumberOfReusedRuns());
+        Assert.assertEquals(cells, secondReport.getNumberOfRuns());
+        Assert.assertEquals(cells, secondReport.getNumberOfReusedRuns());
+        Assert.assertEquals(firstReport.getNumberOfKilledMutants(), secondReport.getNumberOfKilledMutants());
+        for(int mutant = 0; mutant < mutantGenerator.generate().size(); mutant ++) {
+            Assert.assertEquals(firstReport.getKillingTestCases(mutant), secondReport.getKillingTestCases(mutant));
+        }
+    }
+
+    @Test
+    public void changedTestCaseIsRunAgain() throws IOException {
+        IncrementalMutationRunner incrementalRunner = new IncrementalMutationRunner(runner, mutantGenerator, newFile());
+        incrementalRunner.run(mutantGenerator.generate(), testCases);
+
+        List<TestCase> changedTestCases = new ArrayList<>(testCases);
+        changedTestCases.set(0, new TestCase(testCases.get(0).getId(), new Problem(3, new int[] {12, 5, 21}, "Changed"), Result.makeNormalResult(true)));
+        MutationReport report = incrementalRunner.run(mutantGenerator.generate(), changedTestCases);
+
+        int mutants = mutantGenerator.generate().size();
+        Assert.assertEquals(mutants * (testCases.size() - 1), report.getNumberOfReusedRuns());
+        Assert.assertEquals(mutants * testCases.size(), report.getNumberOfRuns());
+    }
+
+    @Test
+    public void mutantOfAnotherModeIsRunAgain() throws IOException {
+        IncrementalMutationRunner incrementalRunner = new IncrementalMutationRunner(runner, mutantGenerator, newFile());
+        incrementalRunner.run(mutantGenerator.generate(), testCases);
+        MutationReport report = incrementalRunner.run(mutantGenerator.generate(MutationMode.WEAK), testCases);
+
+        Assert.assertEquals(0, report.getNumberOfReusedRuns());
+    }
+
+    @Test
+    public void savedMatrixIsLoadedBack() throws IOException {
+        Path file = newFile();
+        MutationReport report = new IncrementalMutationRunner(runner, mutantGenerator, file).run(mutantGenerator.generate(), testCases);
+        KillMatrix killMatrix = KillMatrix.load(file);
+
+        Assert.assertEquals(report.getMutantIds(), killMatrix.getMutantIds());
+        Assert.assertEquals(report.getTestCaseIds(), killMatrix.getTestCaseIds());
+        for(int mutant = 0; mutant < report.getMutantIds().size(); mutant ++) {
+            Assert.assertEquals(report.getKillingTestCases(mutant), killMatrix.getKillingTestCases(mutant));
+            Assert.assertEquals(testCases.size(), killMatrix.getRunTestCases(mutant).cardinality());
+        }
+    }
+
+    @Test
+    public void testCaseHashDependsOnTheContentOnly() {
+        TestCase testCase = new TestCase("A", new Problem(3, new int[] {12, 5, 21}, "First"), Result.makeNormalResult(true));
+        TestCase sameContent = new TestCase("B", new Problem(3, new int[] {12, 5, 21}, "Second"), Result.makeNormalResult(true));
+        TestCase otherExpected = new TestCase("A", new Problem(3, new int[] {12, 5, 21}, "First"), Result.makeNormalResult(false));
+
+        Assert.assertEquals(testCase.getContentHash(), sameContent.getContentHash());
+        Assert.assertTrue(testCase.getContentHash() != otherExpected.getContentHash());
+    }
+
+    /**
+     * A path in the temporary directory with no file yet, which is deleted on exit if a run saves to it
+     */
+    private static Path newFile() throws IOException {
+        Path path = Files.createTempFile("kill-matrix", ".bin");
+        Files.delete(path);
+        path.toFile().deleteOnExit();
+        return path;
+    }
+}
@@ -0,0 +1,186 @@
+package main.mutation;
+
+
+import javafx.util.Pair;
+import main.Problem;
+import main.utilities.EquivalencePartition;
+import main.utilities.PartitionGenerator;
+import main.utilities.Result;
+import main.utilities.TestDataProvider;
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class McdcAnalyzerTest {
+
+    private static List<Problem> suite;
+    private static McdcAnalyzer analyzer;
+
+    @BeforeAll
+    public static void initializeUtilities() {
+        TestDataProvider testDataProvider = new TestDataProvider();
+        List<Pair<Problem, Result>> testData = testDataProvider.getAllTestData();
+
+        suite = new ArrayList<>();
+        for(Pair<Problem, Result> pair : testData) {
+            suite.add(pair.getKey());
+        }
+        analyzer = new McdcAnalyzer(new MutantGenerator());
+    }
+
+    @Test
+    public void everyConditionalJumpIsACondition() {
+        List<String> conditions = analyzer.getConditions();
+
+        Assert.assertEquals(9, conditions.size());
+        Assert.assertEquals("solve line 41, condition 1 of 2 (IF_ICMPLT)", conditions.get(0));
+        Assert.assertEquals("solve line 41, condition 2 of 2 (IF_ICMPLE)", conditions.get(1));
+        Assert.assertEquals("solve line 45, condition 1 of 1 (IFNONNULL)", conditions.get(2));
+        Assert.assertTrue(conditions.get(8).startsWith("getMirror line 72"));
+    }
+
+    @Test
+    public void wholeSuitePairsEveryCondition() {
+        McdcAnalyzer.Report report = analyzer.analyze(suite);
+
+        Assert.assertEquals(Collections.emptyList(), report.getUnpairedConditions());
+        Assert.assertEquals(0, report.getNumberOfTruncatedExecutions());
+        // the conditions of lines 41, 45 and 49 worked out from the inputs: the paired condition and the outcome of
+        // its decision differ between the two inputs
+        for(int condition = 0; condition < 4; condition ++) {
+            int[] pair = report.getPair(condition);
+            Boolean[] first = headerConditions(suite.get(pair[0]));
+            Boolean[] second = headerConditions(suite.get(pair[1]));
+            String message = report.getConditions().get(condition);
+            Assert.assertTrue(message, first[condition] != null && second[condition] != null);
+            Assert.assertTrue(message, first[condition].booleanValue() != second[condition].booleanValue());
+            Assert.assertTrue(message, headerDecision(first, condition) != headerDecision(second, condition));
+        }
+        // a loop condition can be paired by one input, which goes round the loop and leaves it, but the pair alone has
+        // to pair the condition
+        for(int condition = 4; condition < report.getConditions().size(); condition ++) {
+            int[] pair = report.getPair(condition);
+            Assert.assertTrue(analyzer.analyze(Arrays.asList(suite.get(pair[0]), suite.get(pair[1]))).isPaired(condition));
+        }
+    }
+
+    @Test
+    public void loopAndIfOnOneLineAreTwoDecisions() {
+        McdcAnalyzer oneLineAnalyzer = new McdcAnalyzer(new MutantGenerator(OneLineLoopProblem.class, Collections.singletonList("solve")));
+        List<String> conditions = oneLineAnalyzer.getConditions();
+
+        Assert.assertEquals(2, conditions.size());
+        Assert.assertTrue(conditions.get(0).endsWith("condition 1 of 1 (IF_ICMPGE)"));
+        Assert.assertTrue(conditions.get(1).endsWith("condition 1 of 1 (IFNE)"));
+
+        McdcAnalyzer.Report report = oneLineAnalyzer.analyze(Collections.singletonList(new OneLineLoopProblem(3, new int[] {1, 2, 3}, "No zero")));
+        // the loop is entered and left, the if is always false
+        Assert.assertEquals(3, report.getNumberOfVectors());
+        report = oneLineAnalyzer.analyze(Arrays.asList(new OneLineLoopProblem(3, new int[] {1, 2, 3}, "No zero"),
+                new OneLineLoopProblem(3, new int[] {1, 0, 3}, "Zero")));
+        Assert.assertEquals(Collections.emptyList(), report.getUnpairedConditions());
+    }
+
+    @Test
+    public void singleInputLeavesGaps() {
+        McdcAnalyzer.Report report = analyzer.analyze(Collections.singletonList(suite.get(0)));
+
+        Assert.assertFalse(report.getUnpairedConditions().isEmpty());
+        Assert.assertNull(report.getPair(0));
+    }
+
+    @Test
+    public void corpusFillsTheGaps() {
+        List<Problem> small = Collections.singletonList(new Problem(3, new int[] {21, 5, 12}, "One solution"));
+        PartitionGenerator generator = new PartitionGenerator(7);
+        List<Problem> corpus = Stream.of(EquivalencePartition.values())
+                .flatMap(partition -> generator.stream(partition, 500))
+                .map(Pair::getKey)
+                .collect(Collectors.toList());
+
+        List<Problem> chosen = analyzer.fillGaps(small, corpus);
+        List<Problem> filled = new ArrayList<>(small);
+        filled.addAll(chosen);
+
+        Assert.assertFalse(analyzer.analyze(small).getUnpairedConditions().isEmpty());
+        Assert.assertEquals(Collections.emptyList(), analyzer.analyze(filled).getUnpairedConditions());
+        Assert.assertTrue(chosen.size() < analyzer.getConditions().size());
+    }
+
+    @Test
+    public void longExecutionsOverflowingTheRingBufferAreLeftOut() {
+        int[] input = new int[100];
+        McdcAnalyzer smallBuffer = new McdcAnalyzer(new MutantGenerator(), 16);
+        McdcAnalyzer.Report report = smallBuffer.analyze(Collections.singletonList(new Problem(100, input, "Long execution")));
+
+        Assert.assertEquals(1, report.getNumberOfTruncatedExecutions());
+        Assert.assertEquals(0, report.getNumberOfVectors());
+    }
+
+    @Test
+    public void probesWrapAroundTheRingBuffer() {
+        ConditionProbes probes = ConditionProbes.start(4);
+        try {
+            for(int condition = 0; condition < 6; condition ++) {
+                ConditionProbes.compare(condition, 3, Opcodes.IF_ICMPLT, condition);
+            }
+        } finally {
+            probes.finish();
+        }
+        ConditionProbes.compare(0, 0, Opcodes.IF_ICMPEQ, 0);
+
+        Assert.assertEquals(6, probes.getWritten());
+        Assert.assertEquals(2 << 1 | 1, probes.get(2));
+        Assert.assertEquals(5 << 1, probes.get(5));
+        Assert.assertEquals(4 << 1, probes.get(0));
+        Assertions.assertThrows(RuntimeException.class, () -> ConditionProbes.start(6));
+    }
+
+    /**
+     * The conditions of lines 41, 45 and 49 of Problem.solve(), null when a short circuit or an error before leaves
+     * them out
+     */
+    private static Boolean[] headerConditions(Problem problem) {
+        Boolean[] values = new Boolean[4];
+        values[0] = problem.getNumberOfElements() < 2;
+        if(!values[0]) {
+            values[1] = problem.getNumberOfElements() > 100;
+            if(!values[1]) {
+                values[2] = problem.getInput() == null;
+                if(!values[2]) {
+                    values[3] = problem.getInput().length != problem.getNumberOfElements();
+                }
+            }
+        }
+        return values;
+    }
+
+    private static boolean headerDecision(Boolean[] values, int condition) {
+        return condition < 2 ? values[0] || Boolean.TRUE.equals(values[1]) : values[condition];
+    }
+
+    /**
+     * A loop and an if inside it, written on one line
+     */
+    public static class OneLineLoopProblem extends Problem {
+
+        public OneLineLoopProblem(int numberOfElements, int[] input, String problemDescription) {
+            super(numberOfElements, input, problemDescription);
+        }
+
+        @Override
+        public boolean solve() {
+            for(int i = 0; i < getNumberOfElements(); i ++) if(getInput()[i] == 0) return true;
+            return false;
+        }
+    }
+}
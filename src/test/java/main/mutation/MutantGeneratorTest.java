@@ -0,0 +1,190 @@
+package main.mutation;
+
+
+import main.Problem;
+import main.mutants.Problem_mirror_AOIS_59;
+import main.mutants.Problem_mirror_AOIS_67;
+import main.mutants.Problem_mirror_AORB_20;
+import main.mutants.Problem_mirror_CDL_11;
+import main.mutants.Problem_solve_AOIU_5;
+import main.mutants.Problem_solve_ROR_32;
+import main.mutants.Problem_solve_ROR_39;
+import main.mutants.Problem_solve_SDL_11;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TypeInsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public class MutantGeneratorTest {
+
+    private static MutantGenerator mutantGenerator;
+
+    @BeforeAll
+    public static void initializeGenerator() {
+        mutantGenerator = new MutantGenerator();
+    }
+
+    @Test
+    public void everyOperatorIsApplied() {
+        Set<MutationOperator> operators = EnumSet.noneOf(MutationOperator.class);
+        for(Mutation mutation : mutantGenerator.findMutations()) {
+            operators.add(mutation.getOperator());
+            Assert.assertTrue(mutation.getId().startsWith("Problem_solve_" + mutation.getOperator() + "_")
+                    || mutation.getId().startsWith("Problem_mirror_" + mutation.getOperator() + "_"));
+        }
+        Assert.assertEquals(EnumSet.allOf(MutationOperator.class), operators);
+    }
+
+    @Test
+    public void everyMutationIsGeneratedOrStillborn() {
+        List<Mutant> mutants = mutantGenerator.generate();
+
+        Assert.assertEquals(mutantGenerator.findMutations().size(), mutants.size() + mutantGenerator.getStillbornMutations().size());
+        Assert.assertTrue(mutants.size() > mutantGenerator.getStillbornMutations().size());
+        Assert.assertSame(mutants, mutantGenerator.generate());
+
+        Problem problem = new Problem(4, new int[] {12, 2, 3, 21}, "Example");
+        for(Mutant mutant : mutants) {
+            Problem mutated = mutant.instantiate(problem);
+            Assert.assertEquals(Problem.class, mutant.getMutantClass().getSuperclass());
+            Assert.assertSame(mutantGenerator.getClassLoader(), mutant.getMutantClass().getClassLoader());
+            Assert.assertArrayEquals(problem.getInput(), mutated.getInput());
+        }
+    }
+
+    /**
+     * The change of every hand written mutant is found by comparing it with another hand written mutant in which the same
+     * method is not mutated, and it has to be the same as the change of one of the generated mutations.
+     */
+    @TestFactory
+    public Stream<DynamicTest> handWrittenMutantsAreGenerated() {
+        List<Object[]> handWrittenMutants = Arrays.asList(
+                new Object[] {Problem_solve_ROR_32.class, "solve", Problem_mirror_AORB_20.class},
+                new Object[] {Problem_solve_ROR_39.class, "solve", Problem_mirror_AORB_20.class},
+                new Object[] {Problem_solve_AOIU_5.class, "solve", Problem_mirror_AORB_20.class},
+                new Object[] {Problem_solve_SDL_11.class, "solve", Problem_mirror_AORB_20.class},
+                new Object[] {Problem_mirror_AOIS_59.class, "getMirror", Problem_solve_ROR_32.class},
+                new Object[] {Problem_mirror_AOIS_67.class, "getMirror", Problem_solve_ROR_32.class},
+                new Object[] {Problem_mirror_AORB_20.class, "getMirror", Problem_solve_ROR_32.class},
+                new Object[] {Problem_mirror_CDL_11.class, "getMirror", Problem_solve_ROR_32.class});
+
+        return handWrittenMutants.stream().map(handWrittenMutant -> DynamicTest.dynamicTest(
+                ((Class<?>) handWrittenMutant[0]).getSimpleName(), () -> {
+                    String methodName = (String) handWrittenMutant[1];
+                    List<String> handWrittenChange = change(
+                            render(readMethod((Class<?>) handWrittenMutant[2], methodName)),
+                            render(readMethod((Class<?>) handWrittenMutant[0], methodName)));
+
+                    List<String> original = render(readMethod(Problem.class, methodName));
+                    boolean found = false;
+                    for(Mutation mutation : mutantGenerator.findMutations()) {
+                        if(mutation.getMethodName().equals(methodName)) {
+                            MethodNode mutated = readMethod(Problem.class, methodName);
+                            mutation.applyTo(mutated);
+                            if(change(original, render(mutated)).equals(handWrittenChange)) {
+                                found = true;
+                                String prefix = methodName.equals("solve") ? "Problem_solve_" : "Problem_mirror_";
+                                Assert.assertTrue(mutation.getId().startsWith(prefix + ((Class<?>) handWrittenMutant[0]).getSimpleName().split("_")[2]));
+                            }
+                        }
+                    }
+                    Assert.assertTrue(found);
+                }));
+    }
+
+    private static MethodNode readMethod(Class<?> someClass, String methodName) {
+        ClassNode classNode = new ClassNode();
+        new ClassReader(BytecodeCopier.readBytecode(someClass)).accept(classNode, ClassReader.SKIP_FRAMES);
+        for(MethodNode method : classNode.methods) {
+            if(method.name.equals(methodName)) {
+                return method;
+            }
+        }
+        throw new RuntimeException("No method " + methodName + " inside " + someClass.getName());
+    }
+
+    /**
+     * The instructions written in a way which does not depend on the class: the hand written mutants keep getMirror as
+     * an instance method, so its local variables start from 1, and solve calls it with an extra 'this'.
+     */
+    private static List<String> render(MethodNode method) {
+        boolean instance = (method.access & org.objectweb.asm.Opcodes.ACC_STATIC) == 0;
+        int firstLocal = instance && method.name.equals("getMirror") ? 1 : 0;
+
+        List<AbstractInsnNode> instructions = new ArrayList<>();
+        for(AbstractInsnNode instruction : method.instructions.toArray()) {
+            if(instruction.getOpcode() >= 0) {
+                instructions.add(instruction);
+            }
+        }
+
+        List<String> rendered = new ArrayList<>();
+        for(int i = 0; i < instructions.size(); i ++) {
+            AbstractInsnNode instruction = instructions.get(i);
+            String text = String.valueOf(instruction.getOpcode());
+            if(instruction instanceof VarInsnNode) {
+                text += " " + (((VarInsnNode) instruction).var - firstLocal);
+            } else if(instruction instanceof IincInsnNode) {
+                text += " " + (((IincInsnNode) instruction).var - firstLocal) + " " + ((IincInsnNode) instruction).incr;
+            } else if(instruction instanceof IntInsnNode) {
+                text += " " + ((IntInsnNode) instruction).operand;
+            } else if(instruction instanceof LdcInsnNode) {
+                text += " " + ((LdcInsnNode) instruction).cst;
+            } else if(instruction instanceof FieldInsnNode) {
+                text += " " + ((FieldInsnNode) instruction).name;
+            } else if(instruction instanceof TypeInsnNode) {
+                text += " " + ((TypeInsnNode) instruction).desc;
+            } else if(instruction instanceof MethodInsnNode) {
+                text = "call " + ((MethodInsnNode) instruction).name;
+            } else if(instruction instanceof JumpInsnNode) {
+                AbstractInsnNode target = ((JumpInsnNode) instruction).label;
+                while(target.getOpcode() < 0) {
+                    target = target.getNext();
+                }
+                text += " " + (instructions.indexOf(target) - i);
+            }
+            rendered.add(text);
+        }
+        return rendered;
+    }
+
+    /**
+     * The instructions of the mutated method left after removing the ones it has in common with the original, from
+     * the start and from the end
+     */
+    private static List<String> change(List<String> original, List<String> mutated) {
+        int start = 0;
+        while(start < original.size() && start < mutated.size() && original.get(start).equals(mutated.get(start))) {
+            start ++;
+        }
+        int end = 0;
+        while(end < original.size() - start && end < mutated.size() - start
+                && original.get(original.size() - 1 - end).equals(mutated.get(mutated.size() - 1 - end))) {
+            end ++;
+        }
+        List<String> change = new ArrayList<>(original.subList(start, original.size() - end));
+        change.add("->");
+        change.addAll(mutated.subList(start, mutated.size() - end));
+        return change;
+    }
+}
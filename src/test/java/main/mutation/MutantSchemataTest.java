@@ -0,0 +1,56 @@
+package main.mutation;
+
+
+import main.Problem;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class MutantSchemataTest {
+
+    private static List<TestCase> testCases;
+    private static MutantGenerator mutantGenerator;
+
+    @BeforeAll
+    public static void initializeUtilities() {
+        MutationFixture fixture = MutationFixture.get();
+        testCases = fixture.getTestCases();
+        mutantGenerator = fixture.getMutantGenerator();
+    }
+
+    @Test
+    public void allMutantsShareOneClass() {
+        List<Mutant> mutants = new MutantSchemata(mutantGenerator).generate();
+
+        Assert.assertEquals(mutantGenerator.generate().size(), mutants.size());
+        for(int i = 0; i < mutants.size(); i ++) {
+            Assert.assertSame(mutants.get(0).getMutantClass(), mutants.get(i).getMutantClass());
+            Assert.assertEquals(i + 1, mutants.get(i).getSchemataId());
+            Assert.assertEquals(mutantGenerator.generate().get(i).getId(), mutants.get(i).getId());
+        }
+    }
+
+    @Test
+    public void schemataMutantsHaveTheSameOutcomesAsTheirClasses() {
+        MutationReport classesReport = MutationFixture.get().getFullReport();
+        MutationReport schemataReport = MutationFixture.get().newRunner().run(new MutantSchemata(mutantGenerator).generate(), testCases);
+
+        for(int mutant = 0; mutant < classesReport.getMutantIds().size(); mutant ++) {
+            for(int testCase = 0; testCase < testCases.size(); testCase ++) {
+                Assert.assertEquals(classesReport.getMutantIds().get(mutant) + " on " + testCases.get(testCase),
+                        classesReport.getOutcome(mutant, testCase), schemataReport.getOutcome(mutant, testCase));
+            }
+        }
+    }
+
+    @Test
+    public void idZeroIsTheOriginal() throws Exception {
+        Class<? extends Problem> schemataClass = new MutantSchemata(mutantGenerator).generate().get(0).getMutantClass();
+        for(TestCase testCase : testCases) {
+            Problem original = schemataClass.getConstructor(Problem.class, int.class).newInstance(testCase.getProblem(), 0);
+            Assert.assertFalse(testCase.toString(), testCase.isKilledBy(original));
+        }
+    }
+}
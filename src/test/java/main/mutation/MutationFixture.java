@@ -0,0 +1,64 @@
+package main.mutation;
+
+import main.utilities.TestDataProvider;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The test cases of TestDataProvider, the mutants generated from Problem, their budgets and the full kill matrix, which
+ * most of the mutation tests start from. They are built once, by the first test asking for them, and shared by the
+ * others, so the full matrix is computed once instead of once per test class.
+ */
+final class MutationFixture {
+
+    private static MutationFixture shared;
+
+    private final List<TestCase> testCases;
+    private final MutantGenerator mutantGenerator;
+    private final BudgetCalibration budgets;
+    private MutationReport fullReport;
+
+    private MutationFixture() {
+        testCases = Collections.unmodifiableList(new TestDataProvider().getAllTestCases());
+        mutantGenerator = new MutantGenerator();
+        budgets = BudgetCalibration.calibrate(mutantGenerator.getOriginal(), testCases);
+    }
+
+    static synchronized MutationFixture get() {
+        if(shared == null) {
+            shared = new MutationFixture();
+        }
+        return shared;
+    }
+
+    List<TestCase> getTestCases() {
+        return testCases;
+    }
+
+    MutantGenerator getMutantGenerator() {
+        return mutantGenerator;
+    }
+
+    BudgetCalibration getBudgets() {
+        return budgets;
+    }
+
+    /**
+     * A runner on the common pool, which isolates the mutants and gives them the budgets
+     */
+    MutationRunner newRunner() {
+        return new MutationRunner(ForkJoinPool.commonPool(), true, budgets);
+    }
+
+    /**
+     * Every strong mutant run on every test case, computed the first time it is asked for
+     */
+    synchronized MutationReport getFullReport() {
+        if(fullReport == null) {
+            fullReport = newRunner().run(mutantGenerator.generate(), testCases);
+        }
+        return fullReport;
+    }
+}
@@ -0,0 +1,111 @@
+package main.mutation;
+
+
+import main.Problem;
+import main.utilities.ResultType;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class MutationModeTest {
+
+    private static List<TestCase> testCases;
+    private static MutantGenerator mutantGenerator;
+    private static MutationReport strongReport;
+    private static MutationReport firmReport;
+    private static MutationReport weakReport;
+
+    @BeforeAll
+    public static void initializeUtilities() {
+        MutationFixture fixture = MutationFixture.get();
+        testCases = fixture.getTestCases();
+        mutantGenerator = fixture.getMutantGenerator();
+        MutationRunner runner = fixture.newRunner();
+        strongReport = fixture.getFullReport();
+        firmReport = runner.run(mutantGenerator.generate(MutationMode.FIRM), testCases);
+        weakReport = runner.run(mutantGenerator.generate(MutationMode.WEAK), testCases);
+    }
+
+    @Test
+    public void everyModeHasTheSameMutants() {
+        Assert.assertEquals(strongReport.getMutantIds(), firmReport.getMutantIds());
+        Assert.assertEquals(strongReport.getMutantIds(), weakReport.getMutantIds());
+        Assert.assertSame(mutantGenerator.generate(), mutantGenerator.generate(MutationMode.STRONG));
+        Assert.assertSame(mutantGenerator.generate(MutationMode.WEAK), mutantGenerator.generate(MutationMode.WEAK));
+    }
+
+    @Test
+    public void strongKillsAreFirmKillsAndFirmKillsAreWeakKills() {
+        for(int mutant = 0; mutant < strongReport.getMutantIds().size(); mutant ++) {
+            for(int testCase = 0; testCase < testCases.size(); testCase ++) {
+                String cell = strongReport.getMutantIds().get(mutant) + " on " + testCases.get(testCase);
+                if(strongReport.getKillingTestCases(mutant).get(testCase)) {
+                    Assert.assertTrue(cell, firmReport.getKillingTestCases(mutant).get(testCase));
+                }
+                if(firmReport.getKillingTestCases(mutant).get(testCase)) {
+                    Assert.assertTrue(cell, weakReport.getKillingTestCases(mutant).get(testCase));
+                }
+                Assert.assertNotSame(Outcome.KILLED, weakReport.getOutcome(mutant, testCase));
+            }
+        }
+        Assert.assertTrue(weakReport.getMutationScore() >= firmReport.getMutationScore());
+        Assert.assertTrue(firmReport.getMutationScore() >= strongReport.getMutationScore());
+    }
+
+    @Test
+    public void changedMirrorExpressionsAreInfected() {
+        List<Mutant> weakMutants = mutantGenerator.generate(MutationMode.WEAK);
+        int checked = 0;
+        for(int mutant = 0; mutant < weakMutants.size(); mutant ++) {
+            Mutation mutation = weakMutants.get(mutant).getMutation();
+            // the same changes as Problem_mirror_AORB_20 and Problem_mirror_CDL_11
+            boolean subtraction = mutation.getDescription().equals("+ replaced by -");
+            boolean deletion = mutation.getDescription().equals("'% 10' deleted");
+            if(!mutation.getMethodName().equals("getMirror") || !(subtraction || deletion)) {
+                continue;
+            }
+
+            for(int testCase = 0; testCase < testCases.size(); testCase ++) {
+                Problem problem = testCases.get(testCase).getProblem();
+                boolean infected = false;
+                if(testCases.get(testCase).getExpected().getResultType() == ResultType.VALUE) {
+                    // y * 10 - x % 10 differs as soon as a digit is not 0, y * 10 + x as soon as x has two digits
+                    int lastElement = problem.getInput()[problem.getNumberOfElements() - 1];
+                    infected = subtraction ? lastElement != 0 : lastElement >= 10;
+                }
+                Assert.assertEquals(infected ? Outcome.INFECTED : Outcome.SURVIVED, weakReport.getOutcome(mutant, testCase));
+            }
+            checked ++;
+        }
+        Assert.assertEquals(2, checked);
+    }
+
+    @Test
+    public void deletedMirrorStoresAreInfectedWhenTheyChangeTheVariable() {
+        List<Mutant> weakMutants = mutantGenerator.generate(MutationMode.WEAK);
+        int checked = 0;
+        for(int mutant = 0; mutant < weakMutants.size(); mutant ++) {
+            Mutation mutation = weakMutants.get(mutant).getMutation();
+            if(!mutation.getMethodName().equals("getMirror") || mutation.getOperator() != MutationOperator.SDL
+                    || !mutation.getDescription().equals("statement ending with store deleted")) {
+                continue;
+            }
+
+            for(int testCase = 0; testCase < testCases.size(); testCase ++) {
+                Problem problem = testCases.get(testCase).getProblem();
+                boolean infected = false;
+                if(testCases.get(testCase).getExpected().getResultType() == ResultType.VALUE) {
+                    // y = y * 10 + x % 10 and x /= 10 change the variable as soon as x is not 0, in the first iteration or
+                    // in a later one
+                    int lastElement = problem.getInput()[problem.getNumberOfElements() - 1];
+                    infected = lastElement != 0;
+                }
+                Assert.assertEquals(infected ? Outcome.INFECTED : Outcome.SURVIVED, weakReport.getOutcome(mutant, testCase));
+            }
+            checked ++;
+        }
+        Assert.assertEquals(2, checked);
+    }
+}
@@ -0,0 +1,82 @@
+package main.mutation;
+
+
+import main.mutants.Problem_mirror_AOIS_67;
+import main.mutants.Problem_mirror_AORB_20;
+import main.mutants.Problem_mirror_CDL_11;
+import main.mutants.Problem_solve_AOIU_5;
+import main.mutants.Problem_solve_ROR_32;
+import main.mutants.Problem_solve_ROR_39;
+import main.mutants.Problem_solve_SDL_11;
+import main.utilities.TestDataProvider;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class MutationRunnerTest {
+
+    private static List<TestCase> testCases;
+    private static List<Mutant> mutants;
+
+    @BeforeAll
+    public static void initializeUtilities() {
+        testCases = new TestDataProvider().getAllTestCases();
+
+        // Problem_mirror_AOIS_59 never stops for a natural number, so it is left out
+        mutants = Arrays.asList(Mutant.of(Problem_solve_ROR_32.class), Mutant.of(Problem_solve_ROR_39.class),
+                Mutant.of(Problem_solve_AOIU_5.class), Mutant.of(Problem_solve_SDL_11.class),
+                Mutant.of(Problem_mirror_AOIS_67.class), Mutant.of(Problem_mirror_AORB_20.class),
+                Mutant.of(Problem_mirror_CDL_11.class));
+    }
+
+    @Test
+    public void everyHandWrittenMutantIsKilled() {
+        MutationReport report = new MutationRunner().run(mutants, testCases);
+
+        Assert.assertEquals(mutants.size(), report.getNumberOfKilledMutants());
+        Assert.assertEquals(1.0, report.getMutationScore(), 0);
+        Assert.assertTrue(report.getNumberOfRuns() < mutants.size() * testCases.size());
+        for(int mutant = 0; mutant < mutants.size(); mutant ++) {
+            Assert.assertTrue(report.getNanos(mutant) > 0);
+        }
+    }
+
+    @Test
+    public void fullKillMatrixRunsEveryPair() {
+        MutationReport fullReport = new MutationRunner(ForkJoinPool.commonPool(), true).run(mutants, testCases);
+        MutationReport report = new MutationRunner(new ForkJoinPool(1), false).run(mutants, testCases);
+
+        Assert.assertEquals(mutants.size() * testCases.size(), fullReport.getNumberOfRuns());
+        for(int mutant = 0; mutant < mutants.size(); mutant ++) {
+            BitSet killingTestCases = fullReport.getKillingTestCases(mutant);
+            BitSet firstKillingTestCase = new BitSet();
+            firstKillingTestCase.set(killingTestCases.nextSetBit(0));
+
+            // a single thread stops every mutant at its first killing test case
+            Assert.assertEquals(firstKillingTestCase, report.getKillingTestCases(mutant));
+            Assert.assertEquals(Outcome.NOT_RUN, report.getOutcome(mutant, testCases.size() - 1));
+        }
+    }
+
+    @Test
+    public void survivingMutantIsRunOnEveryTestCase() {
+        List<TestCase> notKilling = new ArrayList<>();
+        for(TestCase testCase : testCases) {
+            if(!testCase.isKilledBy(Mutant.of(Problem_solve_ROR_32.class).instantiate(testCase.getProblem()))) {
+                notKilling.add(testCase);
+            }
+        }
+
+        MutationReport report = new MutationRunner().run(Arrays.asList(Mutant.of(Problem_solve_ROR_32.class)), notKilling);
+
+        Assert.assertFalse(report.isKilled(0));
+        Assert.assertEquals(0.0, report.getMutationScore(), 0);
+        Assert.assertEquals(notKilling.size(), report.getNumberOfRuns());
+    }
+}
@@ -0,0 +1,74 @@
+package main.mutation;
+
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class SplitStreamTest {
+
+    private static List<TestCase> testCases;
+    private static MutantGenerator mutantGenerator;
+    private static BudgetCalibration budgets;
+    private static SplitStream splitStream;
+
+    @BeforeAll
+    public static void initializeUtilities() {
+        MutationFixture fixture = MutationFixture.get();
+        testCases = fixture.getTestCases();
+        mutantGenerator = fixture.getMutantGenerator();
+        budgets = fixture.getBudgets();
+        splitStream = new SplitStream(mutantGenerator);
+    }
+
+    @Test
+    public void almostEveryMutantIsResumable() {
+        List<Mutant> mutants = splitStream.generate();
+
+        Assert.assertEquals(mutantGenerator.generate().size(), mutants.size());
+        int resumable = 0;
+        for(int i = 0; i < mutants.size(); i ++) {
+            Assert.assertEquals(mutantGenerator.generate().get(i).getId(), mutants.get(i).getId());
+            if(Resumable.class.isAssignableFrom(mutants.get(i).getMutantClass())) {
+                resumable ++;
+            }
+        }
+        Assert.assertTrue(resumable > mutants.size() * 9 / 10);
+        Assert.assertSame(mutants, splitStream.generate());
+    }
+
+    @Test
+    public void splitStreamHasTheSameOutcomesAsFullRuns() {
+        SplitStream.Recording recording = splitStream.record(testCases);
+        MutationReport fullReport = MutationFixture.get().getFullReport();
+        MutationReport splitReport = new MutationRunner(ForkJoinPool.commonPool(), true, budgets, recording).run(splitStream.generate(), testCases);
+
+        for(int mutant = 0; mutant < fullReport.getMutantIds().size(); mutant ++) {
+            for(int testCase = 0; testCase < testCases.size(); testCase ++) {
+                Assert.assertEquals(fullReport.getMutantIds().get(mutant) + " on " + testCases.get(testCase),
+                        fullReport.getOutcome(mutant, testCase), splitReport.getOutcome(mutant, testCase));
+            }
+        }
+        Assert.assertTrue(recording.getNumberOfUnreachedPairs(splitStream.generate()) > 0);
+    }
+
+    @Test
+    public void originalPassesEveryTestCase() {
+        SplitStream.Recording recording = splitStream.record(testCases);
+        for(int testCase = 0; testCase < testCases.size(); testCase ++) {
+            Assert.assertFalse(recording.isKilledByOriginal(testCase));
+        }
+    }
+
+    @Test
+    public void otherTestCasesAreRejected() {
+        SplitStream.Recording recording = splitStream.record(testCases.subList(0, 1));
+        MutationRunner runner = new MutationRunner(ForkJoinPool.commonPool(), true, budgets, recording);
+
+        Assertions.assertThrows(RuntimeException.class, () -> runner.run(splitStream.generate(), testCases));
+    }
+}
@@ -0,0 +1,94 @@
+package main.mutation;
+
+
+import main.Problem;
+import main.mutants.Problem_mirror_AOIS_67;
+import main.mutants.Problem_mirror_AORB_20;
+import main.mutants.Problem_mirror_CDL_11;
+import main.mutants.Problem_solve_AOIU_5;
+import main.mutants.Problem_solve_ROR_32;
+import main.mutants.Problem_solve_ROR_39;
+import main.mutants.Problem_solve_SDL_11;
+import main.utilities.TestDataProvider;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class TestPrioritizerTest {
+
+    private static List<TestCase> testCases;
+    private static List<Mutant> mutants;
+    private static KillMatrix history;
+
+    @BeforeAll
+    public static void initializeUtilities() {
+        testCases = new TestDataProvider().getAllTestCases();
+
+        // Problem_mirror_AOIS_59 never stops for a natural number, so it is left out
+        mutants = Arrays.asList(Mutant.of(Problem_solve_ROR_32.class), Mutant.of(Problem_solve_ROR_39.class),
+                Mutant.of(Problem_solve_AOIU_5.class), Mutant.of(Problem_solve_SDL_11.class),
+                Mutant.of(Problem_mirror_AOIS_67.class), Mutant.of(Problem_mirror_AORB_20.class),
+                Mutant.of(Problem_mirror_CDL_11.class));
+
+        MutationReport fullReport = new MutationRunner(ForkJoinPool.commonPool(), true).run(mutants, testCases);
+        history = KillMatrix.of(fullReport, new long[mutants.size()], new long[testCases.size()]);
+    }
+
+    @Test
+    public void everyOrderHoldsEveryTestCaseOnce() {
+        int[][] orders = new TestPrioritizer(history).order(mutants, testCases);
+
+        Assert.assertEquals(mutants.size(), orders.length);
+        for(int[] order : orders) {
+            int[] sorted = order.clone();
+            Arrays.sort(sorted);
+            for(int testCase = 0; testCase < testCases.size(); testCase ++) {
+                Assert.assertEquals(testCase, sorted[testCase]);
+            }
+        }
+    }
+
+    @Test
+    public void everyMutantIsKilledByItsFirstTestCase() {
+        TestPrioritizer testPrioritizer = new TestPrioritizer(history);
+        MutationReport listOrderReport = new MutationRunner(new ForkJoinPool(1), false).run(mutants, testCases);
+        MutationReport prioritizedReport = testPrioritizer.run(new MutationRunner(new ForkJoinPool(1), false), mutants, testCases);
+
+        for(int mutant = 0; mutant < mutants.size(); mutant ++) {
+            Assert.assertTrue(prioritizedReport.isKilled(mutant));
+            Assert.assertEquals(1, prioritizedReport.getNumberOfRuns(mutant));
+        }
+        Assert.assertEquals(1.0, prioritizedReport.getMedianNumberOfRuns(), 0);
+        Assert.assertEquals(listOrderReport.getMedianNumberOfRuns(), testPrioritizer.getMedianNumberOfRunsInListOrder(mutants, testCases), 0);
+        Assert.assertTrue(listOrderReport.getMedianNumberOfRuns() > prioritizedReport.getMedianNumberOfRuns());
+    }
+
+    @Test
+    public void newMutantIsRankedByItsGroup() {
+        List<Mutant> generated = new ArrayList<>();
+        for(Mutant mutant : new MutantGenerator().generate()) {
+            if(mutant.getId().startsWith("Problem_solve_ROR_") && !history.getMutantIds().contains(mutant.getId())) {
+                generated.add(mutant);
+            }
+        }
+        int[][] orders = new TestPrioritizer(history).order(generated, testCases);
+
+        // with no history of their own, the generated mutants of a group share the order the group history gives
+        for(int[] order : orders) {
+            Assert.assertArrayEquals(orders[0], order);
+        }
+        Assert.assertTrue(history.getKillingTestCases(0).get(orders[0][0]) || history.getKillingTestCases(1).get(orders[0][0]));
+    }
+
+    @Test
+    public void groupIsTheIdWithoutItsNumber() {
+        Assert.assertEquals("Problem_solve_ROR", TestPrioritizer.group("Problem_solve_ROR_32"));
+        Assert.assertEquals("Problem_mirror_AOIS", TestPrioritizer.group("Problem_mirror_AOIS_59"));
+        Assert.assertEquals("Problem", TestPrioritizer.group("Problem"));
+    }
+}
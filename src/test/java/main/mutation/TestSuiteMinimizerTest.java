@@ -0,0 +1,108 @@
+package main.mutation;
+
+
+import main.Problem;
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+public class TestSuiteMinimizerTest {
+
+    private static List<TestCase> testCases;
+    private static List<Mutant> mutants;
+    private static BudgetCalibration budgets;
+    private static MutationReport fullReport;
+    private static TestSuiteMinimizer minimizer;
+
+    @BeforeAll
+    public static void initializeUtilities() {
+        MutationFixture fixture = MutationFixture.get();
+        testCases = fixture.getTestCases();
+        mutants = fixture.getMutantGenerator().generate();
+        budgets = fixture.getBudgets();
+        fullReport = fixture.getFullReport();
+        minimizer = new TestSuiteMinimizer(testCases, fullReport);
+    }
+
+    @Test
+    public void reducedSuiteKillsTheSameMutants() {
+        List<TestCase> reduced = minimizer.minimize();
+        MutationReport reducedReport = new MutationRunner(ForkJoinPool.commonPool(), true, budgets).run(mutants, reduced);
+
+        Assert.assertTrue(reduced.size() < testCases.size());
+        Assert.assertEquals(fullReport.getNumberOfKilledMutants(), reducedReport.getNumberOfKilledMutants());
+        for(int mutant = 0; mutant < mutants.size(); mutant ++) {
+            Assert.assertEquals(fullReport.isKilled(mutant), reducedReport.isKilled(mutant));
+        }
+    }
+
+    @Test
+    public void reducedSuiteKeepsTheConditionVectorsAndPartitions() {
+        long fullCoverage = 0;
+        for(TestCase testCase : testCases) {
+            fullCoverage |= ProblemCoverage.of(testCase.getProblem());
+        }
+        long reducedCoverage = 0;
+        for(TestCase testCase : minimizer.minimize()) {
+            reducedCoverage |= ProblemCoverage.of(testCase.getProblem());
+        }
+
+        Assert.assertEquals(fullCoverage, reducedCoverage);
+    }
+
+    @Test
+    public void exactCoverIsNoLargerThanTheGreedyOne() {
+        int[] greedy = minimizer.greedy();
+        int[] exact = minimizer.exact();
+
+        Assert.assertTrue(exact.length <= greedy.length);
+        for(int[] cover : new int[][] {greedy, exact}) {
+            BitSet covered = new BitSet();
+            for(int testCase : cover) {
+                covered.or(minimizer.getCoverage(testCase));
+            }
+            Assert.assertEquals(minimizer.getNumberOfRequirements(), covered.cardinality());
+        }
+    }
+
+    @Test
+    public void duplicatedInputsAreSelectedOnce() {
+        Set<String> inputs = new HashSet<>();
+        for(TestCase testCase : minimizer.minimize()) {
+            Problem problem = testCase.getProblem();
+            Assert.assertTrue(inputs.add(problem.getNumberOfElements() + " " + Arrays.toString(problem.getInput())));
+        }
+    }
+
+    @Test
+    public void coverageFollowsSolve() {
+        long falseResult = ProblemCoverage.of(new Problem(4, new int[] {1, 2, 3, 4}, ""));
+        long trueOnFirstPosition = ProblemCoverage.of(new Problem(4, new int[] {12, 2, 3, 21}, ""));
+        long negativeOnFirstPosition = ProblemCoverage.of(new Problem(4, new int[] {-1, 2, 3, 4}, ""));
+
+        Assert.assertEquals(bits(5, 9, 11, 13, 14, 15, 17, 18, 19, 21, 22, 23), falseResult);
+        Assert.assertEquals(bits(6, 9, 11, 13, 14, 15, 17, 18, 20, 22, 23), trueOnFirstPosition);
+        Assert.assertEquals(bits(4, 9, 11, 13, 14, 16), negativeOnFirstPosition);
+    }
+
+    @Test
+    public void reportOfOtherTestCasesIsRejected() {
+        Assertions.assertThrows(RuntimeException.class, () -> new TestSuiteMinimizer(testCases.subList(1, testCases.size()), fullReport));
+    }
+
+    private static long bits(int... requirements) {
+        long bits = 0;
+        for(int requirement : requirements) {
+            bits |= 1L << requirement;
+        }
+        return bits;
+    }
+}
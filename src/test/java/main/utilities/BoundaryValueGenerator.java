@@ -0,0 +1,178 @@
+package main.utilities;
+
+import javafx.util.Pair;
+import main.FastMirror;
+import main.Problem;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Boundary value analysis derived from an InputConstraints model instead of written by hand.
+ *
+ * The boundaries of N are the ends of its range, their neighbours inside and outside it, and the middle of the range.
+ * The boundaries of the elements are the ends of their domain and their neighbours, together with the numbers around
+ * the point where the mirror stops fitting into an int, since solve() lets the mirror overflow.
+ *
+ * Every valid N is combined with every element boundary as the last element, and the mirror of the last element is put
+ * on the position 0, on the before-the-last position, or nowhere; for N = 2 the first two are the same position and
+ * give a single case. The invalid cases are the N outside the range, and for the smallest and the largest valid N a
+ * null array, arrays one element too short and too long, and negative elements on the first and the last position. The
+ * arrays are filled in bulk and only when the stream reaches their case, so the limits can be raised far above 100.
+ */
+public class BoundaryValueGenerator {
+
+    /**
+     * Neighbours around the overflow of the mirror: the mirrors of 1000000002 and 1463847412 (2000000001 and
+     * 2147483641) still fit into an int, the ones of 1000000003 and 1463847413 do not
+     */
+    static final int[] MIRROR_OVERFLOW_BOUNDARIES = {1000000002, 1000000003, 1463847412, 1463847413};
+
+    private static final int SOLUTION_ON_FIRST_POSITION = 0;
+    private static final int SOLUTION_ON_BEFORE_THE_LAST_POSITION = 1;
+    private static final int NO_SOLUTION = 2;
+
+    private static final int[] POSITIONS = {SOLUTION_ON_FIRST_POSITION, SOLUTION_ON_BEFORE_THE_LAST_POSITION, NO_SOLUTION};
+    /**
+     * With two elements the before-the-last position is the position 0, so it is not a case of its own
+     */
+    private static final int[] TWO_ELEMENT_POSITIONS = {SOLUTION_ON_FIRST_POSITION, NO_SOLUTION};
+
+    private static final int NULL_INPUT = 0;
+    private static final int SHORTER_INPUT = 1;
+    private static final int LONGER_INPUT = 2;
+    private static final int NEGATIVE_FIRST_ELEMENT = 3;
+    private static final int NEGATIVE_LAST_ELEMENT = 4;
+
+    private final InputConstraints constraints;
+    private final int[] validNumbersOfElements;
+    private final int[] invalidNumbersOfElements;
+    private final int[] elements;
+    private final int[] invalidInputNumbersOfElements;
+    private final int[] invalidInputs;
+
+    public BoundaryValueGenerator(InputConstraints constraints) {
+        this.constraints = constraints;
+        int minimum = constraints.getMinimumNumberOfElements();
+        int maximum = constraints.getMaximumNumberOfElements();
+
+        validNumbersOfElements = distinct(IntStream.of(minimum, minimum + 1, minimum + (maximum - minimum) / 2, maximum - 1, maximum)
+                .filter(constraints::isValidNumberOfElements));
+        invalidNumbersOfElements = distinct(IntStream.of(minimum - 1, maximum == Integer.MAX_VALUE ? minimum - 1 : maximum + 1));
+
+        int minimumElement = constraints.getMinimumElement();
+        int maximumElement = constraints.getMaximumElement();
+        elements = distinct(IntStream.concat(
+                IntStream.of(minimumElement, minimumElement + 1, maximumElement - 1, maximumElement),
+                IntStream.of(MIRROR_OVERFLOW_BOUNDARIES)).filter(constraints::isValidElement));
+
+        int[] extremes = distinct(IntStream.of(minimum, maximum));
+        int[] kinds = constraints.isLengthEqualToN()
+                ? new int[] {NULL_INPUT, SHORTER_INPUT, LONGER_INPUT, NEGATIVE_FIRST_ELEMENT, NEGATIVE_LAST_ELEMENT}
+                : new int[] {NULL_INPUT, NEGATIVE_FIRST_ELEMENT, NEGATIVE_LAST_ELEMENT};
+        invalidInputNumbersOfElements = new int[extremes.length * kinds.length];
+        invalidInputs = new int[extremes.length * kinds.length];
+        for(int extreme = 0; extreme < extremes.length; extreme ++) {
+            for(int kind = 0; kind < kinds.length; kind ++) {
+                invalidInputNumbersOfElements[extreme * kinds.length + kind] = extremes[extreme];
+                invalidInputs[extreme * kinds.length + kind] = kinds[kind];
+            }
+        }
+    }
+
+    public int[] getValidNumbersOfElements() {
+        return validNumbersOfElements.clone();
+    }
+
+    public int[] getInvalidNumbersOfElements() {
+        return invalidNumbersOfElements.clone();
+    }
+
+    public int[] getElements() {
+        return elements.clone();
+    }
+
+    public long getNumberOfCases() {
+        long validCases = 0;
+        for(int numberOfElements : validNumbersOfElements) {
+            validCases += (long) elements.length * getPositions(numberOfElements).length;
+        }
+        return validCases + invalidNumbersOfElements.length + invalidInputs.length;
+    }
+
+    public Stream<Pair<Problem, Result>> stream() {
+        return TestDataSpliterator.stream(this::getTestCase, getNumberOfCases());
+    }
+
+    Pair<Problem, Result> getTestCase(long index) {
+        for(int numberOfElements : validNumbersOfElements) {
+            int[] positions = getPositions(numberOfElements);
+            long validCases = (long) elements.length * positions.length;
+            if(index < validCases) {
+                return getValidTestCase(numberOfElements, elements[(int) (index / positions.length)],
+                        positions[(int) (index % positions.length)]);
+            }
+            index -= validCases;
+        }
+        if(index < invalidNumbersOfElements.length) {
+            int numberOfElements = invalidNumbersOfElements[(int) index];
+            int[] input = new int[Math.max(numberOfElements, 0)];
+            Arrays.fill(input, constraints.getMinimumElement());
+            return new Pair<>(new Problem(numberOfElements, input, "N = " + numberOfElements + " is outside the range"),
+                    Result.makeErrorResult(ErrorType.NUMBER_OF_ELEMENTS_OUTSIDE_BOUNDS, Result.NO_POSITION));
+        }
+        index -= invalidNumbersOfElements.length;
+        return getInvalidTestCase(invalidInputNumbersOfElements[(int) index], invalidInputs[(int) index]);
+    }
+
+    private static int[] getPositions(int numberOfElements) {
+        return numberOfElements == 2 ? TWO_ELEMENT_POSITIONS : POSITIONS;
+    }
+
+    private Pair<Problem, Result> getValidTestCase(int numberOfElements, int lastElement, int position) {
+        int lastElementMirror = FastMirror.getMirror(lastElement);
+        int filler = lastElementMirror == constraints.getMinimumElement() ? constraints.getMinimumElement() + 1 : constraints.getMinimumElement();
+        int[] input = new int[numberOfElements];
+        Arrays.fill(input, 0, numberOfElements - 1, filler);
+        input[numberOfElements - 1] = lastElement;
+
+        String description = "N = " + numberOfElements + ", last element " + lastElement;
+        // a mirror outside the domain, like an overflowing one, can not be put in the array
+        if(position == NO_SOLUTION || !constraints.isValidElement(lastElementMirror)) {
+            return new Pair<>(new Problem(numberOfElements, input, description + ", there is no solution"), Result.makeNormalResult(false));
+        }
+        int solution = position == SOLUTION_ON_FIRST_POSITION ? 0 : numberOfElements - 2;
+        input[solution] = lastElementMirror;
+        return new Pair<>(new Problem(numberOfElements, input, description + ", solution is on the position " + solution),
+                Result.makeNormalResult(true));
+    }
+
+    private Pair<Problem, Result> getInvalidTestCase(int numberOfElements, int kind) {
+        String description = "N = " + numberOfElements;
+        switch(kind) {
+            case NULL_INPUT:
+                return new Pair<>(new Problem(numberOfElements, null, description + ", null input data"),
+                        Result.makeErrorResult(ErrorType.NULL_INPUT, Result.NO_POSITION));
+            case SHORTER_INPUT:
+            case LONGER_INPUT: {
+                int[] input = new int[kind == SHORTER_INPUT ? numberOfElements - 1 : numberOfElements + 1];
+                Arrays.fill(input, constraints.getMinimumElement());
+                return new Pair<>(new Problem(numberOfElements, input, description + ", input data of length " + input.length),
+                        Result.makeErrorResult(ErrorType.LENGTH_DIFFERENT_THAN_N, Result.NO_POSITION));
+            }
+            default: {
+                int[] input = new int[numberOfElements];
+                Arrays.fill(input, constraints.getMinimumElement());
+                int position = kind == NEGATIVE_FIRST_ELEMENT ? 0 : numberOfElements - 1;
+                input[position] = kind == NEGATIVE_FIRST_ELEMENT ? -1 : Integer.MIN_VALUE;
+                return new Pair<>(new Problem(numberOfElements, input, description + ", negative element on the position " + position),
+                        Result.makeErrorResult(ErrorType.NEGATIVE_ELEMENT, position));
+            }
+        }
+    }
+
+    private static int[] distinct(IntStream values) {
+        return values.distinct().sorted().toArray();
+    }
+}
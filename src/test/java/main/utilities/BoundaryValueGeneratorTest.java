@@ -0,0 +1,93 @@
+package main.utilities;
+
+
+import javafx.util.Pair;
+import main.LargeProblem;
+import main.Problem;
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class BoundaryValueGeneratorTest {
+
+    @TestFactory
+    public Iterable<DynamicTest> problemBoundaryAnalysis() {
+        return new BoundaryValueGenerator(InputConstraints.PROBLEM).stream().map(pair -> {
+            Problem p = pair.getKey();
+            Result r = pair.getValue();
+            return DynamicTest.dynamicTest(p.toString(), () -> {
+                if(r.getResultType() == ResultType.EXCEPTION) {
+                    Exception exception = Assertions.assertThrows(RuntimeException.class, p::solve);
+                    Assert.assertEquals(r.getErrorMessage(), exception.getMessage());
+                } else {
+                    Assert.assertEquals(r.getValue(), p.solve());
+                }
+            });
+        }).collect(Collectors.toList());
+    }
+
+    @Test
+    public void boundariesAreDerivedFromTheConstraints() {
+        BoundaryValueGenerator generator = new BoundaryValueGenerator(InputConstraints.PROBLEM);
+
+        Assert.assertArrayEquals(new int[] {2, 3, 51, 99, 100}, generator.getValidNumbersOfElements());
+        Assert.assertArrayEquals(new int[] {1, 101}, generator.getInvalidNumbersOfElements());
+        Assert.assertArrayEquals(new int[] {0, 1, 1000000002, 1000000003, 1463847412, 1463847413, Integer.MAX_VALUE - 1,
+                Integer.MAX_VALUE}, generator.getElements());
+        Assert.assertEquals(124, generator.getNumberOfCases());
+        Assert.assertEquals(generator.getNumberOfCases(), generator.stream().count());
+    }
+
+    @Test
+    public void twoElementCasesAreNotRepeated() {
+        List<String> cases = new BoundaryValueGenerator(InputConstraints.PROBLEM).stream()
+                .filter(pair -> pair.getKey().getNumberOfElements() == 2 && pair.getValue().getResultType() == ResultType.VALUE
+                        && pair.getValue().getValue())
+                .map(pair -> pair.getKey().getNumberOfElements() + " " + Arrays.toString(pair.getKey().getInput()))
+                .collect(Collectors.toList());
+
+        // one case with the mirror on the position 0 for each of the 4 elements whose mirror is inside the domain
+        Assert.assertEquals(4, cases.size());
+        Assert.assertEquals(cases.size(), new HashSet<>(cases).size());
+    }
+
+    @Test
+    public void invalidModelsAreRejected() {
+        Assertions.assertThrows(RuntimeException.class, () -> new InputConstraints(1, 100, 0, Integer.MAX_VALUE, true));
+        Assertions.assertThrows(RuntimeException.class, () -> new InputConstraints(10, 5, 0, Integer.MAX_VALUE, true));
+        Assertions.assertThrows(RuntimeException.class, () -> new InputConstraints(2, 100, -1, 10, true));
+        Assertions.assertThrows(RuntimeException.class, () -> new InputConstraints(2, 100, 10, 10, true));
+    }
+
+    @Test
+    public void overflowingMirrorsGiveFalse() {
+        List<Pair<Problem, Result>> overflowing = new BoundaryValueGenerator(InputConstraints.PROBLEM).stream()
+                .filter(pair -> pair.getKey().getInput() != null && pair.getKey().getNumberOfElements() == pair.getKey().getInput().length)
+                .filter(pair -> pair.getKey().getInput()[pair.getKey().getNumberOfElements() - 1] == 1000000003)
+                .collect(Collectors.toList());
+
+        Assert.assertEquals(14, overflowing.size());
+        for(Pair<Problem, Result> pair : overflowing) {
+            Assert.assertFalse(pair.getValue().getValue());
+        }
+    }
+
+    @Test
+    public void raisedLimitsScale() {
+        InputConstraints constraints = new InputConstraints(2, 1000000, 0, Integer.MAX_VALUE, true);
+
+        long matching = new BoundaryValueGenerator(constraints).stream()
+                .filter(pair -> pair.getValue().getResultType() == ResultType.VALUE)
+                .filter(pair -> new LargeProblem(pair.getKey()).solve() == pair.getValue().getValue())
+                .count();
+
+        Assert.assertEquals((4 * 3 + 2) * 8, matching);
+    }
+}
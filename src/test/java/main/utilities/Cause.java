@@ -0,0 +1,88 @@
+package main.utilities;
+
+import main.FastMirror;
+import main.Problem;
+
+/**
+ * The causes of the cause-effect graph of Problem.solve(), see TestDataProvider.getCauseEffectGraphingTestData().
+ *
+ * A cause is a predicate on the input. C3, C4 and C5 need an array, they do not hold when the input is null, and C4
+ * and C5 only look at the first min(N, length) elements.
+ */
+public enum Cause {
+
+    C1("N is inside [2, 100]") {
+        @Override
+        public boolean holds(Problem problem) {
+            return isNumberOfElementsInBounds(problem.getNumberOfElements());
+        }
+    },
+    C2("inputArray is null") {
+        @Override
+        public boolean holds(Problem problem) {
+            return problem.getInput() == null;
+        }
+    },
+    C3("inputArray has the length equal to N") {
+        @Override
+        public boolean holds(Problem problem) {
+            return problem.getInput() != null && problem.getInput().length == problem.getNumberOfElements();
+        }
+    },
+    C4("inputArray has negative values") {
+        @Override
+        public boolean holds(Problem problem) {
+            int[] input = problem.getInput();
+            for(int i = 0; input != null && i < Math.min(input.length, problem.getNumberOfElements()); i ++) {
+                if(input[i] < 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    },
+    C5("There is an element equal to the reverse of the last number in the array") {
+        @Override
+        public boolean holds(Problem problem) {
+            int[] input = problem.getInput();
+            int length = input != null ? Math.min(input.length, problem.getNumberOfElements()) : 0;
+            if(length < 1) {
+                return false;
+            }
+            int lastElementMirror = FastMirror.getMirror(input[length - 1]);
+            for(int i = 0; i < length - 1; i ++) {
+                if(input[i] == lastElementMirror) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    };
+
+    private final String description;
+
+    Cause(String description) {
+        this.description = description;
+    }
+
+    public abstract boolean holds(Problem problem);
+
+    /**
+     * The bit of the cause inside a cause vector
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * The bounds C1 checks N against, the same as the ones of Problem.solve()
+     */
+    static boolean isNumberOfElementsInBounds(int numberOfElements) {
+        return numberOfElements >= 2 && numberOfElements <= Problem.MAXIMUM_NUMBER_OF_ELEMENTS;
+    }
+
+}
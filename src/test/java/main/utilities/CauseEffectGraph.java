@@ -0,0 +1,430 @@
+package main.utilities;
+
+import javafx.util.Pair;
+import main.FastMirror;
+import main.Problem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An executable cause-effect graph: every effect is a node built from the causes with not, and and or, and the mask
+ * constraints tell which causes can not hold, and do not matter, when another one does.
+ *
+ * A cause vector has the bit of every cause that holds (see Cause.bit()). The effect of every possible vector is worked
+ * out once, so classifying a vector is a lookup in an array of 32 entries. evaluate() finds the vector of an input in
+ * a single pass over the array, the same way Problem.solveFused() validates and searches together.
+ *
+ * The decision table is built from the vectors: the vectors of an effect are covered greedily by the largest cubes of
+ * vectors with that effect, the causes a column masks do not matter in it, and two columns which then differ in a
+ * single cause are merged. getTestData() gives one concrete input for every column, with the causes that do not matter
+ * left false.
+ */
+public final class CauseEffectGraph {
+
+    private static final int NUMBER_OF_VECTORS = 1 << Cause.values().length;
+
+    private final Map<Effect, Node> effects;
+    private final int[] masks = new int[Cause.values().length];
+    private final Effect[] effectOfVector = new Effect[NUMBER_OF_VECTORS];
+    private final List<Column> decisionTable = new ArrayList<>();
+
+    /**
+     * The masks map a cause to the causes which can not hold when it does
+     */
+    public CauseEffectGraph(Map<Effect, Node> effects, Map<Cause, Set<Cause>> masks) {
+        this.effects = Collections.unmodifiableMap(new EnumMap<>(effects));
+        for(Map.Entry<Cause, Set<Cause>> mask : masks.entrySet()) {
+            for(Cause masked : mask.getValue()) {
+                this.masks[mask.getKey().ordinal()] |= masked.bit();
+            }
+        }
+
+        for(int vector = 0; vector < NUMBER_OF_VECTORS; vector ++) {
+            if(!isPossible(vector)) {
+                continue;
+            }
+            for(Map.Entry<Effect, Node> effect : this.effects.entrySet()) {
+                if(effect.getValue().evaluate(vector)) {
+                    if(effectOfVector[vector] != null) {
+                        throw new RuntimeException("The causes " + describe(vector) + " have more than one effect.");
+                    }
+                    effectOfVector[vector] = effect.getKey();
+                }
+            }
+            if(effectOfVector[vector] == null) {
+                throw new RuntimeException("The causes " + describe(vector) + " have no effect.");
+            }
+        }
+
+        for(Effect effect : this.effects.keySet()) {
+            decisionTable.addAll(columnsOf(effect));
+        }
+    }
+
+    /**
+     * The graph of Problem.solve(), as drawn in src/main/resources/CauseEffectGraph.jpg
+     */
+    public static CauseEffectGraph ofProblem() {
+        Node validShape = Node.and(Node.cause(Cause.C1), Node.not(Node.cause(Cause.C2)), Node.cause(Cause.C3));
+
+        Map<Effect, Node> effects = new EnumMap<>(Effect.class);
+        effects.put(Effect.Ef1, Node.not(Node.cause(Cause.C1)));
+        effects.put(Effect.Ef2, Node.and(Node.cause(Cause.C1), Node.cause(Cause.C2)));
+        effects.put(Effect.Ef3, Node.and(Node.cause(Cause.C1), Node.not(Node.cause(Cause.C2)), Node.not(Node.cause(Cause.C3))));
+        effects.put(Effect.Ef4, Node.and(validShape, Node.cause(Cause.C4)));
+        effects.put(Effect.Ef5, Node.and(validShape, Node.not(Node.cause(Cause.C4)), Node.cause(Cause.C5)));
+        effects.put(Effect.Ef6, Node.and(validShape, Node.not(Node.cause(Cause.C4)), Node.not(Node.cause(Cause.C5))));
+
+        // a null array has no length, no negative values and no elements at all
+        Map<Cause, Set<Cause>> masks = new EnumMap<>(Cause.class);
+        masks.put(Cause.C2, EnumSet.of(Cause.C3, Cause.C4, Cause.C5));
+        return new CauseEffectGraph(effects, masks);
+    }
+
+    /**
+     * The cause vector of the input, equal to the bits of all the causes which hold for it
+     */
+    public int evaluate(Problem problem) {
+        int numberOfElements = problem.getNumberOfElements();
+        int[] input = problem.getInput();
+
+        int vector = Cause.isNumberOfElementsInBounds(numberOfElements) ? Cause.C1.bit() : 0;
+        if(input == null) {
+            return vector | Cause.C2.bit();
+        }
+        if(input.length == numberOfElements) {
+            vector |= Cause.C3.bit();
+        }
+
+        int length = Math.min(input.length, numberOfElements);
+        if(length < 1) {
+            return vector;
+        }
+        int lastElement = input[length - 1];
+        int lastElementMirror = FastMirror.getMirror(lastElement);
+        int signs = lastElement;
+        boolean found = false;
+        for(int i = 0; i < length - 1; i ++) {
+            int element = input[i];
+            signs |= element;
+            found |= element == lastElementMirror;
+        }
+        return vector | (signs < 0 ? Cause.C4.bit() : 0) | (found ? Cause.C5.bit() : 0);
+    }
+
+    /**
+     * The effect of a cause vector, or null for a vector the masks do not allow
+     */
+    public Effect getEffect(int vector) {
+        return effectOfVector[vector];
+    }
+
+    public Effect classify(Problem problem) {
+        return effectOfVector[evaluate(problem)];
+    }
+
+    public List<Column> getDecisionTable() {
+        return Collections.unmodifiableList(decisionTable);
+    }
+
+    /**
+     * One input for every column of the decision table, with the result of its effect
+     */
+    public List<Pair<Problem, Result>> getTestData() {
+        List<Pair<Problem, Result>> testData = new ArrayList<>();
+        for(Column column : decisionTable) {
+            Problem problem = makeProblem(column.whenTrue);
+            if(evaluate(problem) != column.whenTrue) {
+                throw new RuntimeException("No input was found for the causes " + describe(column.whenTrue) + ".");
+            }
+            testData.add(new Pair<>(problem, column.effect.getResult(0)));
+        }
+        return testData;
+    }
+
+    public Map<Effect, Node> getEffects() {
+        return effects;
+    }
+
+    public boolean isPossible(int vector) {
+        for(Cause cause : Cause.values()) {
+            if((vector & cause.bit()) != 0 && (vector & masks[cause.ordinal()]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The causes on the rows and the columns of the decision table, with T, F or - where the cause does not matter
+     */
+    @Override
+    public String toString() {
+        StringBuilder table = new StringBuilder();
+        for(Cause cause : Cause.values()) {
+            table.append(cause.name());
+            for(Column column : decisionTable) {
+                table.append(' ').append((column.whenTrue & cause.bit()) != 0 ? 'T' : (column.whenFalse & cause.bit()) != 0 ? 'F' : '-');
+            }
+            table.append(System.lineSeparator());
+        }
+        table.append("  ");
+        for(Column column : decisionTable) {
+            table.append(' ').append(column.effect.name().substring(2));
+        }
+        return table.append(System.lineSeparator()).toString();
+    }
+
+    /**
+     * N = 4 inside the bounds or 1 outside them, the elements 10, 11, ... with 38 as the last one, 83 before it for
+     * C5, a longer array when C3 does not hold and -1 on the position 0 for C4
+     */
+    private static Problem makeProblem(int vector) {
+        int numberOfElements = (vector & Cause.C1.bit()) != 0 ? 4 : 1;
+        if((vector & Cause.C2.bit()) != 0) {
+            return new Problem(numberOfElements, null, "Causes " + describe(vector));
+        }
+        int[] input = new int[(vector & Cause.C3.bit()) != 0 ? numberOfElements : numberOfElements + 2];
+        for(int i = 0; i < input.length; i ++) {
+            input[i] = 10 + i;
+        }
+        int length = Math.min(input.length, numberOfElements);
+        input[length - 1] = 38;
+        if((vector & Cause.C5.bit()) != 0 && length >= 2) {
+            input[length - 2] = 83;
+        }
+        if((vector & Cause.C4.bit()) != 0) {
+            input[0] = -1;
+        }
+        return new Problem(numberOfElements, input, "Causes " + describe(vector));
+    }
+
+    /**
+     * The columns of the effect: the largest cubes of vectors which all have the effect, taken greedily by how many
+     * vectors left they cover, with the masked causes as dashes, and merged when they differ in a single cause
+     */
+    private List<Column> columnsOf(Effect effect) {
+        boolean[] wanted = new boolean[NUMBER_OF_VECTORS];
+        for(int vector = 0; vector < NUMBER_OF_VECTORS; vector ++) {
+            wanted[vector] = effectOfVector[vector] == effect;
+        }
+
+        // a cube is the value bits and the bits of the causes that matter, the others can take any value
+        List<int[]> cubes = new ArrayList<>();
+        int all = NUMBER_OF_VECTORS - 1;
+        for(int dashes = 0; dashes < NUMBER_OF_VECTORS; dashes ++) {
+            for(int values = 0; values < NUMBER_OF_VECTORS; values ++) {
+                if((values & dashes) == 0 && isInside(values, dashes, wanted)) {
+                    cubes.add(new int[] {values, all & ~dashes});
+                }
+            }
+        }
+
+        List<int[]> columns = new ArrayList<>();
+        boolean[] covered = new boolean[NUMBER_OF_VECTORS];
+        while(true) {
+            int[] best = null;
+            int bestCount = 0;
+            for(int[] cube : cubes) {
+                int count = 0;
+                for(int vector = 0; vector < NUMBER_OF_VECTORS; vector ++) {
+                    if((vector & cube[1]) == cube[0] && !covered[vector]) {
+                        count ++;
+                    }
+                }
+                if(count > bestCount) {
+                    best = cube;
+                    bestCount = count;
+                }
+            }
+            if(best == null) {
+                break;
+            }
+            for(int vector = 0; vector < NUMBER_OF_VECTORS; vector ++) {
+                if((vector & best[1]) == best[0]) {
+                    covered[vector] = true;
+                }
+            }
+            int matter = best[1];
+            for(Cause cause : Cause.values()) {
+                if((best[0] & cause.bit()) != 0) {
+                    matter &= ~masks[cause.ordinal()];
+                }
+            }
+            columns.add(new int[] {best[0] & matter, matter});
+        }
+
+        for(boolean merged = true; merged; ) {
+            merged = false;
+            for(int first = 0; first < columns.size() && !merged; first ++) {
+                for(int second = first + 1; second < columns.size() && !merged; second ++) {
+                    int[] one = columns.get(first);
+                    int[] other = columns.get(second);
+                    if(one[1] == other[1] && Integer.bitCount(one[0] ^ other[0]) == 1) {
+                        int difference = one[0] ^ other[0];
+                        columns.set(first, new int[] {one[0] & ~difference, one[1] & ~difference});
+                        columns.remove(second);
+                        merged = true;
+                    }
+                }
+            }
+        }
+
+        List<Column> effectColumns = new ArrayList<>();
+        for(int[] column : columns) {
+            effectColumns.add(new Column(effect, column[0], column[1] & ~column[0]));
+        }
+        return effectColumns;
+    }
+
+    private static boolean isInside(int values, int dashes, boolean[] wanted) {
+        for(int vector = 0; vector < NUMBER_OF_VECTORS; vector ++) {
+            if((vector & ~dashes) == values && !wanted[vector]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String describe(int vector) {
+        List<String> causes = new ArrayList<>();
+        for(Cause cause : Cause.values()) {
+            causes.add(cause.name() + ((vector & cause.bit()) != 0 ? " true" : " false"));
+        }
+        return String.join(", ", causes);
+    }
+
+    /**
+     * A column of the decision table: the causes which have to hold, the ones which must not, and the effect
+     */
+    public static final class Column {
+
+        private final Effect effect;
+        private final int whenTrue;
+        private final int whenFalse;
+
+        Column(Effect effect, int whenTrue, int whenFalse) {
+            this.effect = effect;
+            this.whenTrue = whenTrue;
+            this.whenFalse = whenFalse;
+        }
+
+        public Effect getEffect() {
+            return effect;
+        }
+
+        /**
+         * True or false when the cause matters for the column, null when it does not
+         */
+        public Boolean getValue(Cause cause) {
+            return (whenTrue & cause.bit()) != 0 ? Boolean.TRUE : (whenFalse & cause.bit()) != 0 ? Boolean.FALSE : null;
+        }
+
+        public boolean matches(int vector) {
+            return (vector & (whenTrue | whenFalse)) == whenTrue;
+        }
+
+        @Override
+        public String toString() {
+            List<String> causes = new ArrayList<>();
+            for(Cause cause : Cause.values()) {
+                Boolean value = getValue(cause);
+                if(value != null) {
+                    causes.add(value ? cause.name() : "not " + cause.name());
+                }
+            }
+            return String.join(", ", causes) + " -> " + effect;
+        }
+    }
+
+    /**
+     * A node of the graph: a cause, or not, and, or of other nodes
+     */
+    public static final class Node {
+
+        private final Operator operator;
+        private final Cause cause;
+        private final Node[] children;
+
+        private Node(Operator operator, Cause cause, Node[] children) {
+            this.operator = operator;
+            this.cause = cause;
+            this.children = children;
+        }
+
+        public static Node cause(Cause cause) {
+            return new Node(null, cause, new Node[0]);
+        }
+
+        public static Node not(Node child) {
+            return new Node(Operator.NOT, null, new Node[] {child});
+        }
+
+        public static Node and(Node... children) {
+            return new Node(Operator.AND, null, children.clone());
+        }
+
+        public static Node or(Node... children) {
+            return new Node(Operator.OR, null, children.clone());
+        }
+
+        public boolean evaluate(int vector) {
+            if(cause != null) {
+                return (vector & cause.bit()) != 0;
+            }
+            return operator.evaluate(children, vector);
+        }
+
+        @Override
+        public String toString() {
+            if(cause != null) {
+                return cause.name();
+            }
+            List<String> operands = new ArrayList<>();
+            for(Node child : children) {
+                operands.add(child.toString());
+            }
+            return operator.name().toLowerCase() + "(" + String.join(", ", operands) + ")";
+        }
+
+        private enum Operator {
+
+            NOT {
+                @Override
+                boolean evaluate(Node[] children, int vector) {
+                    return !children[0].evaluate(vector);
+                }
+            },
+            AND {
+                @Override
+                boolean evaluate(Node[] children, int vector) {
+                    for(Node child : children) {
+                        if(!child.evaluate(vector)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }
+            },
+            OR {
+                @Override
+                boolean evaluate(Node[] children, int vector) {
+                    for(Node child : children) {
+                        if(child.evaluate(vector)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                }
+            };
+
+            abstract boolean evaluate(Node[] children, int vector);
+        }
+    }
+}
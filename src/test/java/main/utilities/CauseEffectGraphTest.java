@@ -0,0 +1,103 @@
+package main.utilities;
+
+
+import javafx.util.Pair;
+import main.Problem;
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class CauseEffectGraphTest {
+
+    private static CauseEffectGraph graph;
+
+    @BeforeAll
+    public static void initializeUtilities() {
+        graph = CauseEffectGraph.ofProblem();
+    }
+
+    /**
+     * The same table as src/main/resources/TableFromCauseEffectGraph.jpg
+     */
+    @Test
+    public void decisionTableIsBuiltFromTheGraph() {
+        String expected = String.join(System.lineSeparator(),
+                "C1 F T T T T T",
+                "C2 - T F F F F",
+                "C3 - - F T T T",
+                "C4 - - - T F F",
+                "C5 - - - - T F",
+                "   1 2 3 4 5 6") + System.lineSeparator();
+
+        Assert.assertEquals(expected, graph.toString());
+    }
+
+    @Test
+    public void inputsOfTheColumnsHaveTheirEffects() {
+        List<Pair<Problem, Result>> testData = graph.getTestData();
+
+        Assert.assertEquals(graph.getDecisionTable().size(), testData.size());
+        for(Pair<Problem, Result> pair : testData) {
+            Result result = pair.getKey().solveToResult();
+            Assert.assertEquals(pair.getValue().getResultType(), result.getResultType());
+            Assert.assertEquals(pair.getValue().getValue(), result.getValue());
+            Assert.assertEquals(pair.getValue().getErrorMessage(), result.getErrorMessage());
+        }
+    }
+
+    @Test
+    public void handWrittenCasesHaveTheirEffects() {
+        List<Pair<Problem, Result>> testData = new TestDataProvider().getCauseEffectGraphingTestData();
+
+        for(int testCase = 0; testCase < testData.size(); testCase ++) {
+            Assert.assertEquals(Effect.values()[testCase], graph.classify(testData.get(testCase).getKey()));
+        }
+    }
+
+    @Test
+    public void vectorsAreTheCausesWhichHold() {
+        PartitionGenerator generator = new PartitionGenerator(5);
+        for(EquivalencePartition partition : EquivalencePartition.values()) {
+            for(int i = 0; i < 10000; i ++) {
+                GeneratedProblem problem = generator.next(partition);
+                int vector = 0;
+                for(Cause cause : Cause.values()) {
+                    vector |= cause.holds(problem) ? cause.bit() : 0;
+                }
+                Assert.assertEquals(vector, graph.evaluate(problem));
+            }
+        }
+    }
+
+    @Test
+    public void generatedCorpusIsClassifiedLikeItsExpectedResults() {
+        PartitionGenerator generator = new PartitionGenerator(6);
+        for(EquivalencePartition partition : EquivalencePartition.values()) {
+            for(int i = 0; i < 100000; i ++) {
+                GeneratedProblem problem = generator.next(partition);
+                Assert.assertTrue(graph.classify(problem).matches(problem.getExpected()));
+            }
+        }
+    }
+
+    @Test
+    public void maskedVectorsAreImpossible() {
+        Assert.assertFalse(graph.isPossible(Cause.C1.bit() | Cause.C2.bit() | Cause.C3.bit()));
+        Assert.assertNull(graph.getEffect(Cause.C2.bit() | Cause.C4.bit()));
+        Assert.assertEquals(Effect.Ef2, graph.getEffect(Cause.C1.bit() | Cause.C2.bit()));
+    }
+
+    @Test
+    public void overlappingEffectsAreRejected() {
+        Map<Effect, CauseEffectGraph.Node> effects = new EnumMap<>(Effect.class);
+        effects.put(Effect.Ef1, CauseEffectGraph.Node.not(CauseEffectGraph.Node.cause(Cause.C1)));
+        effects.put(Effect.Ef2, CauseEffectGraph.Node.cause(Cause.C2));
+
+        Assertions.assertThrows(RuntimeException.class, () -> new CauseEffectGraph(effects, new EnumMap<>(Cause.class)));
+    }
+}
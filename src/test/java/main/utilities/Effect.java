@@ -0,0 +1,53 @@
+package main.utilities;
+
+/**
+ * The effects of the cause-effect graph of Problem.solve(), one for every kind of Result
+ */
+public enum Effect {
+
+    Ef1(ErrorType.NUMBER_OF_ELEMENTS_OUTSIDE_BOUNDS),
+    Ef2(ErrorType.NULL_INPUT),
+    Ef3(ErrorType.LENGTH_DIFFERENT_THAN_N),
+    Ef4(ErrorType.NEGATIVE_ELEMENT),
+    Ef5(true),
+    Ef6(false);
+
+    private final ErrorType errorType;
+    private final boolean value;
+
+    Effect(ErrorType errorType) {
+        this.errorType = errorType;
+        this.value = false;
+    }
+
+    Effect(boolean value) {
+        this.errorType = null;
+        this.value = value;
+    }
+
+    /**
+     * The result of the effect, the position is only used by Ef4
+     */
+    public Result getResult(int negativePosition) {
+        return errorType != null ? Result.makeErrorResult(errorType, errorType == ErrorType.NEGATIVE_ELEMENT ? negativePosition : Result.NO_POSITION)
+                : Result.makeNormalResult(value);
+    }
+
+    /**
+     * Whether the result is of this kind, whatever the position of a negative element
+     */
+    public boolean matches(Result result) {
+        if(errorType == null) {
+            return result.getResultType() == ResultType.VALUE && result.getValue() == value;
+        }
+        if(result.getResultType() != ResultType.EXCEPTION) {
+            return false;
+        }
+        if(result.getErrorType() != null) {
+            return result.getErrorType() == errorType;
+        }
+        return errorType == ErrorType.NEGATIVE_ELEMENT ? result.getErrorMessage().endsWith(" is not a natural number.")
+                : result.getErrorMessage().equals(errorType.getMessage(Result.NO_POSITION));
+    }
+
+}
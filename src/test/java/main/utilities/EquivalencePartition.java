@@ -0,0 +1,26 @@
+package main.utilities;
+
+/**
+ * The 7 equivalence partitions of the input of Problem.solve(), see TestDataProvider.getEquivalencePartitioningTestData()
+ */
+public enum EquivalencePartition {
+
+    N_BELOW_BOUNDS("N < 2"),
+    N_ABOVE_BOUNDS("N > 100"),
+    NULL_INPUT("N inside [2, 100] and null input data"),
+    LENGTH_DIFFERENT_THAN_N("N inside [2, 100] and input data of invalid length"),
+    NEGATIVE_ELEMENT("N inside [2, 100] and input data with negative values"),
+    RESULT_FALSE("N inside [2, 100] and the result is false"),
+    RESULT_TRUE("N inside [2, 100] and the result is true");
+
+    private final String description;
+
+    EquivalencePartition(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+}
@@ -0,0 +1,34 @@
+package main.utilities;
+
+import main.Problem;
+
+/**
+ * A Problem which a PartitionGenerator fills again for every case, together with the result expected for it, so that
+ * generating a case allocates nothing. It is only valid until the next case is generated, see copy().
+ */
+public final class GeneratedProblem extends Problem {
+
+    private Result expected;
+
+    GeneratedProblem() {
+        super(0, null, "");
+    }
+
+    void set(int numberOfElements, int[] input, String problemDescription, Result expected) {
+        this.numberOfElements = numberOfElements;
+        this.input = input;
+        this.problemDescription = problemDescription;
+        this.expected = expected;
+    }
+
+    public Result getExpected() {
+        return expected;
+    }
+
+    /**
+     * A Problem with its own copy of the input, which stays valid after the next case is generated
+     */
+    public Problem copy() {
+        return new Problem(numberOfElements, input != null ? input.clone() : null, problemDescription);
+    }
+}
@@ -0,0 +1,63 @@
+package main.utilities;
+
+/**
+ * A declarative model of the input of Problem.solve(): the range of N, the domain of the elements and whether the
+ * length of the array has to be N. BoundaryValueGenerator derives the test data from it, so raising a limit only
+ * means changing the model.
+ */
+public final class InputConstraints {
+
+    /**
+     * The contract of Problem.solve()
+     */
+    public static final InputConstraints PROBLEM = new InputConstraints(2, 100, 0, Integer.MAX_VALUE, true);
+
+    private final int minimumNumberOfElements;
+    private final int maximumNumberOfElements;
+    private final int minimumElement;
+    private final int maximumElement;
+    private final boolean lengthEqualToN;
+
+    public InputConstraints(int minimumNumberOfElements, int maximumNumberOfElements, int minimumElement, int maximumElement,
+                            boolean lengthEqualToN) {
+        if(minimumNumberOfElements < 2 || minimumNumberOfElements > maximumNumberOfElements) {
+            throw new RuntimeException("The range of N is empty or below 2.");
+        }
+        if(minimumElement < 0 || minimumElement >= maximumElement) {
+            throw new RuntimeException("The domain of the elements is not a range of natural numbers.");
+        }
+        this.minimumNumberOfElements = minimumNumberOfElements;
+        this.maximumNumberOfElements = maximumNumberOfElements;
+        this.minimumElement = minimumElement;
+        this.maximumElement = maximumElement;
+        this.lengthEqualToN = lengthEqualToN;
+    }
+
+    public boolean isValidNumberOfElements(int numberOfElements) {
+        return numberOfElements >= minimumNumberOfElements && numberOfElements <= maximumNumberOfElements;
+    }
+
+    public boolean isValidElement(int element) {
+        return element >= minimumElement && element <= maximumElement;
+    }
+
+    public int getMinimumNumberOfElements() {
+        return minimumNumberOfElements;
+    }
+
+    public int getMaximumNumberOfElements() {
+        return maximumNumberOfElements;
+    }
+
+    public int getMinimumElement() {
+        return minimumElement;
+    }
+
+    public int getMaximumElement() {
+        return maximumElement;
+    }
+
+    public boolean isLengthEqualToN() {
+        return lengthEqualToN;
+    }
+}
@@ -0,0 +1,165 @@
+package main.utilities;
+
+import javafx.util.Pair;
+import main.FastMirror;
+import main.Problem;
+
+import java.util.stream.Stream;
+
+/**
+ * Generates random inputs of a chosen equivalence partition together with their expected results, which follow from
+ * the partition and not from running solve().
+ *
+ * Case number index of a generator depends only on its seed and on the index, so the cases can be generated in any
+ * order and in parallel and still be the same, see stream(). The random numbers come from SplitMix64, seeded with the
+ * seed and the index, without any allocation. A case is written into a GeneratedProblem and an array for every length
+ * which the generator reuses, so it is only valid until the next case.
+ *
+ * The elements are natural numbers up to Integer.MAX_VALUE, so many mirrors overflow, the same way solve() computes
+ * them. Outside [2, 100], N goes up to MAXIMUM_NUMBER_OF_ELEMENTS and down to -MAXIMUM_NUMBER_OF_ELEMENTS.
+ */
+public final class PartitionGenerator {
+
+    public static final int MAXIMUM_NUMBER_OF_ELEMENTS = 100000;
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final int MAXIMUM_LENGTH = 200;
+
+    private final long seed;
+    private long splits;
+    private long nextIndex;
+    private long state;
+    private final GeneratedProblem problem = new GeneratedProblem();
+    private final int[][] buffers = new int[MAXIMUM_LENGTH + 1][];
+
+    public PartitionGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * A generator with another seed, taken from this one: the n-th split of a seed has always the same seed
+     */
+    public PartitionGenerator split() {
+        return new PartitionGenerator(mix(seed ^ mix(++ splits * GOLDEN_GAMMA)));
+    }
+
+    /**
+     * The case after the last one generated by next(), starting from case number 0
+     */
+    public GeneratedProblem next(EquivalencePartition partition) {
+        return generate(partition, nextIndex ++);
+    }
+
+    public GeneratedProblem generate(EquivalencePartition partition, long index) {
+        state = mix(seed + index * GOLDEN_GAMMA);
+
+        switch(partition) {
+            case N_BELOW_BOUNDS:
+                return set(nextInt(-MAXIMUM_NUMBER_OF_ELEMENTS, 2), randomInput(nextInt(0, 5)), partition,
+                        Result.makeErrorResult(ErrorType.NUMBER_OF_ELEMENTS_OUTSIDE_BOUNDS, Result.NO_POSITION));
+            case N_ABOVE_BOUNDS:
+                return set(nextInt(101, MAXIMUM_NUMBER_OF_ELEMENTS + 1), randomInput(nextInt(0, 5)), partition,
+                        Result.makeErrorResult(ErrorType.NUMBER_OF_ELEMENTS_OUTSIDE_BOUNDS, Result.NO_POSITION));
+            case NULL_INPUT:
+                return set(nextInt(2, 101), null, partition, Result.makeErrorResult(ErrorType.NULL_INPUT, Result.NO_POSITION));
+            case LENGTH_DIFFERENT_THAN_N: {
+                int numberOfElements = nextInt(2, 101);
+                // any length but N, up to twice N
+                int length = nextInt(0, 2 * numberOfElements);
+                if(length >= numberOfElements) {
+                    length ++;
+                }
+                return set(numberOfElements, randomInput(length), partition,
+                        Result.makeErrorResult(ErrorType.LENGTH_DIFFERENT_THAN_N, Result.NO_POSITION));
+            }
+            case NEGATIVE_ELEMENT: {
+                int numberOfElements = nextInt(2, 101);
+                int[] input = randomInput(numberOfElements);
+                int position = nextInt(0, numberOfElements);
+                input[position] = -1 - nextNatural();
+                // the elements after the first negative one may be negative too
+                for(int i = position + 1; i < numberOfElements; i ++) {
+                    if(nextInt(0, 4) == 0) {
+                        input[i] = -1 - input[i];
+                    }
+                }
+                return set(numberOfElements, input, partition, Result.makeErrorResult(ErrorType.NEGATIVE_ELEMENT, position));
+            }
+            case RESULT_FALSE: {
+                int numberOfElements = nextInt(2, 101);
+                int[] input = randomInput(numberOfElements);
+                int lastElementMirror = FastMirror.getMirror(input[numberOfElements - 1]);
+                for(int i = 0; i < numberOfElements - 1; i ++) {
+                    if(input[i] == lastElementMirror) {
+                        input[i] = lastElementMirror == Integer.MAX_VALUE ? 0 : lastElementMirror + 1;
+                    }
+                }
+                return set(numberOfElements, input, partition, Result.makeNormalResult(false));
+            }
+            default: {
+                int numberOfElements = nextInt(2, 101);
+                int[] input = randomInput(numberOfElements);
+                int lastElementMirror = FastMirror.getMirror(input[numberOfElements - 1]);
+                // an overflowing mirror can be negative, which no element can be equal to
+                while(lastElementMirror < 0) {
+                    input[numberOfElements - 1] = nextNatural();
+                    lastElementMirror = FastMirror.getMirror(input[numberOfElements - 1]);
+                }
+                input[nextInt(0, numberOfElements - 1)] = lastElementMirror;
+                return set(numberOfElements, input, partition, Result.makeNormalResult(true));
+            }
+        }
+    }
+
+    /**
+     * The first numberOfCases cases of the partition, each with its own input array. The stream can be parallel and
+     * still holds the same cases in the same order.
+     */
+    public Stream<Pair<Problem, Result>> stream(EquivalencePartition partition, long numberOfCases) {
+        ThreadLocal<PartitionGenerator> generators = ThreadLocal.withInitial(() -> new PartitionGenerator(seed));
+        return TestDataSpliterator.stream(index -> {
+            GeneratedProblem generated = generators.get().generate(partition, index);
+            return new Pair<>(generated.copy(), generated.getExpected());
+        }, numberOfCases);
+    }
+
+    private GeneratedProblem set(int numberOfElements, int[] input, EquivalencePartition partition, Result expected) {
+        problem.set(numberOfElements, input, partition.getDescription(), expected);
+        return problem;
+    }
+
+    /**
+     * The reused array of the length, filled with random natural numbers
+     */
+    private int[] randomInput(int length) {
+        int[] input = buffers[length];
+        if(input == null) {
+            input = buffers[length] = new int[length];
+        }
+        for(int i = 0; i < length; i ++) {
+            input[i] = nextNatural();
+        }
+        return input;
+    }
+
+    private int nextNatural() {
+        return (int) (nextLong() >>> 33);
+    }
+
+    /**
+     * A number in [origin, bound), by the multiply and shift of the high 32 bits
+     */
+    private int nextInt(int origin, int bound) {
+        return origin + (int) (((nextLong() >>> 32) * (bound - origin)) >>> 32);
+    }
+
+    private long nextLong() {
+        return mix(state += GOLDEN_GAMMA);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
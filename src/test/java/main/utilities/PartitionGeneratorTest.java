@@ -0,0 +1,100 @@
+package main.utilities;
+
+
+import javafx.util.Pair;
+import main.Problem;
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class PartitionGeneratorTest {
+
+    /**
+     * The expected results come from the partitions, solve() has to agree with them
+     */
+    @TestFactory
+    public Iterable<DynamicTest> expectedResultsMatchSolve() {
+        List<DynamicTest> tests = new ArrayList<>();
+        for(EquivalencePartition partition : EquivalencePartition.values()) {
+            tests.add(DynamicTest.dynamicTest(partition.getDescription(), () -> {
+                PartitionGenerator generator = new PartitionGenerator(partition.ordinal());
+                for(int i = 0; i < 100000; i ++) {
+                    GeneratedProblem problem = generator.next(partition);
+                    Result expected = problem.getExpected();
+                    if(expected.getResultType() == ResultType.EXCEPTION) {
+                        Exception exception = Assertions.assertThrows(RuntimeException.class, problem::solve);
+                        Assert.assertEquals(expected.getErrorMessage(), exception.getMessage());
+                    } else {
+                        Assert.assertEquals(expected.getValue(), problem.solve());
+                    }
+                }
+            }));
+        }
+        return tests;
+    }
+
+    @Test
+    public void sameSeedAndIndexGiveTheSameCase() {
+        PartitionGenerator generator = new PartitionGenerator(42);
+        for(int i = 0; i < 1000; i ++) {
+            generator.next(EquivalencePartition.RESULT_TRUE);
+        }
+        Problem thousandth = generator.next(EquivalencePartition.RESULT_TRUE).copy();
+
+        Problem generated = new PartitionGenerator(42).generate(EquivalencePartition.RESULT_TRUE, 1000);
+
+        Assert.assertEquals(thousandth.getNumberOfElements(), generated.getNumberOfElements());
+        Assert.assertArrayEquals(thousandth.getInput(), generated.getInput());
+    }
+
+    @Test
+    public void parallelStreamIsReproducible() {
+        PartitionGenerator generator = new PartitionGenerator(7);
+
+        List<String> sequential = describe(generator.stream(EquivalencePartition.NEGATIVE_ELEMENT, 20000).collect(Collectors.toList()));
+        List<String> parallel = describe(generator.stream(EquivalencePartition.NEGATIVE_ELEMENT, 20000).parallel().collect(Collectors.toList()));
+
+        Assert.assertEquals(sequential, parallel);
+    }
+
+    @Test
+    public void splitsAreReproducibleAndIndependent() {
+        PartitionGenerator first = new PartitionGenerator(3).split();
+        PartitionGenerator again = new PartitionGenerator(3).split();
+        PartitionGenerator second = new PartitionGenerator(3);
+        second.split();
+        second = second.split();
+
+        int[] firstInput = first.generate(EquivalencePartition.RESULT_FALSE, 0).getInput().clone();
+        Assert.assertArrayEquals(firstInput, again.generate(EquivalencePartition.RESULT_FALSE, 0).getInput());
+        Assert.assertFalse(Arrays.equals(firstInput, second.generate(EquivalencePartition.RESULT_FALSE, 0).getInput()));
+    }
+
+    @Test
+    public void casesReuseTheProblemAndTheArrays() {
+        PartitionGenerator generator = new PartitionGenerator(11);
+        GeneratedProblem problem = generator.generate(EquivalencePartition.RESULT_FALSE, 0);
+        int[] input = problem.getInput();
+
+        for(long index = 1; index < 10000; index ++) {
+            GeneratedProblem next = generator.generate(EquivalencePartition.RESULT_FALSE, index);
+            Assert.assertSame(problem, next);
+            if(next.getNumberOfElements() == input.length) {
+                Assert.assertSame(input, next.getInput());
+            }
+        }
+    }
+
+    private static List<String> describe(List<Pair<Problem, Result>> testData) {
+        return testData.stream()
+                .map(pair -> pair.getKey().getNumberOfElements() + Arrays.toString(pair.getKey().getInput()) + pair.getValue().getErrorMessage())
+                .collect(Collectors.toList());
+    }
+}
@@ -2,9 +2,15 @@ package main.utilities;
 
 import javafx.util.Pair;
 import main.Problem;
+import main.mutation.TestCase;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Class purpose is to provide test data for the main test class: ProblemTest
@@ -13,9 +19,15 @@ import java.util.List;
  * a) equivalence partitioning
  * b) boundary value analysis
  * c) cause-effect graphing
+ *
+ * Besides the lists, the test data can be streamed lazily, see streamTestData() and streamValidTestData().
  */
 public class TestDataProvider {
 
+    private static final String VALID_SOLUTION_ON_FIRST_POSITION = "Generated: solution is on the position 0";
+    private static final String VALID_SOLUTION_ON_BEFORE_THE_LAST_POSITION = "Generated: solution is on the before-the-last position";
+    private static final String VALID_NO_SOLUTION = "Generated: there is no solution";
+
     public TestDataProvider() {}
 
     /**
@@ -40,47 +52,62 @@ public class TestDataProvider {
      *
      */
     public List<Pair<Problem, Result>> getEquivalencePartitioningTestData() {
+        return listOf(Suite.EQUIVALENCE_PARTITIONING);
+    }
 
-        List<Pair<Problem, Result>> testData = new ArrayList<Pair<Problem, Result>>();
-
-        // 1. n < 2
-        Problem problem1 = new Problem(0, new int[] {1, 2, 3, 4}, "N < 2");
-        Result result1 = Result.makeErrorResult("The number of elements is outside the interval [2, 100].");
-        testData.add(new Pair<Problem, Result>(problem1, result1));
-
-        // 2. n > 100
-        Problem problem2 = new Problem(123, new int[] {1, 2, 3, 4}, "N > 100");
-        Result result2 = Result.makeErrorResult("The number of elements is outside the interval [2, 100].");
-        testData.add(new Pair<Problem, Result>(problem2, result2));
-
-        // 3. n inside [2, 100], inputData is null
-        Problem problem3 = new Problem(10, null, "N inside [2, 100] and null input data");
-        Result result3 = Result.makeErrorResult("Input array is null.");
-        testData.add(new Pair<Problem, Result>(problem3, result3));
-
-        // 4. n inside [2, 100], inputData length is different than n
-        Problem problem4 = new Problem(3, new int[] {1, 2, 3, 4, 5, 6}, "N inside [2, 100] and input data of invalid length");
-        Result result4 = Result.makeErrorResult("Input array length is different than the N given.");
-        testData.add(new Pair<Problem, Result>(problem4, result4));
-
-        // 5. n inside [2, 100], inputData has length n but has negative values
-        Problem problem5 = new Problem(6, new int[] {1, 2, -3, 4, -5, 6}, "N inside [2, 100] and input data with negative values");
-        Result result5 = Result.makeErrorResult("The element on position 2 is not a natural number.");
-        testData.add(new Pair<Problem, Result>(problem5, result5));
-
-        // 6. n inside [2, 100], inputData has length n, positive values, but the reverse of the last number is not
-        //    equal to any other element inside the array
-        Problem problem6 = new Problem(6, new int[] {10, 20, 30, 40, 50, 60}, "N inside [2, 100] and the result is false");
-        Result result6 = Result.makeNormalResult(false);
-        testData.add(new Pair<Problem, Result>(problem6, result6));
-
-        // 7. n inside [2, 100], inputData has length n, positive values, and the reverse of the last number is equal
-        //    to at least one other number inside the array
-        Problem problem7 = new Problem(6, new int[] {10, 11, 12, 13, 14, 31}, "N inside [2, 100] and the result is true");
-        Result result7 = Result.makeNormalResult(true);
-        testData.add(new Pair<Problem, Result>(problem7, result7));
-
-        return testData;
+    static List<Supplier<Pair<Problem, Result>>> getEquivalencePartitioningCases() {
+        List<Supplier<Pair<Problem, Result>>> cases = new ArrayList<>();
+        cases.add(() -> {
+            // 1. n < 2
+            Problem problem1 = new Problem(0, new int[] {1, 2, 3, 4}, "N < 2");
+            Result result1 = Result.makeErrorResult("The number of elements is outside the interval [2, 100].");
+            return new Pair<>(problem1, result1);
+        });
+
+        cases.add(() -> {
+            // 2. n > 100
+            Problem problem2 = new Problem(123, new int[] {1, 2, 3, 4}, "N > 100");
+            Result result2 = Result.makeErrorResult("The number of elements is outside the interval [2, 100].");
+            return new Pair<>(problem2, result2);
+        });
+
+        cases.add(() -> {
+            // 3. n inside [2, 100], inputData is null
+            Problem problem3 = new Problem(10, null, "N inside [2, 100] and null input data");
+            Result result3 = Result.makeErrorResult("Input array is null.");
+            return new Pair<>(problem3, result3);
+        });
+
+        cases.add(() -> {
+            // 4. n inside [2, 100], inputData length is different than n
+            Problem problem4 = new Problem(3, new int[] {1, 2, 3, 4, 5, 6}, "N inside [2, 100] and input data of invalid length");
+            Result result4 = Result.makeErrorResult("Input array length is different than the N given.");
+            return new Pair<>(problem4, result4);
+        });
+
+        cases.add(() -> {
+            // 5. n inside [2, 100], inputData has length n but has negative values
+            Problem problem5 = new Problem(6, new int[] {1, 2, -3, 4, -5, 6}, "N inside [2, 100] and input data with negative values");
+            Result result5 = Result.makeErrorResult("The element on position 2 is not a natural number.");
+            return new Pair<>(problem5, result5);
+        });
+
+        cases.add(() -> {
+            // 6. n inside [2, 100], inputData has length n, positive values, but the reverse of the last number is not
+            //    equal to any other element inside the array
+            Problem problem6 = new Problem(6, new int[] {10, 20, 30, 40, 50, 60}, "N inside [2, 100] and the result is false");
+            Result result6 = Result.makeNormalResult(false);
+            return new Pair<>(problem6, result6);
+        });
+
+        cases.add(() -> {
+            // 7. n inside [2, 100], inputData has length n, positive values, and the reverse of the last number is equal
+            //    to at least one other number inside the array
+            Problem problem7 = new Problem(6, new int[] {10, 11, 12, 13, 14, 31}, "N inside [2, 100] and the result is true");
+            Result result7 = Result.makeNormalResult(true);
+            return new Pair<>(problem7, result7);
+        });
+        return cases;
     }
 
 
@@ -98,85 +125,103 @@ public class TestDataProvider {
      * However, when n = 2, first position of the array is equal to before-the-last position, so, 9 testData items
      */
     public List<Pair<Problem, Result>> getBoundaryAnalysisTestData() {
+        return listOf(Suite.BOUNDARY_ANALYSIS);
+    }
 
-        List<Pair<Problem, Result>> testData = new ArrayList<Pair<Problem, Result>>();
-
-        // 1. n is 0
-        Problem problem1 = new Problem(0, new int[] {}, "N is less than the lower bound");
-        Result result1 = Result.makeErrorResult("The number of elements is outside the interval [2, 100].");
-        testData.add(new Pair<Problem, Result>(problem1, result1));
-
-        // 2. n is 1
-        Problem problem2 = new Problem(1, new int[] {1}, "N is less than the lower bound");
-        Result result2 = Result.makeErrorResult("The number of elements is outside the interval [2, 100].");
-        testData.add(new Pair<Problem, Result>(problem2, result2));
-
-        // 3. n is 2, solution is on the first position in the array -> which is the same with the solution being
-        // on the before-the-last position in the array
-        Problem problem3 = new Problem(2, new int[] {123, 321}, "N is equal to the lower bound, solution is on the position 0");
-        Result result3 = Result.makeNormalResult(true);
-        testData.add(new Pair<Problem, Result>(problem3, result3));
-
-        // 4. n is 50, the reverse of the last number problem is on position 0
-        List<Integer> dummyData1 = new ArrayList<>();
-        for(int i = 0; i < 50; i ++) {
-            dummyData1.add(i + 1);
-        }
-        dummyData1.set(0, 321);
-        dummyData1.set(49, 123);
-        Problem problem4 = new Problem(50, dummyData1.stream().mapToInt(i -> i).toArray(),
-                "N is inside the expected bounds, solution is on the position 0");
-        Result result4 = Result.makeNormalResult(true);
-        testData.add(new Pair<Problem, Result>(problem4, result4));
-
-        // 5. n is 50, the reverse of the last number problem is on position 48
-        List<Integer> dummyData2 = new ArrayList<>();
-        for(int i = 0; i < 50; i ++) {
-            dummyData2.add(i + 1);
-        }
-        dummyData2.set(48, 321);
-        dummyData2.set(49, 123);
-        Problem problem5 = new Problem(50, dummyData2.stream().mapToInt(i -> i).toArray(),
-                "N is inside the expected bounds, solution is on the before-the-last position ");
-        Result result5 = Result.makeNormalResult(true);
-        testData.add(new Pair<Problem, Result>(problem5, result5));
-
-        // 6. n is 100, the reverse of the last number problem is on position 0
-        List<Integer> dummyData3 = new ArrayList<>();
-        for(int i = 0; i < 100; i ++) {
-            dummyData3.add(i + 1);
-        }
-        dummyData3.set(0, 321);
-        dummyData3.set(99, 123);
-        Problem problem6 = new Problem(100, dummyData3.stream().mapToInt(i -> i).toArray(),
-                "N is equal to the higher bound, solution is on the position 0");
-        Result result6 = Result.makeNormalResult(true);
-        testData.add(new Pair<Problem, Result>(problem6, result6));
-
-        // 7. n is 100, the reverse of the last number problem is on position 98
-        List<Integer> dummyData4 = new ArrayList<>();
-        for(int i = 0; i < 100; i ++) {
-            dummyData4.add(i + 1);
-        }
-        dummyData4.set(98, 321);
-        dummyData4.set(99, 123);
-        Problem problem7 = new Problem(100, dummyData4.stream().mapToInt(i -> i).toArray(),
-                "N is equal to the higher bound, solution is on the position 99");
-        Result result7 = Result.makeNormalResult(true);
-        testData.add(new Pair<Problem, Result>(problem7, result7));
-
-        // 8. n is 101
-        Problem problem8 = new Problem(101, new int[] {123, 321}, "N is greater than the higher bound.");
-        Result result8 = Result.makeErrorResult("The number of elements is outside the interval [2, 100].");
-        testData.add(new Pair<Problem, Result>(problem8, result8));
-
-        // 9. n is 150
-        Problem problem9 = new Problem(150, new int[] {123, 321}, "N is greater than the higher bound.");
-        Result result9 = Result.makeErrorResult("The number of elements is outside the interval [2, 100].");
-        testData.add(new Pair<Problem, Result>(problem9, result9));
-
-        return testData;
-
+    static List<Supplier<Pair<Problem, Result>>> getBoundaryAnalysisCases() {
+        List<Supplier<Pair<Problem, Result>>> cases = new ArrayList<>();
+        cases.add(() -> {
+            // 1. n is 0
+            Problem problem1 = new Problem(0, new int[] {}, "N is less than the lower bound");
+            Result result1 = Result.makeErrorResult("The number of elements is outside the interval [2, 100].");
+            return new Pair<>(problem1, result1);
+        });
+
+        cases.add(() -> {
+            // 2. n is 1
+            Problem problem2 = new Problem(1, new int[] {1}, "N is less than the lower bound");
+            Result result2 = Result.makeErrorResult("The number of elements is outside the interval [2, 100].");
+            return new Pair<>(problem2, result2);
+        });
+
+        cases.add(() -> {
+            // 3. n is 2, solution is on the first position in the array -> which is the same with the solution being
+            // on the before-the-last position in the array
+            Problem problem3 = new Problem(2, new int[] {123, 321}, "N is equal to the lower bound, solution is on the position 0");
+            Result result3 = Result.makeNormalResult(true);
+            return new Pair<>(problem3, result3);
+        });
+
+        cases.add(() -> {
+            // 4. n is 50, the reverse of the last number problem is on position 0
+            int[] dummyData1 = new int[50];
+            for(int i = 0; i < 50; i ++) {
+                dummyData1[i] = i + 1;
+            }
+            dummyData1[0] = 321;
+            dummyData1[49] = 123;
+            Problem problem4 = new Problem(50, dummyData1,
+                    "N is inside the expected bounds, solution is on the position 0");
+            Result result4 = Result.makeNormalResult(true);
+            return new Pair<>(problem4, result4);
+        });
+
+        cases.add(() -> {
+            // 5. n is 50, the reverse of the last number problem is on position 48
+            int[] dummyData2 = new int[50];
+            for(int i = 0; i < 50; i ++) {
+                dummyData2[i] = i + 1;
+            }
+            dummyData2[48] = 321;
+            dummyData2[49] = 123;
+            Problem problem5 = new Problem(50, dummyData2,
+                    "N is inside the expected bounds, solution is on the before-the-last position ");
+            Result result5 = Result.makeNormalResult(true);
+            return new Pair<>(problem5, result5);
+        });
+
+        cases.add(() -> {
+            // 6. n is 100, the reverse of the last number problem is on position 0
+            int[] dummyData3 = new int[100];
+            for(int i = 0; i < 100; i ++) {
+                dummyData3[i] = i + 1;
+            }
+            dummyData3[0] = 321;
+            dummyData3[99] = 123;
+            Problem problem6 = new Problem(100, dummyData3,
+                    "N is equal to the higher bound, solution is on the position 0");
+            Result result6 = Result.makeNormalResult(true);
+            return new Pair<>(problem6, result6);
+        });
+
+        cases.add(() -> {
+            // 7. n is 100, the reverse of the last number problem is on position 98
+            int[] dummyData4 = new int[100];
+            for(int i = 0; i < 100; i ++) {
+                dummyData4[i] = i + 1;
+            }
+            dummyData4[98] = 321;
+            dummyData4[99] = 123;
+            Problem problem7 = new Problem(100, dummyData4,
+                    "N is equal to the higher bound, solution is on the position 99");
+            Result result7 = Result.makeNormalResult(true);
+            return new Pair<>(problem7, result7);
+        });
+
+        cases.add(() -> {
+            // 8. n is 101
+            Problem problem8 = new Problem(101, new int[] {123, 321}, "N is greater than the higher bound.");
+            Result result8 = Result.makeErrorResult("The number of elements is outside the interval [2, 100].");
+            return new Pair<>(problem8, result8);
+        });
+
+        cases.add(() -> {
+            // 9. n is 150
+            Problem problem9 = new Problem(150, new int[] {123, 321}, "N is greater than the higher bound.");
+            Result result9 = Result.makeErrorResult("The number of elements is outside the interval [2, 100].");
+            return new Pair<>(problem9, result9);
+        });
+        return cases;
     }
 
     /**
@@ -198,41 +243,53 @@ public class TestDataProvider {
      *
      */
     public List<Pair<Problem, Result>> getCauseEffectGraphingTestData() {
+        return listOf(Suite.CAUSE_EFFECT_GRAPHING);
+    }
 
-        List<Pair<Problem, Result>> testData = new ArrayList<Pair<Problem, Result>>();
-
-        // 1. C1 false -> producing Ef1
-        Problem problem1 = new Problem(0, new int[] {1, 2, 3, 4}, "C1 false -> Ef1 true");
-        Result result1 = Result.makeErrorResult("The number of elements is outside the interval [2, 100].");
-        testData.add(new Pair<Problem, Result>(problem1, result1));
-
-        // 2. C1 true, C2 true -> producing Ef2
-        Problem problem2 = new Problem(10, null, "C1 true, C2 true -> Ef2 true");
-        Result result2 = Result.makeErrorResult("Input array is null.");
-        testData.add(new Pair<Problem, Result>(problem2, result2));
-
-        // 3. C1 true, C2 false, C3 false -> producing Ef3
-        Problem problem3 = new Problem(3, new int[] {1, 2, 3, 4, 5, 6}, "C1 true, C2 false, C3 false -> Ef3 true");
-        Result result3 = Result.makeErrorResult("Input array length is different than the N given.");
-        testData.add(new Pair<Problem, Result>(problem3, result3));
-
-        // 4. C1 true, C2 false, C3 true, C4 true -> producing Ef4
-        Problem problem4 = new Problem(6, new int[] {1, 2, -3, 4, -5, 6}, "C1 true, C2 false, C3 true, C4 true -> Ef4 true");
-        Result result4 = Result.makeErrorResult("The element on position 2 is not a natural number.");
-        testData.add(new Pair<Problem, Result>(problem4, result4));
-
-        // 5. C1 true, C2 false, C3 true, C4 false, C5 true -> producing Ef5
-        Problem problem5 = new Problem(6, new int[] {16, 2, 3, 4, 5, 61}, "C1 true, C2 false, C3 true, C4 false, C5 true -> Ef5 true");
-        Result result5 = Result.makeNormalResult(true);
-        testData.add(new Pair<Problem, Result>(problem5, result5));
-
-        // 6. C1 true, C2 false, C3 true, C4 false, C5 false -> producing Ef6
-        Problem problem6 = new Problem(6, new int[] {10, 11, 12, 13, 14, 38}, "C1 true, C2 false, C3 true, C4 false, C5 false -> Ef6 true");
-        Result result6 = Result.makeNormalResult(false);
-        testData.add(new Pair<Problem, Result>(problem6, result6));
-
-        return testData;
-
+    static List<Supplier<Pair<Problem, Result>>> getCauseEffectGraphingCases() {
+        List<Supplier<Pair<Problem, Result>>> cases = new ArrayList<>();
+        cases.add(() -> {
+            // 1. C1 false -> producing Ef1
+            Problem problem1 = new Problem(0, new int[] {1, 2, 3, 4}, "C1 false -> Ef1 true");
+            Result result1 = Result.makeErrorResult("The number of elements is outside the interval [2, 100].");
+            return new Pair<>(problem1, result1);
+        });
+
+        cases.add(() -> {
+            // 2. C1 true, C2 true -> producing Ef2
+            Problem problem2 = new Problem(10, null, "C1 true, C2 true -> Ef2 true");
+            Result result2 = Result.makeErrorResult("Input array is null.");
+            return new Pair<>(problem2, result2);
+        });
+
+        cases.add(() -> {
+            // 3. C1 true, C2 false, C3 false -> producing Ef3
+            Problem problem3 = new Problem(3, new int[] {1, 2, 3, 4, 5, 6}, "C1 true, C2 false, C3 false -> Ef3 true");
+            Result result3 = Result.makeErrorResult("Input array length is different than the N given.");
+            return new Pair<>(problem3, result3);
+        });
+
+        cases.add(() -> {
+            // 4. C1 true, C2 false, C3 true, C4 true -> producing Ef4
+            Problem problem4 = new Problem(6, new int[] {1, 2, -3, 4, -5, 6}, "C1 true, C2 false, C3 true, C4 true -> Ef4 true");
+            Result result4 = Result.makeErrorResult("The element on position 2 is not a natural number.");
+            return new Pair<>(problem4, result4);
+        });
+
+        cases.add(() -> {
+            // 5. C1 true, C2 false, C3 true, C4 false, C5 true -> producing Ef5
+            Problem problem5 = new Problem(6, new int[] {16, 2, 3, 4, 5, 61}, "C1 true, C2 false, C3 true, C4 false, C5 true -> Ef5 true");
+            Result result5 = Result.makeNormalResult(true);
+            return new Pair<>(problem5, result5);
+        });
+
+        cases.add(() -> {
+            // 6. C1 true, C2 false, C3 true, C4 false, C5 false -> producing Ef6
+            Problem problem6 = new Problem(6, new int[] {10, 11, 12, 13, 14, 38}, "C1 true, C2 false, C3 true, C4 false, C5 false -> Ef6 true");
+            Result result6 = Result.makeNormalResult(false);
+            return new Pair<>(problem6, result6);
+        });
+        return cases;
     }
 
 
@@ -243,138 +300,296 @@ public class TestDataProvider {
      *
      */
     public List<Pair<Problem, Result>> getModifiedConditionDecisionCoverageTestData() {
+        return listOf(Suite.MODIFIED_CONDITION_DECISION_COVERAGE);
+    }
 
-        List<Pair<Problem, Result>> testData = new ArrayList<Pair<Problem, Result>>();
-
-        /**
-         * 1. Line 37: numberOfElements < 2 || numberOfElements > 100 as C1 || C2
-         *      - we should consider C1 false C2 true, C1 true C2 false, C1 false C2 false
-         *      - possible test data: (120, {1, 2, 3}), (1, {1, 2, 3}), (4, {1, 2, 3, 4})
-         */
-        Problem problem1 = new Problem(120, new int[] {1, 2, 3}, "Line 37: 'numberOfElements < 2' is false, 'numberOfElements > 100' is true");
-        Result result1 = Result.makeErrorResult("The number of elements is outside the interval [2, 100].");
-        testData.add(new Pair<Problem, Result>(problem1, result1));
-
-        Problem problem2 = new Problem(1, new int[] {1, 2, 3}, "Line 37: 'numberOfElements < 2' is true, 'numberOfElements > 100' is false");
-        Result result2 = Result.makeErrorResult("The number of elements is outside the interval [2, 100].");
-        testData.add(new Pair<Problem, Result>(problem2, result2));
-
-        Problem problem3 = new Problem(4, new int[] {1, 2, 3, 4}, "Line 37: 'numberOfElements < 2' is false, 'numberOfElements > 100' is false");
-        Result result3 = Result.makeNormalResult(false);
-        testData.add(new Pair<Problem, Result>(problem3, result3));
-
-        /**
-         * 2. Line 41: input == null as C1
-         *      - we should consider C1 true and false
-         *      - possible test data: (4, null), (4, {1, 2, 3, 4})
-         *      - note: even if second test already exists, I am adding it again, with a different description
-         */
-        Problem problem4 = new Problem(4, null, "Line 41: 'input == null' is true");
-        Result result4 = Result.makeErrorResult("Input array is null.");
-        testData.add(new Pair<Problem, Result>(problem4, result4));
-
-        Problem problem5 = new Problem(4, new int[] {1, 2, 3, 4}, "Line 41: 'input == null' is false");
-        Result result5 = Result.makeNormalResult(false);
-        testData.add(new Pair<Problem, Result>(problem5, result5));
-
-        /**
-         * 3. Line 45: input.length != numberOfElements as C1
-         *      - we should consider C1 true and false
-         *      - possible test data: (4, {1, 2, 3, 4}), (4, {1, 2, 3})
-         */
-        Problem problem6 = new Problem(4, new int[] {1, 2, 3}, "Line 45: 'input.length != numberOfElements' is true");
-        Result result6 = Result.makeErrorResult("Input array length is different than the N given.");
-        testData.add(new Pair<Problem, Result>(problem6, result6));
-
-        Problem problem7 = new Problem(4, new int[] {1, 2, 3, 4}, "Line 45: 'input.length != numberOfElements' is false");
-        Result result7 = Result.makeNormalResult(false);
-        testData.add(new Pair<Problem, Result>(problem7, result7));
-
-        /**
-         * 4. Line 49: i < numberOfElements
-         *      - considering the problem statement that until this point, we should have at least 2 elements in the array,
-         *      this condition will always be true at least one time, for every test that has true/false as result (problem7)
-         *      - also, for every type of input that comes to a true/false result, the condition will become false in the end
-         *      - possible test data (4, {1, 2, 3, 4})
-         */
-
-        Problem problem8 = new Problem(4, new int[] {1, 2, 3, 4}, "Line 49: 'i < numberOfElements' is true and false");
-        Result result8 = Result.makeNormalResult(false);
-        testData.add(new Pair<Problem, Result>(problem8, result8));
-
-        /**
-         * 5. Line 50: input[i] < 0
-         *      - we should consider C1 true and false
-         *      - possible test data: (4, {-1, 2, 3, 4}) (4, {1, 2, 3, 4}),
-         */
+    static List<Supplier<Pair<Problem, Result>>> getModifiedConditionDecisionCoverageCases() {
+        List<Supplier<Pair<Problem, Result>>> cases = new ArrayList<>();
+        cases.add(() -> {
+            /**
+             * 1. Line 41: numberOfElements < 2 || numberOfElements > 100 as C1 || C2
+             *      - we should consider C1 false C2 true, C1 true C2 false, C1 false C2 false
+             *      - possible test data: (120, {1, 2, 3}), (1, {1, 2, 3}), (4, {1, 2, 3, 4})
+             */
+            Problem problem1 = new Problem(120, new int[] {1, 2, 3}, "Line 41: 'numberOfElements < 2' is false, 'numberOfElements > 100' is true");
+            Result result1 = Result.makeErrorResult("The number of elements is outside the interval [2, 100].");
+            return new Pair<>(problem1, result1);
+        });
+
+        cases.add(() -> {
+            Problem problem2 = new Problem(1, new int[] {1, 2, 3}, "Line 41: 'numberOfElements < 2' is true, 'numberOfElements > 100' is false");
+            Result result2 = Result.makeErrorResult("The number of elements is outside the interval [2, 100].");
+            return new Pair<>(problem2, result2);
+        });
+
+        cases.add(() -> {
+            Problem problem3 = new Problem(4, new int[] {1, 2, 3, 4}, "Line 41: 'numberOfElements < 2' is false, 'numberOfElements > 100' is false");
+            Result result3 = Result.makeNormalResult(false);
+            return new Pair<>(problem3, result3);
+        });
+
+        cases.add(() -> {
+            /**
+             * 2. Line 45: input == null as C1
+             *      - we should consider C1 true and false
+             *      - possible test data: (4, null), (4, {1, 2, 3, 4})
+             *      - note: even if second test already exists, I am adding it again, with a different description
+             */
+            Problem problem4 = new Problem(4, null, "Line 45: 'input == null' is true");
+            Result result4 = Result.makeErrorResult("Input array is null.");
+            return new Pair<>(problem4, result4);
+        });
+
+        cases.add(() -> {
+            Problem problem5 = new Problem(4, new int[] {1, 2, 3, 4}, "Line 45: 'input == null' is false");
+            Result result5 = Result.makeNormalResult(false);
+            return new Pair<>(problem5, result5);
+        });
+
+        cases.add(() -> {
+            /**
+             * 3. Line 49: input.length != numberOfElements as C1
+             *      - we should consider C1 true and false
+             *      - possible test data: (4, {1, 2, 3, 4}), (4, {1, 2, 3})
+             */
+            Problem problem6 = new Problem(4, new int[] {1, 2, 3}, "Line 49: 'input.length != numberOfElements' is true");
+            Result result6 = Result.makeErrorResult("Input array length is different than the N given.");
+            return new Pair<>(problem6, result6);
+        });
+
+        cases.add(() -> {
+            Problem problem7 = new Problem(4, new int[] {1, 2, 3, 4}, "Line 49: 'input.length != numberOfElements' is false");
+            Result result7 = Result.makeNormalResult(false);
+            return new Pair<>(problem7, result7);
+        });
+
+        cases.add(() -> {
+            /**
+             * 4. Line 53: i < numberOfElements
+             *      - considering the problem statement that until this point, we should have at least 2 elements in the array,
+             *      this condition will always be true at least one time, for every test that has true/false as result (problem7)
+             *      - also, for every type of input that comes to a true/false result, the condition will become false in the end
+             *      - possible test data (4, {1, 2, 3, 4})
+             */
+
+            Problem problem8 = new Problem(4, new int[] {1, 2, 3, 4}, "Line 53: 'i < numberOfElements' is true and false");
+            Result result8 = Result.makeNormalResult(false);
+            return new Pair<>(problem8, result8);
+        });
+
+        cases.add(() -> {
+            /**
+             * 5. Line 54: input[i] < 0
+             *      - we should consider C1 true and false
+             *      - possible test data: (4, {-1, 2, 3, 4}) (4, {1, 2, 3, 4}),
+             */
+
+            Problem problem9 = new Problem(4, new int[] {-1, 2, 3, 4}, "Line 54: 'input[i] < 0' is true");
+            Result result9 = Result.makeErrorResult("The element on position 0 is not a natural number.");
+            return new Pair<>(problem9, result9);
+        });
+
+        cases.add(() -> {
+            Problem problem10 = new Problem(4, new int[] {1, 2, 3, 4}, "Line 54: 'input[i] < 0' is false");
+            Result result10 = Result.makeNormalResult(false);
+            return new Pair<>(problem10, result10);
+        });
+
+        cases.add(() -> {
+            /**
+             * 6. Line 72: x != 0
+             *      - considering the purpose of this condition and the lines that follow it, if we have any non-zero element
+             *      on the last position, the condition will be true and false in the same problem
+             *      - possible test data (4, {1, 2, 3, 4})
+             */
+
+            Problem problem11 = new Problem(4, new int[] {1, 2, 3, 4}, "Line 72: 'x != 0' is true and false");
+            Result result11 = Result.makeNormalResult(false);
+            return new Pair<>(problem11, result11);
+        });
+
+        cases.add(() -> {
+            /**
+             * 7. Line 61: i < numberOfElements - 1
+             *      - considering that at this point we are assured that the for should iterate trough at least one number,
+             *      the condition will be true at least once in a problem that returns true/false.
+             *      - also, considering that we return early if the problem result is true, any problem that will have a false
+             *      result should have this condition false, at the end of the loop.
+             *      - possible test data (4, {1, 2, 3, 4})
+             */
+
+            Problem problem12 = new Problem(4, new int[] {1, 2, 3, 4}, "Line 61: 'i < numberOfElements - 1' is true and false");
+            Result result12 = Result.makeNormalResult(false);
+            return new Pair<>(problem12, result12);
+        });
+
+        cases.add(() -> {
+            /**
+             * 6. Line 62: input[i] == lastElementMirror
+             *      - we should consider C1 true and false
+             *      - possible test data (4, {12, 2, 3, 21}) (4, {1, 2, 3, 4})
+             */
+
+            Problem problem13 = new Problem(4, new int[] {12, 2, 3, 21}, "Line 62: 'input[i] == lastElementMirror' is true");
+            Result result13= Result.makeNormalResult(true);
+            return new Pair<>(problem13, result13);
+        });
+
+        cases.add(() -> {
+            Problem problem14 = new Problem(4, new int[] {1, 2, 3, 4}, "Line 62: 'input[i] == lastElementMirror' is false");
+            Result result14 = Result.makeNormalResult(false);
+            return new Pair<>(problem14, result14);
+        });
+        return cases;
+    }
 
-        Problem problem9 = new Problem(4, new int[] {-1, 2, 3, 4}, "Line 50: 'input[i] < 0' is true");
-        Result result9 = Result.makeErrorResult("The element on position 0 is not a natural number.");
-        testData.add(new Pair<Problem, Result>(problem9, result9));
+    /**
+     * Among the mutants inside main/mutants folder, there are 2 not equivalent mutants that pass all the tests:
+     * - Problem_solve_ROR_32, which can be killed by a test that contains the number 0 among the elements of the array
+     * - Problem_solve_ROR_39, which can be killed by a test that should return false, but the last number is the reverse
+     * of itself
+     */
+    public List<Pair<Problem, Result>> getAdditionalTestDataToKillMutants() {
+        return listOf(Suite.MUTANT_KILLING);
+    }
 
-        Problem problem10 = new Problem(4, new int[] {1, 2, 3, 4}, "Line 50: 'input[i] < 0' is false");
-        Result result10 = Result.makeNormalResult(false);
-        testData.add(new Pair<Problem, Result>(problem10, result10));
+    static List<Supplier<Pair<Problem, Result>>> getMutantKillingCases() {
+        List<Supplier<Pair<Problem, Result>>> cases = new ArrayList<>();
+        cases.add(() -> {
+            Problem problem1 = new Problem(4, new int[] {0, 1, 2, 12}, "Kill mutant Problem_solve_ROR_32");
+            Result result1= Result.makeNormalResult(false);
+            return new Pair<>(problem1, result1);
+        });
+
+        cases.add(() -> {
+            Problem problem2 = new Problem(4, new int[] {1, 2, 3, 121}, "Kill mutant Problem_solve_ROR_39");
+            Result result2 = Result.makeNormalResult(false);
+            return new Pair<>(problem2, result2);
+        });
+        return cases;
+    }
 
-        /**
-         * 6. Line 68: x != 0
-         *      - considering the purpose of this condition and the lines that follow it, if we have any non-zero element
-         *      on the last position, the condition will be true and false in the same problem
-         *      - possible test data (4, {1, 2, 3, 4})
-         */
+    /**
+     * All the suites above, one after another. Every case is built only when the stream reaches it, see getTestCase().
+     */
+    public Stream<Pair<Problem, Result>> streamTestData() {
+        return TestDataSpliterator.stream(TestDataProvider::getTestCase, Suite.getTotalNumberOfCases());
+    }
 
-        Problem problem11 = new Problem(4, new int[] {1, 2, 3, 4}, "Line 68: 'x != 0' is true and false");
-        Result result11 = Result.makeNormalResult(false);
-        testData.add(new Pair<Problem, Result>(problem11, result11));
+    /**
+     * All the suites above, one after another, in a list
+     */
+    public List<Pair<Problem, Result>> getAllTestData() {
+        return streamTestData().collect(Collectors.toList());
+    }
 
-        /**
-         * 7. Line 57: i < numberOfElements - 1
-         *      - considering that at this point we are assured that the for should iterate trough at least one number,
-         *      the condition will be true at least once in a problem that returns true/false.
-         *      - also, considering that we return early if the problem result is true, any problem that will have a false
-         *      result should have this condition false, at the end of the loop.
-         *      - possible test data (4, {1, 2, 3, 4})
-         */
+    /**
+     * All the suites above as the test cases of the mutation analysis. The id of a case is the name of its suite and
+     * its index inside the suite, like BOUNDARY_ANALYSIS#2, so it does not change when a suite before it grows.
+     */
+    public List<TestCase> getAllTestCases() {
+        List<TestCase> testCases = new ArrayList<>();
+        for(Pair<Problem, Result> pair : getAllTestData()) {
+            testCases.add(new TestCase(locate(testCases.size(), (suite, index) -> suite.name() + "#" + index),
+                    pair.getKey(), pair.getValue()));
+        }
+        return testCases;
+    }
 
-        Problem problem12 = new Problem(4, new int[] {1, 2, 3, 4}, "Line 57: 'i < numberOfElements - 1' is true and false");
-        Result result12 = Result.makeNormalResult(false);
-        testData.add(new Pair<Problem, Result>(problem12, result12));
+    /**
+     * Case number index of all the suites, counted through them in order
+     */
+    static Pair<Problem, Result> getTestCase(long index) {
+        return locate(index, Suite::getCase);
+    }
 
-        /**
-         * 6. Line 58: input[i] == lastElementMirror
-         *      - we should consider C1 true and false
-         *      - possible test data (4, {12, 2, 3, 21}) (4, {1, 2, 3, 4})
-         */
+    private static <T> T locate(long index, BiFunction<Suite, Integer, T> inSuite) {
+        long remaining = index;
+        for(Suite suite : Suite.values()) {
+            if(remaining < suite.getNumberOfCases()) {
+                return inSuite.apply(suite, (int) remaining);
+            }
+            remaining -= suite.getNumberOfCases();
+        }
+        throw new IndexOutOfBoundsException("There is no test case " + index + ".");
+    }
 
-        Problem problem13 = new Problem(4, new int[] {12, 2, 3, 21}, "Line 58: 'input[i] == lastElementMirror' is true");
-        Result result13= Result.makeNormalResult(true);
-        testData.add(new Pair<Problem, Result>(problem13, result13));
+    /**
+     * Valid cases cycling through every N inside [2, 100], as many as asked for, built one by one when the stream
+     * reaches them, see getValidTestCase(). For the boundaries of the input, see BoundaryValueGenerator.
+     */
+    public Stream<Pair<Problem, Result>> streamValidTestData(long numberOfCases) {
+        return TestDataSpliterator.stream(TestDataProvider::getValidTestCase, numberOfCases);
+    }
 
-        Problem problem14 = new Problem(4, new int[] {1, 2, 3, 4}, "Line 58: 'input[i] == lastElementMirror' is false");
-        Result result14 = Result.makeNormalResult(false);
-        testData.add(new Pair<Problem, Result>(problem14, result14));
+    /**
+     * Case number index has N = 2 + index % 99 and the elements 1, 2, ..., N - 1 followed by 123. Depending on
+     * index / 99 % 3, the element on the position 0 or on the before-the-last position is replaced by 321, which makes
+     * the result true, or none is and the result is false.
+     */
+    static Pair<Problem, Result> getValidTestCase(long index) {
+        int numberOfElements = 2 + (int) (index % 99);
+        int[] input = new int[numberOfElements];
+        for(int i = 0; i < numberOfElements - 1; i ++) {
+            input[i] = i + 1;
+        }
+        input[numberOfElements - 1] = 123;
+
+        switch((int) (index / 99 % 3)) {
+            case 0:
+                input[0] = 321;
+                return new Pair<>(new Problem(numberOfElements, input, VALID_SOLUTION_ON_FIRST_POSITION), Result.makeNormalResult(true));
+            case 1:
+                input[numberOfElements - 2] = 321;
+                return new Pair<>(new Problem(numberOfElements, input, VALID_SOLUTION_ON_BEFORE_THE_LAST_POSITION), Result.makeNormalResult(true));
+            default:
+                return new Pair<>(new Problem(numberOfElements, input, VALID_NO_SOLUTION), Result.makeNormalResult(false));
+        }
+    }
 
+    private static List<Pair<Problem, Result>> listOf(Suite suite) {
+        List<Pair<Problem, Result>> testData = new ArrayList<Pair<Problem, Result>>();
+        for(int index = 0; index < suite.getNumberOfCases(); index ++) {
+            testData.add(suite.getCase(index));
+        }
         return testData;
     }
 
     /**
-     * Among the mutants inside main/mutants folder, there are 2 not equivalent mutants that pass all the tests:
-     * - Problem_solve_ROR_32, which can be killed by a test that contains the number 0 among the elements of the array
-     * - Problem_solve_ROR_39, which can be killed by a test that should return false, but the last number is the reverse
-     * of itself
+     * The suites above, in the order they are streamed. A suite is the list of the builders of its cases, so the number
+     * of its cases is the number of builders it adds, and a case is built only when it is asked for.
      */
-    public List<Pair<Problem, Result>> getAdditionalTestDataToKillMutants() {
+    enum Suite {
 
-        List<Pair<Problem, Result>> testData = new ArrayList<Pair<Problem, Result>>();
+        EQUIVALENCE_PARTITIONING(getEquivalencePartitioningCases()),
+        BOUNDARY_ANALYSIS(getBoundaryAnalysisCases()),
+        CAUSE_EFFECT_GRAPHING(getCauseEffectGraphingCases()),
+        MODIFIED_CONDITION_DECISION_COVERAGE(getModifiedConditionDecisionCoverageCases()),
+        MUTANT_KILLING(getMutantKillingCases());
 
-        Problem problem1 = new Problem(4, new int[] {0, 1, 2, 12}, "Kill mutant Problem_solve_ROR_32");
-        Result result1= Result.makeNormalResult(false);
-        testData.add(new Pair<Problem, Result>(problem1, result1));
+        private final List<Supplier<Pair<Problem, Result>>> cases;
 
-        Problem problem2 = new Problem(4, new int[] {1, 2, 3, 121}, "Kill mutant Problem_solve_ROR_39");
-        Result result2 = Result.makeNormalResult(false);
-        testData.add(new Pair<Problem, Result>(problem2, result2));
+        Suite(List<Supplier<Pair<Problem, Result>>> cases) {
+            this.cases = Collections.unmodifiableList(cases);
+        }
 
-        return testData;
+        int getNumberOfCases() {
+            return cases.size();
+        }
+
+        /**
+         * Throws an IndexOutOfBoundsException for an index outside the suite
+         */
+        Pair<Problem, Result> getCase(int index) {
+            return cases.get(index).get();
+        }
+
+        static long getTotalNumberOfCases() {
+            long total = 0;
+            for(Suite suite : values()) {
+                total += suite.getNumberOfCases();
+            }
+            return total;
+        }
     }
 }
@@ -0,0 +1,71 @@
+package main.utilities;
+
+import javafx.util.Pair;
+import main.Problem;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams the test cases of a range of indexes lazily: the case of an index is built by the function given only when
+ * the stream reaches it, so the heap holds only the cases in use, however long the range is. The range is split in
+ * halves, with exact sizes, so parallel streams split it evenly.
+ */
+public final class TestDataSpliterator implements Spliterator<Pair<Problem, Result>> {
+
+    private final LongFunction<Pair<Problem, Result>> testCase;
+    private long origin;
+    private final long fence;
+
+    public TestDataSpliterator(LongFunction<Pair<Problem, Result>> testCase, long origin, long fence) {
+        this.testCase = testCase;
+        this.origin = origin;
+        this.fence = fence;
+    }
+
+    public static Stream<Pair<Problem, Result>> stream(LongFunction<Pair<Problem, Result>> testCase, long numberOfCases) {
+        return StreamSupport.stream(new TestDataSpliterator(testCase, 0, numberOfCases), false);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Pair<Problem, Result>> action) {
+        if(origin >= fence) {
+            return false;
+        }
+        action.accept(testCase.apply(origin ++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Pair<Problem, Result>> action) {
+        long index = origin;
+        origin = fence;
+        for(; index < fence; index ++) {
+            action.accept(testCase.apply(index));
+        }
+    }
+
+    @Override
+    public Spliterator<Pair<Problem, Result>> trySplit() {
+        long middle = origin + (fence - origin) / 2;
+        if(middle <= origin) {
+            return null;
+        }
+        Spliterator<Pair<Problem, Result>> prefix = new TestDataSpliterator(testCase, origin, middle);
+        origin = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+}
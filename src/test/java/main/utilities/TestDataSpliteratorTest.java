@@ -0,0 +1,115 @@
+package main.utilities;
+
+
+import javafx.util.Pair;
+import main.Problem;
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+public class TestDataSpliteratorTest {
+
+    private final TestDataProvider testDataProvider = new TestDataProvider();
+
+    @Test
+    public void streamHasEverySuiteInOrder() {
+        List<String> all = descriptions(testDataProvider.getAllTestData());
+        List<List<Pair<Problem, Result>>> suites = Arrays.asList(
+                testDataProvider.getEquivalencePartitioningTestData(),
+                testDataProvider.getBoundaryAnalysisTestData(),
+                testDataProvider.getCauseEffectGraphingTestData(),
+                testDataProvider.getModifiedConditionDecisionCoverageTestData(),
+                testDataProvider.getAdditionalTestDataToKillMutants());
+
+        int from = 0;
+        for(List<Pair<Problem, Result>> suite : suites) {
+            Assert.assertEquals(descriptions(suite), all.subList(from, from + suite.size()));
+            from += suite.size();
+        }
+        Assert.assertEquals(all.size(), from);
+        Assert.assertEquals(all, descriptions(testDataProvider.streamTestData().collect(Collectors.toList())));
+    }
+
+    @Test
+    public void everySuiteEndsAtItsLastCase() {
+        for(TestDataProvider.Suite suite : TestDataProvider.Suite.values()) {
+            int numberOfCases = suite.getNumberOfCases();
+            Assert.assertNotNull(suite.getCase(numberOfCases - 1));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> suite.getCase(numberOfCases));
+        }
+    }
+
+    @Test
+    public void streamIsSizedAndSplitsBetweenTheSuites() {
+        Spliterator<Pair<Problem, Result>> suffix = testDataProvider.streamTestData().spliterator();
+        Assert.assertEquals(38, suffix.estimateSize());
+
+        Spliterator<Pair<Problem, Result>> prefix = suffix.trySplit();
+        Assert.assertEquals(19, prefix.estimateSize());
+        List<String> firstOfSuffix = new ArrayList<>();
+        suffix.tryAdvance(pair -> firstOfSuffix.add(pair.getKey().toString()));
+        Assert.assertEquals(testDataProvider.getCauseEffectGraphingTestData().get(3).getKey().toString(), firstOfSuffix.get(0));
+    }
+
+    @Test
+    public void generatedValidCasesHaveTheExpectedResults() {
+        long numberOfCases = 1000000;
+
+        long matching = testDataProvider.streamValidTestData(numberOfCases).parallel()
+                .filter(pair -> pair.getKey().solve() == pair.getValue().getValue())
+                .count();
+
+        Assert.assertEquals(numberOfCases, matching);
+    }
+
+    @Test
+    public void generatedValidCasesCoverEveryNumberOfElements() {
+        boolean[] seen = new boolean[101];
+        testDataProvider.streamValidTestData(99).forEach(pair -> seen[pair.getKey().getNumberOfElements()] = true);
+
+        for(int numberOfElements = 2; numberOfElements <= 100; numberOfElements ++) {
+            Assert.assertTrue(seen[numberOfElements]);
+        }
+    }
+
+    @Test
+    public void splitsCoverTheRangeOnceWithExactSizes() {
+        List<Long> indexes = new ArrayList<>();
+        List<Spliterator<Pair<Problem, Result>>> parts = new ArrayList<>();
+        parts.add(new TestDataSpliterator(index -> {
+            indexes.add(index);
+            return TestDataProvider.getValidTestCase(index);
+        }, 0, 1001));
+
+        for(int round = 0; round < 5; round ++) {
+            List<Spliterator<Pair<Problem, Result>>> next = new ArrayList<>();
+            for(Spliterator<Pair<Problem, Result>> part : parts) {
+                long size = part.estimateSize();
+                Spliterator<Pair<Problem, Result>> prefix = part.trySplit();
+                Assert.assertEquals(size, prefix.estimateSize() + part.estimateSize());
+                Assert.assertTrue(Math.abs(prefix.estimateSize() - part.estimateSize()) <= 1);
+                next.add(prefix);
+                next.add(part);
+            }
+            parts = next;
+        }
+        for(Spliterator<Pair<Problem, Result>> part : parts) {
+            part.forEachRemaining(pair -> {});
+        }
+
+        Assert.assertEquals(1001, indexes.size());
+        for(int index = 0; index < indexes.size(); index ++) {
+            Assert.assertEquals(index, indexes.get(index).longValue());
+        }
+    }
+
+    private static List<String> descriptions(List<Pair<Problem, Result>> testData) {
+        return testData.stream().map(pair -> pair.getKey().toString()).collect(Collectors.toList());
+    }
+}